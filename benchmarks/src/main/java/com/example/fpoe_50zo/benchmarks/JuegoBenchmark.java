@@ -0,0 +1,104 @@
+package com.example.fpoe_50zo.benchmarks;
+
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One play through the public move API (validation, table update and the
+ * replacement draw done by Juego.procesarJugada), with and without the
+ * "empty deck" reshuffle of the table.
+ *
+ * Every call first restores the same position, so the play is always the same.
+ * {@link #restaurar()} measures that restore alone: subtract it from the others.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JuegoBenchmark {
+
+    private Juego juego;
+    private EstadoJuego conMazo;
+    private EstadoJuego sinMazo;
+    private Jugada jugadaConMazo;
+    private Jugada jugadaSinMazo;
+
+    @Setup
+    public void preparar() {
+        juego = new Juego(11L);
+        juego.iniciarJuego(List.of(new JugadorMaquina("CPU 1"), new JugadorMaquina("CPU 2")));
+
+        // Play a few turns so the table holds several cards
+        for (int i = 0; i < 6 && !juego.isJuegoTerminado(); i++) {
+            if (juego.revisarEstadoJugadorActual()) {
+                decidir().aplicar(juego);
+                juego.siguienteTurno();
+            }
+        }
+        conMazo = juego.exportarEstado();
+
+        // Same position with the whole deck moved under the table, so the next draw reshuffles
+        int[] mesa = new int[conMazo.getCartasEnMazo() + conMazo.getCartasEnMesa()];
+        int n = 0;
+        for (int i = 0; i < conMazo.getCartasEnMazo(); i++) {
+            mesa[n++] = conMazo.getCodigoMazo(i);
+        }
+        for (int i = 0; i < conMazo.getCartasEnMesa(); i++) {
+            mesa[n++] = conMazo.getCodigoMesa(i);
+        }
+        int[][] manos = new int[conMazo.getNumAsientos()][];
+        for (int asiento = 0; asiento < manos.length; asiento++) {
+            manos[asiento] = new int[conMazo.getCartasEnMano(asiento)];
+            for (int i = 0; i < manos[asiento].length; i++) {
+                manos[asiento][i] = conMazo.getCodigoMano(asiento, i);
+            }
+        }
+        sinMazo = new EstadoJuego(new int[0], manos, mesa,
+                conMazo.getSumaMesa(), conMazo.getTurno(), conMazo.getVivos());
+
+        juego.restaurarEstado(conMazo);
+        jugadaConMazo = decidir();
+        juego.restaurarEstado(sinMazo);
+        jugadaSinMazo = decidir();
+    }
+
+    private Jugada decidir() {
+        return ((JugadorMaquina) juego.getJugadorActual()).decidirJugada(juego);
+    }
+
+    @Benchmark
+    public Juego restaurar() {
+        juego.restaurarEstado(conMazo);
+        return juego;
+    }
+
+    @Benchmark
+    public ResultadoJugada jugarCarta() {
+        juego.restaurarEstado(conMazo);
+        return jugadaConMazo.aplicar(juego);
+    }
+
+    @Benchmark
+    public ResultadoJugada jugarCartaConRebarajado() {
+        juego.restaurarEstado(sinMazo);
+        return jugadaSinMazo.aplicar(juego);
+    }
+}
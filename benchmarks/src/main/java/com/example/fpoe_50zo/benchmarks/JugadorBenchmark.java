@@ -0,0 +1,88 @@
+package com.example.fpoe_50zo.benchmarks;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.deck.Mazo;
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+import com.example.fpoe_50zo.model.player.EstrategiaVoraz;
+import com.example.fpoe_50zo.model.player.JugadorCompacto;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-turn player checks: can the player move, and which card does the AI pick.
+ * Each call uses the next of 64 random (hand, sum) positions, so the JIT
+ * cannot fold the answer, and both hand representations see the same cards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JugadorBenchmark {
+
+    private static final int POSICIONES = 64;
+
+    private final JugadorMaquina[] maquinas = new JugadorMaquina[POSICIONES];
+    private final JugadorCompacto[] compactos = new JugadorCompacto[POSICIONES];
+    private final int[] sumas = new int[POSICIONES];
+    private int indice;
+
+    @Setup
+    public void preparar() throws MazoVacioException {
+        SplittableRandom random = new SplittableRandom(2024L);
+        for (int i = 0; i < POSICIONES; i++) {
+            Mazo mazoLista = new Mazo(i);
+            Mazo mazoCompacto = new Mazo(i);
+            maquinas[i] = new JugadorMaquina("CPU");
+            compactos[i] = new JugadorCompacto("CPU", false);
+            for (int c = 0; c < 4; c++) {
+                maquinas[i].tomarCarta(mazoLista);
+                compactos[i].tomarCarta(mazoCompacto);
+            }
+            // Mostly high sums, where the choice is not trivial
+            sumas[i] = 30 + random.nextInt(21);
+        }
+    }
+
+    private int siguiente() {
+        indice = (indice + 1) & (POSICIONES - 1);
+        return indice;
+    }
+
+    @Benchmark
+    public boolean puedeJugarLista() {
+        int i = siguiente();
+        return maquinas[i].puedeJugar(sumas[i]);
+    }
+
+    @Benchmark
+    public boolean puedeJugarCompacto() {
+        int i = siguiente();
+        return compactos[i].puedeJugar(sumas[i]);
+    }
+
+    @Benchmark
+    public Carta decidirMejorJugadaLista() {
+        int i = siguiente();
+        return EstrategiaVoraz.elegirCarta(maquinas[i].getMano(), sumas[i]);
+    }
+
+    @Benchmark
+    public Carta decidirMejorJugadaCompacto() {
+        int i = siguiente();
+        return compactos[i].decidirMejorJugada(sumas[i]);
+    }
+}
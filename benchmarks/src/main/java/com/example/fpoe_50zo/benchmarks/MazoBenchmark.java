@@ -0,0 +1,61 @@
+package com.example.fpoe_50zo.benchmarks;
+
+import com.example.fpoe_50zo.model.deck.IMazo;
+import com.example.fpoe_50zo.model.deck.Mazo;
+import com.example.fpoe_50zo.model.deck.MazoCircular;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and shuffling a full 52-card deck, for both deck implementations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MazoBenchmark {
+
+    @Param({"Mazo", "MazoCircular"})
+    public String implementacion;
+
+    private IMazo mazo;
+    private SplittableRandom generador;
+    private long semilla;
+
+    @Setup
+    public void preparar() {
+        mazo = crear(42L);
+        generador = new SplittableRandom(7L);
+    }
+
+    private IMazo crear(long semilla) {
+        return "Mazo".equals(implementacion) ? new Mazo(semilla) : new MazoCircular(semilla);
+    }
+
+    /** A new deck: the 52 cards from the registry plus the initial shuffle. */
+    @Benchmark
+    public IMazo construir() {
+        return crear(semilla++);
+    }
+
+    /** Shuffling the 52 cards of an existing deck. */
+    @Benchmark
+    public IMazo barajar() {
+        mazo.barajar(generador);
+        return mazo;
+    }
+}
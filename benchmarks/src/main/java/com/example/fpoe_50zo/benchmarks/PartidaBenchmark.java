@@ -0,0 +1,61 @@
+package com.example.fpoe_50zo.benchmarks;
+
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole games per second, from the deal to the last elimination,
+ * with 1 to 3 CPUs against the "human" seat (also played by the greedy AI).
+ * Every game uses a new seed, so the measurement covers many different games.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PartidaBenchmark {
+
+    private static final int MAX_TURNOS = 10_000;
+
+    @Param({"1", "2", "3"})
+    public int numMaquinas;
+
+    private long semilla;
+
+    @Benchmark
+    public int jugarPartida() {
+        Juego juego = new Juego(semilla++);
+        List<JugadorMaquina> participantes = new ArrayList<>(numMaquinas + 1);
+        for (int i = 0; i <= numMaquinas; i++) {
+            participantes.add(new JugadorMaquina("CPU " + i));
+        }
+        juego.iniciarJuego(participantes);
+
+        int turnos = 0;
+        while (!juego.isJuegoTerminado() && turnos < MAX_TURNOS) {
+            if (!juego.revisarEstadoJugadorActual()) {
+                continue;
+            }
+            JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+            actual.decidirJugada(juego).aplicar(juego);
+            juego.siguienteTurno();
+            turnos++;
+        }
+        return turnos;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.fpoe_50zo.cli;
+
+import com.example.fpoe_50zo.model.ai.JugadorMCTS;
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.IObservadorJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import com.example.fpoe_50zo.model.registro.GrabadorPartida;
+import com.example.fpoe_50zo.model.registro.RegistroPartidas;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Headless command-line entry point: plays complete all-CPU games in the
+ * terminal. It only loads the model, so it starts in a few milliseconds.
+ *
+ * Usage: MainConsola [--maquinas N] [--partidas K] [--semilla S] [--mcts MS] [--silencioso] [--registro ARCHIVO]
+ * <ul>
+ *   <li>--maquinas: CPUs at the table (default 3; more than 12 play with several decks).</li>
+ *   <li>--partidas: games to play (default 1). Game {@code i} is dealt from seed {@code S + i},
+ *       so any game can be replayed alone with {@code --semilla S+i --partidas 1}.</li>
+ *   <li>--semilla: base seed (random by default).</li>
+ *   <li>--mcts: the CPUs search with MCTS for this many milliseconds per move
+ *       (by default they use the greedy rule).</li>
+ *   <li>--silencioso: only print each game's result, not every move.</li>
+ *   <li>--registro: also append every game to this journal file (see {@link RegistroPartidas}).</li>
+ * </ul>
+ * For large batches of greedy games use {@link com.example.fpoe_50zo.model.simulation.Simulador}.
+ */
+public final class MainConsola {
+
+    // Safety net, as in the simulator: a longer game is reported as unfinished
+    private static final int MAX_TURNOS_POR_PARTIDA = 10_000;
+
+    private static final String USO =
+            "Usage: MainConsola [--maquinas N] [--partidas K] [--semilla S] [--mcts MS] [--silencioso] [--registro ARCHIVO]";
+
+    private MainConsola() {
+    }
+
+    public static void main(String[] args) {
+        int codigo = ejecutar(args, System.out, System.err);
+        if (codigo != 0) {
+            System.exit(codigo);
+        }
+    }
+
+    /**
+     * Runs the command with the given arguments.
+     *
+     * @param args The command-line arguments.
+     * @param salida Where the games are printed.
+     * @param errores Where usage errors are printed.
+     * @return The exit code: 0 on success, 1 if the journal fails, 2 for invalid arguments.
+     */
+    static int ejecutar(String[] args, PrintStream salida, PrintStream errores) {
+        int numMaquinas = 3;
+        long numPartidas = 1;
+        long semilla = new SplittableRandom().nextLong();
+        long presupuestoMcts = -1;
+        boolean silencioso = false;
+        Path archivoRegistro = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--maquinas" -> numMaquinas = Integer.parseInt(valor(args, ++i));
+                    case "--partidas" -> numPartidas = Long.parseLong(valor(args, ++i));
+                    case "--semilla" -> semilla = Long.parseLong(valor(args, ++i));
+                    case "--mcts" -> presupuestoMcts = Long.parseLong(valor(args, ++i));
+                    case "--silencioso" -> silencioso = true;
+                    case "--registro" -> archivoRegistro = Path.of(valor(args, ++i));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (numMaquinas < 2) {
+                throw new IllegalArgumentException("A game needs at least 2 CPUs.");
+            }
+            if (numPartidas < 1) {
+                throw new IllegalArgumentException("At least one game must be played.");
+            }
+        } catch (IllegalArgumentException e) {
+            errores.println(e.getMessage());
+            errores.println(USO);
+            return 2;
+        }
+
+        // No journal unless asked for (a null resource is skipped on close)
+        try (RegistroPartidas registro = archivoRegistro != null ? RegistroPartidas.abrir(archivoRegistro) : null) {
+            jugarPartidas(numMaquinas, numPartidas, semilla, presupuestoMcts, silencioso, registro, salida);
+        } catch (IOException e) {
+            errores.println("Journal error: " + e.getMessage());
+            return 1;
+        }
+        return 0;
+    }
+
+    private static void jugarPartidas(int numMaquinas, long numPartidas, long semilla, long presupuestoMcts,
+                                      boolean silencioso, RegistroPartidas registro, PrintStream salida) {
+        long[] victorias = new long[numMaquinas];
+        for (long i = 0; i < numPartidas; i++) {
+            long semillaPartida = semilla + i;
+            List<JugadorMaquina> jugadores = crearJugadores(numMaquinas, presupuestoMcts);
+            Juego juego = new Juego(Juego.barajasNecesarias(numMaquinas), semillaPartida);
+            juego.iniciarJuego(jugadores);
+            if (!silencioso) {
+                salida.printf("Game %d (seed %d)%n", i + 1, semillaPartida);
+                juego.agregarObservador(new Narrador(salida));
+            }
+            GrabadorPartida grabador = registro != null ? GrabadorPartida.grabar(registro, juego, semillaPartida) : null;
+
+            long inicio = System.nanoTime();
+            int turnos = jugar(juego);
+            long ms = (System.nanoTime() - inicio) / 1_000_000L;
+            if (grabador != null) {
+                grabador.terminar(); // Already written if the game ended
+            }
+
+            IJugador ganador = juego.getGanador();
+            if (ganador != null) {
+                victorias[jugadores.indexOf(ganador)]++;
+            }
+            salida.printf("Game %d (seed %d): %s after %d turns, %d ms%n", i + 1, semillaPartida,
+                    ganador != null ? ganador.getNombre() + " wins" : "unfinished", turnos, ms);
+        }
+
+        if (numPartidas > 1) {
+            for (int asiento = 0; asiento < numMaquinas; asiento++) {
+                salida.printf("CPU %d: %d wins%n", asiento + 1, victorias[asiento]);
+            }
+        }
+    }
+
+    /**
+     * Plays a game to the end, or until the turn limit.
+     *
+     * @return The number of moves made.
+     */
+    private static int jugar(Juego juego) {
+        int turnos = 0;
+        do {
+            JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+            Jugada jugada = actual.decidirJugada(juego);
+            ResultadoJugada resultado = jugada.aplicar(juego);
+            if (!resultado.esValida()) {
+                throw new IllegalStateException("AI chose an invalid move: " + jugada + " (" + resultado + ")");
+            }
+            turnos++;
+        } while (juego.pasarTurno() && turnos < MAX_TURNOS_POR_PARTIDA);
+        return turnos;
+    }
+
+    private static List<JugadorMaquina> crearJugadores(int numMaquinas, long presupuestoMcts) {
+        List<JugadorMaquina> jugadores = new ArrayList<>(numMaquinas);
+        for (int i = 1; i <= numMaquinas; i++) {
+            jugadores.add(presupuestoMcts >= 0
+                    ? new JugadorMCTS("CPU " + i, presupuestoMcts)
+                    : new JugadorMaquina("CPU " + i));
+        }
+        return jugadores;
+    }
+
+    private static String valor(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    /**
+     * Prints every move and elimination of a game.
+     */
+    private static final class Narrador implements IObservadorJuego {
+        private final PrintStream salida;
+
+        Narrador(PrintStream salida) {
+            this.salida = salida;
+        }
+
+        @Override
+        public void alJugarCarta(IJugador jugador, Carta carta, int valorJugado, int sumaMesa) {
+            salida.printf("  %s plays %s -> %d%n", jugador.getNombre(),
+                    carta.esAs() ? carta + " (" + valorJugado + ")" : carta, sumaMesa);
+        }
+
+        @Override
+        public void alRebarajar(int cartasRebarajadas) {
+            salida.printf("  %d cards shuffled back into the deck%n", cartasRebarajadas);
+        }
+
+        @Override
+        public void alEliminarJugador(IJugador jugador) {
+            salida.printf("  %s cannot move and is out%n", jugador.getNombre());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.deck.MazoCircular;
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.Jugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Computes the machines' upcoming moves ahead of time, while the human's move
+ * is still being shown (for example, while its card flies to the table).
+ *
+ * {@link #especular(IJuego, Jugada)} takes a snapshot of the game, applies the
+ * pending move to a private copy and plays the copy forward on the given
+ * executor, asking each machine for its decision, until it is a human's turn
+ * or the game ends. Every decision is stored under the version the real game
+ * will have when that machine is to move, together with the expected state.
+ *
+ * {@link #buscar(IJuego)} hands a decision out only if the real game has that
+ * version and that exact state. Anything else (a different move, a reshuffle
+ * that dealt other cards, an undo) makes the prediction useless and it is
+ * simply ignored: the caller computes the move as usual.
+ *
+ * The real and the copied game must be driven the same way, by
+ * {@link Jugada#aplicar(IJuego)} and {@link IJuego#pasarTurno()}, so that
+ * their versions advance in step. Apart from the snapshot, the real game is
+ * never read from the background.
+ */
+public class EspeculadorJugadas {
+
+    /**
+     * A decision computed for one position that the real game is expected to reach.
+     */
+    private static final class Prediccion {
+        private final long version;
+        private final EstadoJuego estado;
+        private final CompletableFuture<Jugada> jugada = new CompletableFuture<>();
+
+        Prediccion(long version, EstadoJuego estado) {
+            this.version = version;
+            this.estado = estado;
+        }
+    }
+
+    /**
+     * The predictions of one call to especular; cancelled when replaced.
+     */
+    private static final class Especulacion {
+        private final List<Prediccion> predicciones = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelada;
+    }
+
+    private static final Especulacion NINGUNA = new Especulacion();
+
+    private final Executor ejecutor;
+    private final SplittableRandom semillas = new SplittableRandom();
+    private volatile Especulacion actual = NINGUNA;
+
+    /**
+     * @param ejecutor The executor that plays the copies forward.
+     */
+    public EspeculadorJugadas(Executor ejecutor) {
+        this.ejecutor = Objects.requireNonNull(ejecutor, "Executor cannot be null");
+    }
+
+    /**
+     * Starts computing the machines' decisions that follow a move, before it is applied.
+     * Replaces any previous speculation. Must be called from the thread that drives the game.
+     *
+     * @param juego The real game, before the move.
+     * @param pendiente The move about to be applied to it.
+     */
+    public void especular(IJuego juego, Jugada pendiente) {
+        Objects.requireNonNull(pendiente, "Move cannot be null");
+        descartar();
+        if (juego.isJuegoTerminado()) return;
+
+        // Everything the copy needs is taken now, on the game's thread
+        EstadoJuego estado = juego.exportarEstado();
+        long version = juego.getVersion();
+        List<IJugador> sombras = new ArrayList<>();
+        for (IJugador jugador : juego.getAsientos()) {
+            sombras.add(jugador instanceof JugadorMaquina maquina
+                    ? maquina.clonarEstrategia()
+                    : new Jugador(jugador.getNombre(), jugador.esHumano()));
+        }
+        long semilla;
+        synchronized (semillas) {
+            semilla = semillas.nextLong();
+        }
+
+        Especulacion especulacion = new Especulacion();
+        actual = especulacion;
+        ejecutor.execute(() -> adelantar(especulacion, estado, version, sombras, semilla, pendiente));
+    }
+
+    /**
+     * Looks for a decision computed for the current position of the game.
+     *
+     * @param juego The real game, where it is a machine's turn.
+     * @return The decision (possibly still being computed), or null if none matches this position.
+     */
+    public CompletableFuture<Jugada> buscar(IJuego juego) {
+        long version = juego.getVersion();
+        for (Prediccion prediccion : actual.predicciones) {
+            if (prediccion.version == version) {
+                // Same number of steps; check they were the same steps
+                return prediccion.estado.equals(juego.exportarEstado()) ? prediccion.jugada : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Throws away the current speculation. A decision being computed is finished
+     * (a search cannot be interrupted) but nothing else is started.
+     */
+    public void descartar() {
+        Especulacion anterior = actual;
+        anterior.cancelada = true;
+        actual = NINGUNA;
+    }
+
+    /**
+     * Plays a private copy of the game forward, recording each machine's decision.
+     */
+    private static void adelantar(Especulacion especulacion, EstadoJuego estado, long version,
+                                  List<IJugador> sombras, long semilla, Jugada pendiente) {
+        Juego copia = new Juego(new MazoCircular(semilla));
+        copia.restaurarEstado(estado, sombras);
+        long base = copia.getVersion();
+
+        Jugada jugada = pendiente;
+        while (!especulacion.cancelada
+                && jugada != null
+                && jugada.aplicar(copia).esValida()
+                && copia.pasarTurno()
+                && copia.getJugadorActual() instanceof JugadorMaquina maquina) {
+            Prediccion prediccion = new Prediccion(version + copia.getVersion() - base, copia.exportarEstado());
+            especulacion.predicciones.add(prediccion);
+            try {
+                jugada = maquina.decidirJugada(copia);
+                prediccion.jugada.complete(jugada);
+            } catch (RuntimeException e) {
+                prediccion.jugada.completeExceptionally(e);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.deck.MazoCircular;
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.player.IEstrategia;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.Jugador;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * An AI strategy that chooses its moves with information-set Monte Carlo
+ * tree search (single-observer ISMCTS). See {@link JugadorMCTS} for a player using it.
+ *
+ * The player only knows its own hand, the table and how many cards everyone
+ * holds. On every iteration it deals the unknown cards at random between
+ * the deck and the opponents' hands (a "determinization"), walks its search
+ * tree through the moves that are legal in that deal, and plays the rest of
+ * the game with random moves. The tree keeps statistics per move, so they
+ * are shared by every deal in which the move is possible.
+ *
+ * Several independent trees are searched in parallel (one per core) until
+ * the time budget runs out, and the move with the most visits over all
+ * trees is chosen. The decision includes the value of an Ace.
+ */
+public class EstrategiaMCTS implements IEstrategia {
+
+    /** Default thinking time, in milliseconds. */
+    public static final long PRESUPUESTO_POR_DEFECTO_MS = 1000;
+
+    // UCB exploration constant (rewards are in [0, 1])
+    private static final double EXPLORACION = 0.7;
+
+    // Safety cap on the length of a simulated game
+    private static final int PROFUNDIDAD_MAXIMA = 500;
+
+    private final ForkJoinPool pool;
+    private final SplittableRandom semillas;
+
+    private volatile long presupuestoMs;
+    private volatile int iteracionesMaximas = Integer.MAX_VALUE;
+
+    /**
+     * Constructs a search strategy with the default time budget.
+     */
+    public EstrategiaMCTS() {
+        this(PRESUPUESTO_POR_DEFECTO_MS);
+    }
+
+    /**
+     * Constructs a search strategy.
+     *
+     * @param presupuestoMs The thinking time per move, in milliseconds.
+     */
+    public EstrategiaMCTS(long presupuestoMs) {
+        this(presupuestoMs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a search strategy that searches on the given pool.
+     * One tree is searched by each thread of the pool, plus one by the calling thread.
+     *
+     * @param presupuestoMs The thinking time per move, in milliseconds.
+     * @param pool The pool that runs the parallel searches.
+     */
+    public EstrategiaMCTS(long presupuestoMs, ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.semillas = new SplittableRandom();
+        setPresupuestoMs(presupuestoMs);
+    }
+
+    public long getPresupuestoMs() {
+        return presupuestoMs;
+    }
+
+    /**
+     * @param presupuestoMs The thinking time per move, in milliseconds.
+     */
+    public void setPresupuestoMs(long presupuestoMs) {
+        if (presupuestoMs < 0) {
+            throw new IllegalArgumentException("Time budget cannot be negative.");
+        }
+        this.presupuestoMs = presupuestoMs;
+    }
+
+    /**
+     * Limits the number of iterations of each search tree, on top of the time budget.
+     * Mostly useful to make tests and benchmarks independent of the machine's speed.
+     *
+     * @param iteracionesMaximas The maximum number of iterations per tree (at least 1).
+     */
+    public void setIteracionesMaximas(int iteracionesMaximas) {
+        if (iteracionesMaximas < 1) {
+            throw new IllegalArgumentException("At least one iteration is needed.");
+        }
+        this.iteracionesMaximas = iteracionesMaximas;
+    }
+
+    /**
+     * @return A search strategy with the same budget, pool and iteration limit,
+     *         and its own random generator.
+     */
+    @Override
+    public EstrategiaMCTS copiar() {
+        EstrategiaMCTS copia = new EstrategiaMCTS(presupuestoMs, pool);
+        copia.iteracionesMaximas = iteracionesMaximas;
+        return copia;
+    }
+
+    @Override
+    public String getNombre() {
+        return "MCTS";
+    }
+
+    /**
+     * Searches for the best move within the time budget.
+     * Only reads the game: the search runs on private copies of the position.
+     *
+     * @param jugador The player to move.
+     * @param juego The game where it is that player's turn.
+     * @return The move to make, or null if no valid move exists.
+     * @throws IllegalStateException if it is not that player's turn.
+     */
+    @Override
+    public Jugada decidir(IJugador jugador, IJuego juego) {
+        if (juego.getJugadorActual() != jugador) {
+            throw new IllegalStateException("It is not " + jugador.getNombre() + "'s turn.");
+        }
+
+        int[] legales = new int[2 * jugador.getCartasEnMano()];
+        int numLegales = jugadasLegales(jugador.getMano(), juego.getSumaMesa(), legales);
+        if (numLegales == 0) {
+            return null;
+        }
+        if (numLegales == 1) {
+            return Jugada.desdeCodigo(legales[0]);
+        }
+
+        EstadoJuego raiz = juego.exportarEstado();
+        long limite = System.nanoTime() + presupuestoMs * 1_000_000L;
+        int iteraciones = iteracionesMaximas;
+
+        // One tree per pool thread, plus one searched by this thread
+        int numArboles = pool.getParallelism() + 1;
+        List<ForkJoinTask<long[]>> tareas = new ArrayList<>(numArboles - 1);
+        Arbol local;
+        synchronized (semillas) {
+            for (int i = 1; i < numArboles; i++) {
+                Arbol arbol = new Arbol(raiz, semillas.split(), limite, iteraciones);
+                tareas.add(pool.submit(arbol::buscar));
+            }
+            local = new Arbol(raiz, semillas.split(), limite, iteraciones);
+        }
+
+        long[] visitas = local.buscar();
+        for (ForkJoinTask<long[]> tarea : tareas) {
+            long[] parcial = tarea.join();
+            for (int i = 0; i < visitas.length; i++) {
+                visitas[i] += parcial[i];
+            }
+        }
+
+        // Most visited root move (the first legal one if nothing was searched)
+        int mejor = legales[0];
+        for (int i = 1; i < numLegales; i++) {
+            if (visitas[legales[i]] > visitas[mejor]) {
+                mejor = legales[i];
+            }
+        }
+        return Jugada.desdeCodigo(mejor);
+    }
+
+    /**
+     * Lists the legal moves of a hand, as move codes (see {@link Jugada#getCodigo()}).
+     *
+     * @return The number of moves written into {@code destino}.
+     */
+    private static int jugadasLegales(List<Carta> mano, int suma, int[] destino) {
+        int n = 0;
+        for (Carta carta : mano) {
+            int codigo = carta.getCodigo();
+            if (carta.esAs()) {
+                if (suma + 10 <= 50) destino[n++] = codigo | Jugada.AS_COMO_DIEZ;
+                if (suma + 1 <= 50) destino[n++] = codigo;
+            } else if (suma + carta.getValorJuego() <= 50) {
+                destino[n++] = codigo;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * A node of a search tree: the statistics of one move, for the player who made it.
+     */
+    private static final class Nodo {
+        private static final Nodo[] SIN_HIJOS = new Nodo[0];
+
+        final int jugada;
+        final int actor;
+        int visitas;
+        int disponibilidad;
+        double recompensa;
+        Nodo[] hijos = SIN_HIJOS;
+        int numHijos;
+
+        Nodo(int jugada, int actor) {
+            this.jugada = jugada;
+            this.actor = actor;
+        }
+
+        Nodo hijo(int jugada) {
+            for (int i = 0; i < numHijos; i++) {
+                if (hijos[i].jugada == jugada) return hijos[i];
+            }
+            return null;
+        }
+
+        Nodo agregarHijo(int jugada, int actor) {
+            if (numHijos == hijos.length) {
+                hijos = Arrays.copyOf(hijos, Math.max(4, numHijos * 2));
+            }
+            Nodo hijo = new Nodo(jugada, actor);
+            hijos[numHijos++] = hijo;
+            return hijo;
+        }
+    }
+
+    /**
+     * One search tree, with its private game, players and random generator.
+     * Not thread-safe: each tree is searched by a single thread.
+     */
+    private static final class Arbol {
+        private final EstadoJuego raiz;
+        private final int asientoRaiz;
+        private final SplittableRandom random;
+        private final long limite;
+        private final int iteracionesMaximas;
+
+        private final Juego juego;
+        private final List<Jugador> asientos;
+        private final int[] desconocidas;
+        private final int[] legales = new int[2 * Carta.TOTAL_CARTAS];
+        private final List<Nodo> camino = new ArrayList<>();
+
+        Arbol(EstadoJuego raiz, SplittableRandom random, long limite, int iteracionesMaximas) {
+            this.raiz = raiz;
+            this.asientoRaiz = raiz.getTurno();
+            this.random = random;
+            this.limite = limite;
+            this.iteracionesMaximas = iteracionesMaximas;
+            this.juego = new Juego(new MazoCircular(random.nextLong()));
+            this.asientos = new ArrayList<>(raiz.getNumAsientos());
+            for (int asiento = 0; asiento < raiz.getNumAsientos(); asiento++) {
+                asientos.add(new Jugador("Asiento " + asiento, false));
+            }
+
+            // The cards the searching player cannot see: the deck and the other hands
+            int total = raiz.getCartasEnMazo();
+            for (int asiento = 0; asiento < raiz.getNumAsientos(); asiento++) {
+                if (asiento != asientoRaiz) total += raiz.getCartasEnMano(asiento);
+            }
+            this.desconocidas = new int[total];
+            int n = 0;
+            for (int i = 0; i < raiz.getCartasEnMazo(); i++) {
+                desconocidas[n++] = raiz.getCodigoMazo(i);
+            }
+            for (int asiento = 0; asiento < raiz.getNumAsientos(); asiento++) {
+                if (asiento == asientoRaiz) continue;
+                for (int i = 0; i < raiz.getCartasEnMano(asiento); i++) {
+                    desconocidas[n++] = raiz.getCodigoMano(asiento, i);
+                }
+            }
+        }
+
+        /**
+         * Searches until the time or iteration limit.
+         *
+         * @return The visit count of each root move, indexed by move code.
+         */
+        long[] buscar() {
+            Nodo nodoRaiz = new Nodo(-1, -1);
+            for (int i = 0; i < iteracionesMaximas && System.nanoTime() < limite; i++) {
+                juego.restaurarEstado(determinizar(), asientos);
+                iterar(nodoRaiz);
+            }
+
+            long[] visitas = new long[2 * Jugada.AS_COMO_DIEZ];
+            for (int i = 0; i < nodoRaiz.numHijos; i++) {
+                visitas[nodoRaiz.hijos[i].jugada] = nodoRaiz.hijos[i].visitas;
+            }
+            return visitas;
+        }
+
+        /**
+         * Deals the unknown cards at random, keeping every count the player can see.
+         */
+        private EstadoJuego determinizar() {
+            for (int i = desconocidas.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temporal = desconocidas[i];
+                desconocidas[i] = desconocidas[j];
+                desconocidas[j] = temporal;
+            }
+
+            int n = 0;
+            int[] mazo = new int[raiz.getCartasEnMazo()];
+            for (int i = 0; i < mazo.length; i++) {
+                mazo[i] = desconocidas[n++];
+            }
+            int[][] manos = new int[raiz.getNumAsientos()][];
+            for (int asiento = 0; asiento < manos.length; asiento++) {
+                manos[asiento] = new int[raiz.getCartasEnMano(asiento)];
+                for (int i = 0; i < manos[asiento].length; i++) {
+                    manos[asiento][i] = asiento == asientoRaiz
+                            ? raiz.getCodigoMano(asiento, i)
+                            : desconocidas[n++];
+                }
+            }
+            int[] mesa = new int[raiz.getCartasEnMesa()];
+            for (int i = 0; i < mesa.length; i++) {
+                mesa[i] = raiz.getCodigoMesa(i);
+            }
+            return new EstadoJuego(mazo, manos, mesa, raiz.getSumaMesa(), raiz.getTurno(), raiz.getVivos());
+        }
+
+        /**
+         * One iteration: selection and expansion in the tree, a random playout, and backpropagation.
+         */
+        private void iterar(Nodo nodoRaiz) {
+            camino.clear();
+            Nodo nodo = nodoRaiz;
+            int profundidad = 0;
+            boolean expandido = false;
+
+            // 1. Selection / expansion, among the moves legal in this deal
+            while (!expandido && !juego.isJuegoTerminado() && profundidad < PROFUNDIDAD_MAXIMA) {
+                int actor = asientoDe(juego.getJugadorActual());
+                int n = jugadasLegales(juego.getJugadorActual().getMano(), juego.getSumaMesa(), legales);
+
+                Nodo elegido = null;
+                double mejorValor = Double.NEGATIVE_INFINITY;
+                int sinProbar = 0;
+                for (int i = 0; i < n; i++) {
+                    Nodo hijo = nodo.hijo(legales[i]);
+                    if (hijo == null) {
+                        // Keep the untried moves at the front of the array
+                        legales[sinProbar++] = legales[i];
+                        continue;
+                    }
+                    hijo.disponibilidad++;
+                    double valor = hijo.recompensa / hijo.visitas
+                            + EXPLORACION * Math.sqrt(Math.log(hijo.disponibilidad) / hijo.visitas);
+                    if (valor > mejorValor) {
+                        mejorValor = valor;
+                        elegido = hijo;
+                    }
+                }
+                if (sinProbar > 0) {
+                    elegido = nodo.agregarHijo(legales[random.nextInt(sinProbar)], actor);
+                    expandido = true;
+                }
+
+                aplicar(elegido.jugada);
+                camino.add(elegido);
+                nodo = elegido;
+                profundidad++;
+            }
+
+            // 2. Playout with random legal moves
+            while (!juego.isJuegoTerminado() && profundidad < PROFUNDIDAD_MAXIMA) {
+                int n = jugadasLegales(juego.getJugadorActual().getMano(), juego.getSumaMesa(), legales);
+                aplicar(legales[random.nextInt(n)]);
+                profundidad++;
+            }
+
+            // 3. Backpropagation: 1 for the winner's moves, 0 for the others
+            IJugador ganador = juego.getGanador();
+            int asientoGanador = ganador == null ? -1 : asientoDe(ganador);
+            double empate = 1.0 / raiz.getNumAsientos();
+            for (Nodo visitado : camino) {
+                visitado.visitas++;
+                if (asientoGanador < 0) {
+                    visitado.recompensa += empate;
+                } else if (visitado.actor == asientoGanador) {
+                    visitado.recompensa += 1.0;
+                }
+            }
+        }
+
+        private void aplicar(int codigo) {
+            Jugada jugada = Jugada.desdeCodigo(codigo);
+            juego.hacerJugada(jugada.getCarta(), jugada.getValor());
+        }
+
+        private int asientoDe(IJugador jugador) {
+            for (int asiento = 0; asiento < asientos.size(); asiento++) {
+                if (asientos.get(asiento) == jugador) return asiento;
+            }
+            throw new IllegalStateException("Unknown player: " + jugador);
+        }
+    }
+}
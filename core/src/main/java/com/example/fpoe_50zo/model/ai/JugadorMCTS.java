@@ -0,0 +1,82 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An AI player that chooses its moves with Monte Carlo tree search
+ * (an {@link EstrategiaMCTS}), with its settings at hand.
+ */
+public class JugadorMCTS extends JugadorMaquina {
+
+    /** Default thinking time, in milliseconds. */
+    public static final long PRESUPUESTO_POR_DEFECTO_MS = EstrategiaMCTS.PRESUPUESTO_POR_DEFECTO_MS;
+
+    /**
+     * Constructs a new search player with the default time budget.
+     *
+     * @param nombre The display name for the AI (e.g., "CPU 1").
+     */
+    public JugadorMCTS(String nombre) {
+        this(nombre, PRESUPUESTO_POR_DEFECTO_MS);
+    }
+
+    /**
+     * Constructs a new search player.
+     *
+     * @param nombre The display name for the AI (e.g., "CPU 1").
+     * @param presupuestoMs The thinking time per move, in milliseconds.
+     */
+    public JugadorMCTS(String nombre, long presupuestoMs) {
+        this(nombre, presupuestoMs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new search player that searches on the given pool.
+     * One tree is searched by each thread of the pool, plus one by the calling thread.
+     *
+     * @param nombre The display name for the AI (e.g., "CPU 1").
+     * @param presupuestoMs The thinking time per move, in milliseconds.
+     * @param pool The pool that runs the parallel searches.
+     */
+    public JugadorMCTS(String nombre, long presupuestoMs, ForkJoinPool pool) {
+        this(nombre, new EstrategiaMCTS(presupuestoMs, pool));
+    }
+
+    private JugadorMCTS(String nombre, EstrategiaMCTS estrategia) {
+        super(nombre, estrategia);
+    }
+
+    @Override
+    public EstrategiaMCTS getEstrategia() {
+        return (EstrategiaMCTS) super.getEstrategia();
+    }
+
+    public long getPresupuestoMs() {
+        return getEstrategia().getPresupuestoMs();
+    }
+
+    /**
+     * @param presupuestoMs The thinking time per move, in milliseconds.
+     */
+    public void setPresupuestoMs(long presupuestoMs) {
+        getEstrategia().setPresupuestoMs(presupuestoMs);
+    }
+
+    /**
+     * @param iteracionesMaximas The maximum number of iterations per tree (at least 1).
+     * @see EstrategiaMCTS#setIteracionesMaximas(int)
+     */
+    public void setIteracionesMaximas(int iteracionesMaximas) {
+        getEstrategia().setIteracionesMaximas(iteracionesMaximas);
+    }
+
+    /**
+     * @return A search player with the same budget, pool and iteration limit.
+     */
+    @Override
+    public JugadorMCTS clonarEstrategia() {
+        return new JugadorMCTS(getNombre(), getEstrategia().copiar());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.game.Jugada;
+
+/**
+ * The outcome of a position computed by {@link SolucionadorPerfecto},
+ * plus the search statistics.
+ */
+public class SolucionPerfecta {
+
+    /** Returned by {@link #getGanador()} when the winner depends on how the table is reshuffled. */
+    public static final int SIN_DECIDIR = -1;
+
+    private final int ganador;
+    private final long vivosAlRebarajar;
+    private final Jugada mejorJugada;
+    private final long nodos;
+    private final long aciertosTabla;
+    private final long nanos;
+
+    SolucionPerfecta(int ganador, long vivosAlRebarajar, Jugada mejorJugada,
+                     long nodos, long aciertosTabla, long nanos) {
+        this.ganador = ganador;
+        this.vivosAlRebarajar = vivosAlRebarajar;
+        this.mejorJugada = mejorJugada;
+        this.nodos = nodos;
+        this.aciertosTabla = aciertosTabla;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return The seat that wins with perfect play, or {@link #SIN_DECIDIR} if
+     *         perfect play reaches a reshuffle before the game is decided.
+     */
+    public int getGanador() {
+        return ganador;
+    }
+
+    public boolean estaDecidida() {
+        return ganador != SIN_DECIDIR;
+    }
+
+    /**
+     * @return One bit per seat still playing when perfect play reaches the reshuffle
+     *         (0 if the game is decided).
+     */
+    public long getVivosAlRebarajar() {
+        return vivosAlRebarajar;
+    }
+
+    /**
+     * @return The move perfect play makes for the player to move, or null if the game is over.
+     */
+    public Jugada getMejorJugada() {
+        return mejorJugada;
+    }
+
+    /**
+     * @return The positions expanded by the search (transposition-table hits excluded).
+     */
+    public long getNodos() {
+        return nodos;
+    }
+
+    public long getAciertosTabla() {
+        return aciertosTabla;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return The search speed, in expanded positions per second of wall-clock time.
+     */
+    public double getNodosPorSegundo() {
+        if (nanos <= 0) return 0;
+        return nodos * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        String resultado = estaDecidida()
+                ? "seat " + ganador + " wins"
+                : "undecided at the reshuffle (seats " + Long.toBinaryString(vivosAlRebarajar) + " alive)";
+        return String.format("%s, best move %s; %,d nodes, %,d table hits in %.3f s -> %,.0f nodes/s",
+                resultado, mejorJugada, nodos, aciertosTabla, nanos / 1e9, getNodosPorSegundo());
+    }
+}
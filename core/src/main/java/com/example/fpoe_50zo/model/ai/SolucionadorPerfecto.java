@@ -0,0 +1,489 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.deck.MazoCircular;
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.SimetriaPalos;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.Jugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Perfect-information solver: given a full position (deck order, every hand,
+ * table sum and turn), it computes who wins when every player plays perfectly.
+ *
+ * With two players this is minimax. With more, each player maximizes their own
+ * chance of winning ("max-n"), and ties between moves are broken by the lowest
+ * move code in the canonical suits (see below), so the outcome of a position is unique.
+ *
+ * The order of a reshuffled deck is random, so it is not part of the position.
+ * The search therefore stops at a reshuffle: a move made from an empty deck, whose
+ * draw reshuffles the table, ends the line, and if the game is not over right after it the outcome is "undecided"
+ * ({@link SolucionPerfecta#SIN_DECIDIR}), which players value as an equal share of
+ * a win among those still playing. Every other line is searched to the end of the game.
+ *
+ * Positions are cached in a lock-free {@link TablaTransposicion} that takes a
+ * configurable amount of memory and is kept between calls, so solving the positions
+ * of one game one after the other reuses earlier work. The cache is keyed on the
+ * suit-canonical variant of each position ({@link SimetriaPalos}), so positions that
+ * only differ in the names of their suits share one entry. The root moves are searched
+ * in parallel on a {@link ForkJoinPool}, each on a private copy of the game.
+ */
+public class SolucionadorPerfecto {
+
+    /** Default memory budget of the transposition table: 64 MiB. */
+    public static final long MEMORIA_POR_DEFECTO = 64L << 20;
+
+    /** Largest number of seats a position can have (the outcome of a line packs the survivors in an int). */
+    public static final int MAX_ASIENTOS = 31;
+
+    private final TablaTransposicion tabla;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a solver with the default memory budget that uses every available core.
+     */
+    public SolucionadorPerfecto() {
+        this(MEMORIA_POR_DEFECTO);
+    }
+
+    /**
+     * Creates a solver that uses every available core.
+     *
+     * @param memoriaBytes The memory budget of the transposition table, in bytes.
+     */
+    public SolucionadorPerfecto(long memoriaBytes) {
+        this(memoriaBytes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver.
+     *
+     * @param memoriaBytes The memory budget of the transposition table, in bytes
+     *                     (rounded down to a power-of-two number of entries).
+     * @param pool The pool that searches the root moves.
+     */
+    public SolucionadorPerfecto(long memoriaBytes, ForkJoinPool pool) {
+        this.tabla = new TablaTransposicion(memoriaBytes);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * @return The memory actually taken by the transposition table, in bytes.
+     */
+    public long getMemoriaBytes() {
+        return (long) tabla.getEntradas() * TablaTransposicion.BYTES_POR_ENTRADA;
+    }
+
+    /**
+     * @return The number of positions the transposition table currently holds.
+     */
+    public int getPosicionesGuardadas() {
+        return tabla.contarOcupadas();
+    }
+
+    /**
+     * Forgets every cached position.
+     */
+    public void limpiar() {
+        tabla.limpiar();
+    }
+
+    /**
+     * Solves the current position of a game. Only reads the game.
+     *
+     * @param juego A started game.
+     * @return The outcome with perfect play, and the search statistics.
+     */
+    public SolucionPerfecta resolver(IJuego juego) {
+        return resolver(juego.exportarEstado());
+    }
+
+    private static boolean cartasUnicas(EstadoJuego estado) {
+        int total = estado.getCartasEnMazo() + estado.getCartasEnMesa();
+        long vistas = 0;
+        for (int i = 0; i < estado.getCartasEnMazo(); i++) {
+            vistas |= 1L << estado.getCodigoMazo(i);
+        }
+        for (int i = 0; i < estado.getCartasEnMesa(); i++) {
+            vistas |= 1L << estado.getCodigoMesa(i);
+        }
+        for (int asiento = 0; asiento < estado.getNumAsientos(); asiento++) {
+            total += estado.getCartasEnMano(asiento);
+            for (int i = 0; i < estado.getCartasEnMano(asiento); i++) {
+                vistas |= 1L << estado.getCodigoMano(asiento, i);
+            }
+        }
+        return Long.bitCount(vistas) == total;
+    }
+
+    /**
+     * Solves a position.
+     *
+     * @param estado The position, with the turn at a player who can move
+     *               (as after {@link IJuego#pasarTurno()}), unless the game is over.
+     * @return The outcome with perfect play, and the search statistics.
+     * @throws IllegalArgumentException if the position has too many seats, holds a card
+     *                                  twice (it is keyed as a single 52-card deck),
+     *                                  or the player to move cannot move.
+     */
+    public SolucionPerfecta resolver(EstadoJuego estado) {
+        Objects.requireNonNull(estado, "State cannot be null");
+        if (estado.getNumAsientos() > MAX_ASIENTOS) {
+            throw new IllegalArgumentException("The solver handles at most " + MAX_ASIENTOS + " seats.");
+        }
+        if (!cartasUnicas(estado)) {
+            throw new IllegalArgumentException("The solver handles a single deck: a card appears twice.");
+        }
+
+        long inicio = System.nanoTime();
+        Busqueda raiz = new Busqueda(estado, tabla);
+        if (raiz.juego.isJuegoTerminado()) {
+            return solucion(raiz.asiento(raiz.juego.getGanador()), -1, 0, 0, inicio);
+        }
+
+        long clave = raiz.clave();
+        long dato = tabla.buscar(clave);
+        // Stored moves are in the canonical suits
+        int inversa = SimetriaPalos.invertir(raiz.permutacion);
+        if (dato != 0) {
+            int jugada = TablaTransposicion.jugada(dato);
+            return solucion(TablaTransposicion.resultado(dato),
+                    jugada < 0 ? -1 : SimetriaPalos.permutarJugada(inversa, jugada), 0, 1, inicio);
+        }
+
+        int numJugadas = raiz.generarJugadas(raiz.permutacion);
+        if (numJugadas == 0) {
+            throw new IllegalArgumentException("The player to move has no legal move.");
+        }
+        boolean rebaraja = raiz.mazo.estaVacio();
+        List<TareaJugada> tareas = new ArrayList<>(numJugadas);
+        for (int i = 0; i < numJugadas; i++) {
+            tareas.add(new TareaJugada(estado, tabla, raiz.pila[i], inversa, rebaraja));
+        }
+        pool.invoke(new TareaRaiz(tareas));
+
+        // Same choice as a sequential search: the first move with the best outcome for the mover
+        int yo = raiz.asiento(raiz.juego.getJugadorActual());
+        int mejor = 0;
+        int mejorJugada = -1;
+        double mejorPago = -1;
+        long nodos = 1;
+        long aciertos = 0;
+        for (TareaJugada tarea : tareas) {
+            nodos += tarea.nodos;
+            aciertos += tarea.aciertos;
+            double pago = pago(tarea.resultado, yo);
+            if (pago > mejorPago) {
+                mejorPago = pago;
+                mejor = tarea.resultado;
+                mejorJugada = tarea.jugada;
+            }
+        }
+        tabla.guardar(clave, TablaTransposicion.empaquetar(mejor, mejorJugada));
+        return solucion(mejor, SimetriaPalos.permutarJugada(inversa, mejorJugada), nodos, aciertos, inicio);
+    }
+
+    private static SolucionPerfecta solucion(int resultado, int jugada, long nodos, long aciertos, long inicio) {
+        int ganador = resultado >= 0 ? resultado : SolucionPerfecta.SIN_DECIDIR;
+        long vivos = resultado >= 0 ? 0 : ~resultado & 0xFFFFFFFFL;
+        return new SolucionPerfecta(ganador, vivos, jugada < 0 ? null : Jugada.desdeCodigo(jugada),
+                nodos, aciertos, System.nanoTime() - inicio);
+    }
+
+    /**
+     * How much a line's outcome is worth to a seat: 1 for a win, an equal share
+     * for an undecided line it survives, 0 otherwise.
+     *
+     * @param resultado The winning seat, or {@code ~vivos} for a line that reaches a reshuffle.
+     */
+    static double pago(int resultado, int asiento) {
+        if (resultado >= 0) {
+            return resultado == asiento ? 1 : 0;
+        }
+        int vivos = ~resultado;
+        return (vivos & (1 << asiento)) != 0 ? 1.0 / Integer.bitCount(vivos) : 0;
+    }
+
+    /**
+     * Searches the root moves in parallel.
+     */
+    private static final class TareaRaiz extends RecursiveTask<Void> {
+        private final List<TareaJugada> tareas;
+
+        TareaRaiz(List<TareaJugada> tareas) {
+            this.tareas = tareas;
+        }
+
+        @Override
+        protected Void compute() {
+            ForkJoinTask.invokeAll(tareas);
+            return null;
+        }
+    }
+
+    /**
+     * Solves the position after one root move, on its own copy of the game.
+     */
+    private static final class TareaJugada extends RecursiveTask<Void> {
+        private final EstadoJuego estado;
+        private final TablaTransposicion tabla;
+        // In the canonical suits of the root
+        private final int jugada;
+        private final int inversa;
+        private final boolean rebaraja;
+
+        private int resultado;
+        private long nodos;
+        private long aciertos;
+
+        TareaJugada(EstadoJuego estado, TablaTransposicion tabla, int jugada, int inversa, boolean rebaraja) {
+            this.estado = estado;
+            this.tabla = tabla;
+            this.jugada = jugada;
+            this.inversa = inversa;
+            this.rebaraja = rebaraja;
+        }
+
+        @Override
+        protected Void compute() {
+            Busqueda busqueda = new Busqueda(estado, tabla);
+            resultado = busqueda.jugar(SimetriaPalos.permutarJugada(inversa, jugada), rebaraja);
+            nodos = busqueda.nodos;
+            aciertos = busqueda.aciertos;
+            return null;
+        }
+    }
+
+    /**
+     * Depth-first search on a private game, with make/undo moves.
+     * Not thread-safe: each one is used by a single thread.
+     */
+    private static final class Busqueda {
+
+        private final TablaTransposicion tabla;
+        private final MazoCircular mazo;
+        private final Juego juego;
+        private final IJugador[] asientos;
+        private final SimetriaPalos simetria = new SimetriaPalos();
+
+        // Permutation to the canonical suits of the position last hashed by clave()
+        private int permutacion;
+
+        // Legal moves of every node on the current line, one block per node
+        private int[] pila = new int[64];
+        private int tope;
+
+        private long nodos;
+        private long aciertos;
+
+        Busqueda(EstadoJuego estado, TablaTransposicion tabla) {
+            this.tabla = tabla;
+            // Only shuffles when a line reaches a reshuffle, after which the search stops
+            this.mazo = new MazoCircular(0L);
+            this.juego = new Juego(mazo);
+            List<Jugador> jugadores = new ArrayList<>(estado.getNumAsientos());
+            for (int asiento = 0; asiento < estado.getNumAsientos(); asiento++) {
+                jugadores.add(new Jugador("Asiento " + asiento, false));
+            }
+            this.asientos = jugadores.toArray(new IJugador[0]);
+            juego.restaurarEstado(estado, jugadores);
+        }
+
+        /**
+         * Solves the current position, whose player to move can move.
+         *
+         * @return The winning seat, or {@code ~vivos} if perfect play reaches a reshuffle.
+         */
+        int resolver() {
+            long clave = clave();
+            long dato = tabla.buscar(clave);
+            if (dato != 0) {
+                aciertos++;
+                return TablaTransposicion.resultado(dato);
+            }
+            nodos++;
+
+            int inversa = SimetriaPalos.invertir(permutacion);
+            int desde = tope;
+            int numJugadas = generarJugadas(permutacion);
+            tope = desde + numJugadas;
+            int yo = asiento(juego.getJugadorActual());
+            boolean rebaraja = mazo.estaVacio();
+
+            int mejor = 0;
+            int mejorJugada = -1;
+            double mejorPago = -1;
+            for (int i = desde; i < desde + numJugadas; i++) {
+                int resultado = jugar(SimetriaPalos.permutarJugada(inversa, pila[i]), rebaraja);
+                double pago = pago(resultado, yo);
+                if (pago > mejorPago) {
+                    mejorPago = pago;
+                    mejor = resultado;
+                    mejorJugada = pila[i];
+                    if (resultado == yo) break; // Nothing beats a win
+                }
+            }
+            tope = desde;
+            tabla.guardar(clave, TablaTransposicion.empaquetar(mejor, mejorJugada));
+            return mejor;
+        }
+
+        /**
+         * Makes a move, solves the position after it and takes it back.
+         *
+         * @param codigo The move code.
+         * @param rebaraja Whether the move's draw reshuffles the table.
+         */
+        int jugar(int codigo, boolean rebaraja) {
+            Jugada jugada = Jugada.desdeCodigo(codigo);
+            juego.hacerJugada(jugada.getCarta(), jugada.getValor());
+            int resultado;
+            if (juego.isJuegoTerminado()) {
+                resultado = asiento(juego.getGanador());
+            } else if (rebaraja) {
+                resultado = ~vivos();
+            } else {
+                resultado = resolver();
+            }
+            juego.deshacerJugada();
+            return resultado;
+        }
+
+        /**
+         * Pushes the legal moves of the player to move onto the move stack, in the
+         * canonical suits and sorted by code, so equivalent positions try them in the same order.
+         *
+         * @param permutacion The permutation to the canonical suits of the position.
+         * @return How many moves were pushed.
+         */
+        int generarJugadas(int permutacion) {
+            List<Carta> mano = juego.getJugadorActual().getMano();
+            int suma = juego.getSumaMesa();
+            if (pila.length < tope + 2 * mano.size()) {
+                pila = Arrays.copyOf(pila, 2 * pila.length + 2 * mano.size());
+            }
+
+            int n = 0;
+            for (Carta carta : mano) {
+                int codigo = SimetriaPalos.permutarCarta(permutacion, carta.getCodigo());
+                if (carta.esAs()) {
+                    if (suma + 1 <= 50) pila[tope + n++] = codigo;
+                    if (suma + 10 <= 50) pila[tope + n++] = codigo | Jugada.AS_COMO_DIEZ;
+                } else if (suma + carta.getValorJuego() <= 50) {
+                    pila[tope + n++] = codigo;
+                }
+            }
+            // Hands are small: insertion sort, so the order does not depend on the hand's order
+            for (int i = tope + 1; i < tope + n; i++) {
+                int codigo = pila[i];
+                int j = i - 1;
+                while (j >= tope && pila[j] > codigo) {
+                    pila[j + 1] = pila[j];
+                    j--;
+                }
+                pila[j + 1] = codigo;
+            }
+            return n;
+        }
+
+        /**
+         * Hashes everything the rest of the game depends on until the next reshuffle:
+         * the table sum, the turn, who is still playing, the deck in order and each
+         * hand in order (an eliminated player's hand goes to the bottom of the deck
+         * card by card, so it can be drawn again before the reshuffle).
+         * The cards on the table only matter once reshuffled, so they are left out.
+         * Cards are hashed in the canonical suits, named by first appearance in the deck
+         * and then in the hands, and {@link #permutacion} is left pointing at them.
+         */
+        long clave() {
+            simetria.reiniciar();
+            long h = mezclar(0x9E3779B97F4A7C15L, juego.getSumaMesa());
+            h = mezclar(h, asiento(juego.getJugadorActual()));
+            h = mezclar(h, vivos());
+            int cartas = mazo.cartasRestantes();
+            h = mezclar(h, cartas);
+            for (int i = 0; i < cartas; i++) {
+                h = mezclar(h, simetria.canonizar(mazo.codigoEn(i)));
+            }
+            for (IJugador jugador : asientos) {
+                List<Carta> mano = jugador.getMano();
+                h = mezclar(h, mano.size());
+                for (Carta carta : mano) {
+                    h = mezclar(h, simetria.canonizar(carta.getCodigo()));
+                }
+            }
+            permutacion = simetria.getPermutacion();
+            // SplitMix64 finalizer, as in EstadoJuego
+            h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+            h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+            return h ^ (h >>> 31);
+        }
+
+        private static long mezclar(long h, long valor) {
+            return (h ^ valor) * 0x100000001B3L + 0x7F4A7C15L;
+        }
+
+        int vivos() {
+            int vivos = 0;
+            for (int i = 0; i < asientos.length; i++) {
+                if (juego.estaEnJuego(asientos[i])) vivos |= 1 << i;
+            }
+            return vivos;
+        }
+
+        int asiento(IJugador jugador) {
+            for (int i = 0; i < asientos.length; i++) {
+                if (asientos[i] == jugador) return i;
+            }
+            throw new IllegalStateException("Unknown player: " + jugador);
+        }
+    }
+
+    /**
+     * Command-line entry point: plays a seeded game with the greedy rule until the
+     * deck runs low, then solves the position.
+     * Usage: SolucionadorPerfecto [cartasEnMazo] [numMaquinas] [semilla] [memoriaMiB]
+     *
+     * @param args optional deck size at which to solve (default 12), number of
+     *             players besides seat 0 (default 1), seed (default 1) and
+     *             transposition-table budget in MiB (default 64).
+     */
+    public static void main(String[] args) {
+        int cartasEnMazo = args.length > 0 ? Integer.parseInt(args[0]) : 12;
+        int numMaquinas = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        long semilla = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        long memoriaMiB = args.length > 3 ? Long.parseLong(args[3]) : MEMORIA_POR_DEFECTO >> 20;
+
+        Juego juego = new Juego(semilla);
+        List<JugadorMaquina> jugadores = new ArrayList<>();
+        for (int i = 0; i <= numMaquinas; i++) {
+            jugadores.add(new JugadorMaquina("CPU " + i));
+        }
+        juego.iniciarJuego(jugadores);
+        boolean sigue = true;
+        while (sigue && juego.exportarEstado().getCartasEnMazo() > cartasEnMazo) {
+            JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+            actual.decidirJugada(juego).aplicar(juego);
+            sigue = juego.pasarTurno();
+        }
+
+        SolucionadorPerfecto solucionador = new SolucionadorPerfecto(memoriaMiB << 20);
+        EstadoJuego estado = juego.exportarEstado();
+        System.out.printf("Solving %s with a %,d MiB table on %d threads...%n",
+                estado, solucionador.getMemoriaBytes() >> 20, ForkJoinPool.commonPool().getParallelism());
+        System.out.println(solucionador.resolver(estado));
+        System.out.printf("Positions stored: %,d%n", solucionador.getPosicionesGuardadas());
+    }
+}
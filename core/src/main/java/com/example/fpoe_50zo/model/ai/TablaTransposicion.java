@@ -0,0 +1,125 @@
+package com.example.fpoe_50zo.model.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free transposition table for {@link SolucionadorPerfecto}.
+ *
+ * Each entry is two longs: {@code clave ^ dato} and {@code dato}. Both are written
+ * with plain atomic stores and no lock, so two threads may interleave their writes
+ * to the same slot; a reader then finds that the first long does not match the key
+ * xor the second one and treats the entry as a miss ("lockless hashing"). A slot
+ * keeps the last position written to it.
+ *
+ * The stored values are exact game outcomes, so a hit can be reused by any thread
+ * and by later searches of the same game.
+ */
+final class TablaTransposicion {
+
+    /** Memory taken by one entry. */
+    static final int BYTES_POR_ENTRADA = 2 * Long.BYTES;
+
+    // Largest table an AtomicLongArray can hold: two longs per entry, so
+    // 2^29 entries = 2^30 array slots = 8 GiB
+    static final int MAX_ENTRADAS = 1 << 29;
+
+    // Set in every stored dato, so an empty slot (0, 0) never matches a key
+    private static final long OCUPADA = 1L << 63;
+
+    private final AtomicLongArray entradas;
+    private final int mascara;
+
+    /**
+     * Creates the largest table with a power-of-two number of entries that fits the budget.
+     *
+     * @param memoriaBytes The memory budget, in bytes (at least one entry).
+     */
+    TablaTransposicion(long memoriaBytes) {
+        int numEntradas = entradasPara(memoriaBytes);
+        this.entradas = new AtomicLongArray(2 * numEntradas);
+        this.mascara = numEntradas - 1;
+    }
+
+    /**
+     * @param memoriaBytes The memory budget, in bytes.
+     * @return The entries of the largest table that fits it: a power of two, at most {@link #MAX_ENTRADAS}.
+     * @throws IllegalArgumentException if the budget does not fit one entry.
+     */
+    static int entradasPara(long memoriaBytes) {
+        if (memoriaBytes < BYTES_POR_ENTRADA) {
+            throw new IllegalArgumentException("The memory budget must fit at least one entry ("
+                    + BYTES_POR_ENTRADA + " bytes).");
+        }
+        return (int) Long.highestOneBit(Math.min(memoriaBytes / BYTES_POR_ENTRADA, MAX_ENTRADAS));
+    }
+
+    /**
+     * Looks a position up.
+     *
+     * @param clave The 64-bit key of the position.
+     * @return The stored dato (see {@link #empaquetar(int, int)}), or 0 if the position is not stored.
+     */
+    long buscar(long clave) {
+        int i = 2 * ((int) clave & mascara);
+        long dato = entradas.getOpaque(i + 1);
+        if (dato == 0 || (entradas.getOpaque(i) ^ dato) != clave) {
+            return 0;
+        }
+        return dato;
+    }
+
+    /**
+     * Stores a position, replacing whatever was in its slot.
+     *
+     * @param clave The 64-bit key of the position.
+     * @param dato The packed outcome, from {@link #empaquetar(int, int)}.
+     */
+    void guardar(long clave, long dato) {
+        int i = 2 * ((int) clave & mascara);
+        entradas.setOpaque(i, clave ^ dato);
+        entradas.setOpaque(i + 1, dato);
+    }
+
+    /**
+     * Empties the table.
+     */
+    void limpiar() {
+        for (int i = 0; i < entradas.length(); i++) {
+            entradas.setOpaque(i, 0);
+        }
+    }
+
+    int getEntradas() {
+        return mascara + 1;
+    }
+
+    /**
+     * @return The number of occupied slots (a linear scan, for reports and tests).
+     */
+    int contarOcupadas() {
+        int ocupadas = 0;
+        for (int i = 1; i < entradas.length(); i += 2) {
+            if (entradas.getOpaque(i) != 0) ocupadas++;
+        }
+        return ocupadas;
+    }
+
+    /**
+     * Packs an outcome and the move that leads to it.
+     *
+     * @param resultado The outcome, as encoded by {@link SolucionadorPerfecto}.
+     * @param jugada The code of the best move, or -1 if there is none.
+     * @return A non-zero dato.
+     */
+    static long empaquetar(int resultado, int jugada) {
+        return OCUPADA | ((long) (jugada + 1) << 32) | (resultado & 0xFFFFFFFFL);
+    }
+
+    static int resultado(long dato) {
+        return (int) dato;
+    }
+
+    static int jugada(long dato) {
+        return (int) ((dato >>> 32) & 0xFF) - 1;
+    }
+}
@@ -5,15 +5,42 @@ import java.util.Objects;
 /**
  * Representa una carta individual de la baraja.
  * Es una clase inmutable: una vez creada, su palo y valor no pueden cambiar.
+ *
+ * Como es inmutable, la clase mantiene un registro con las 52 instancias
+ * canónicas, identificadas por un código de 0 a 51
+ * (palo.ordinal() * 13 + valor.ordinal()). Mazos, manos y mesa pueden
+ * compartir esas instancias en lugar de crear cartas nuevas en cada partida.
  */
 public class Carta {
 
+    /** Número de cartas distintas de la baraja (4 palos x 13 valores). */
+    public static final int TOTAL_CARTAS = 52;
+
+    private static final int VALORES_POR_PALO = 13;
+
+    // Registro de instancias canónicas, indexado por código
+    private static final Carta[] REGISTRO = new Carta[TOTAL_CARTAS];
+
+    static {
+        for (Palo palo : Palo.values()) {
+            for (Valor valor : Valor.values()) {
+                Carta carta = new Carta(palo, valor);
+                REGISTRO[carta.codigo] = carta;
+            }
+        }
+    }
+
     // Atributos finales, se asignan en el constructor y no cambian
     private final Palo palo;
     private final Valor valor;
 
+    // Código 0-51, precalculado; también sirve como hashCode
+    private final int codigo;
+
     /**
      * Constructor para crear una nueva carta.
+     * Siempre que sea posible conviene usar {@link #de(Palo, Valor)},
+     * que devuelve la instancia compartida en lugar de crear una nueva.
      * @param palo El Palo de la carta (ej. Palo.CORAZONES)
      * @param valor El Valor de la carta (ej. Valor.AS)
      */
@@ -21,6 +48,32 @@ public class Carta {
         // Usamos Objects.requireNonNull para asegurar que no nos pasen nulls
         this.palo = Objects.requireNonNull(palo, "El palo no puede ser nulo");
         this.valor = Objects.requireNonNull(valor, "El valor no puede ser nulo");
+        this.codigo = palo.ordinal() * VALORES_POR_PALO + valor.ordinal();
+    }
+
+    // --- Registro de instancias compartidas ---
+
+    /**
+     * Devuelve la instancia canónica de una carta.
+     * @param palo El Palo de la carta
+     * @param valor El Valor de la carta
+     * @return La carta compartida con ese palo y valor.
+     */
+    public static Carta de(Palo palo, Valor valor) {
+        return REGISTRO[palo.ordinal() * VALORES_POR_PALO + valor.ordinal()];
+    }
+
+    /**
+     * Devuelve la instancia canónica a partir de su código, en tiempo constante.
+     * @param codigo Un código entre 0 y 51.
+     * @return La carta compartida con ese código.
+     * @throws IllegalArgumentException si el código está fuera de rango.
+     */
+    public static Carta desdeCodigo(int codigo) {
+        if (codigo < 0 || codigo >= TOTAL_CARTAS) {
+            throw new IllegalArgumentException("Código de carta inválido: " + codigo);
+        }
+        return REGISTRO[codigo];
     }
 
     // --- Getters ---
@@ -33,6 +86,14 @@ public class Carta {
         return valor;
     }
 
+    /**
+     * Devuelve el código de la carta (0-51), usado por el registro.
+     * @return palo.ordinal() * 13 + valor.ordinal()
+     */
+    public int getCodigo() {
+        return codigo;
+    }
+
     // --- Métodos de conveniencia (delegan a los enums) ---
 
     /**
@@ -77,18 +138,20 @@ public class Carta {
 
     // --- Métodos equals() y hashCode() ---
     // Importante para que podamos buscar y comparar cartas en listas.
-    // Dos objetos "Carta" son iguales si tienen el mismo palo y valor.
+    // Dos objetos "Carta" son iguales si tienen el mismo palo y valor,
+    // es decir, el mismo código.
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Carta carta = (Carta) o;
-        return palo == carta.palo && valor == carta.valor;
+        return codigo == carta.codigo;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(palo, valor);
+        // El código ya es único por carta: no hace falta Objects.hash (que crea un array)
+        return codigo;
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.example.fpoe_50zo.model.deck;
+
+import java.util.Arrays;
+
+/**
+ * Exact draw probabilities, from the hypergeometric distribution: drawing
+ * {@code muestra} cards without replacement from {@code poblacion} cards,
+ * {@code exitos} of which are of the kind we want.
+ *
+ * Every probability is a short sum of products of binomial coefficients, which are
+ * read from a Pascal triangle built once and shared by all threads, so a query costs
+ * a handful of multiplications instead of enumerating the possible draws.
+ * The triangle grows on demand, up to {@value #MAX_CARTAS} cards, beyond which
+ * the coefficients no longer fit in a double.
+ */
+public final class Hipergeometrica {
+
+    /** Largest population the probabilities can be computed for. */
+    public static final int MAX_CARTAS = 1000;
+
+    // Row n holds C(n, 0..n). Replaced as a whole when it grows, so readers need no lock.
+    private static volatile double[][] pascal = construir(new double[0][], 128);
+
+    private Hipergeometrica() {
+    }
+
+    /**
+     * @return C(n, k), the number of ways to choose k cards out of n (0 if k is out of range).
+     * @throws IllegalArgumentException if n is negative or above {@link #MAX_CARTAS}.
+     */
+    public static double binomial(int n, int k) {
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        return fila(n)[k];
+    }
+
+    /**
+     * @param poblacion The cards that can be drawn.
+     * @param exitos How many of them are of the wanted kind.
+     * @param muestra How many cards are drawn.
+     * @param k How many wanted cards to draw.
+     * @return The chance of drawing exactly k wanted cards.
+     */
+    public static double probabilidad(int poblacion, int exitos, int muestra, int k) {
+        validar(poblacion, exitos, muestra);
+        return binomial(exitos, k) * binomial(poblacion - exitos, muestra - k) / binomial(poblacion, muestra);
+    }
+
+    /**
+     * @param poblacion The cards that can be drawn.
+     * @param exitos How many of them are of the wanted kind.
+     * @param muestra How many cards are drawn.
+     * @param minimo The least number of wanted cards.
+     * @return The chance of drawing at least {@code minimo} wanted cards.
+     */
+    public static double probabilidadAlMenos(int poblacion, int exitos, int muestra, int minimo) {
+        validar(poblacion, exitos, muestra);
+        if (minimo <= 0) {
+            return 1;
+        }
+        double casos = 0;
+        for (int k = minimo; k <= Math.min(muestra, exitos); k++) {
+            casos += binomial(exitos, k) * binomial(poblacion - exitos, muestra - k);
+        }
+        return Math.min(1, casos / binomial(poblacion, muestra));
+    }
+
+    private static void validar(int poblacion, int exitos, int muestra) {
+        if (poblacion < 0 || exitos < 0 || exitos > poblacion || muestra < 0 || muestra > poblacion) {
+            throw new IllegalArgumentException("Invalid draw: " + muestra + " cards out of " + poblacion
+                    + " with " + exitos + " wanted.");
+        }
+    }
+
+    private static double[] fila(int n) {
+        if (n < 0 || n > MAX_CARTAS) {
+            throw new IllegalArgumentException("Binomials are available for 0 to " + MAX_CARTAS + " cards.");
+        }
+        double[][] filas = pascal;
+        if (n >= filas.length) {
+            filas = crecer(n);
+        }
+        return filas[n];
+    }
+
+    private static synchronized double[][] crecer(int n) {
+        if (n >= pascal.length) {
+            pascal = construir(pascal, Math.min(MAX_CARTAS + 1, Math.max(n + 1, 2 * pascal.length)));
+        }
+        return pascal;
+    }
+
+    /**
+     * Extends a Pascal triangle to the given number of rows.
+     */
+    private static double[][] construir(double[][] previas, int filas) {
+        double[][] triangulo = Arrays.copyOf(previas, filas);
+        for (int n = previas.length; n < filas; n++) {
+            triangulo[n] = new double[n + 1];
+            triangulo[n][0] = 1;
+            triangulo[n][n] = 1;
+            for (int k = 1; k < n; k++) {
+                triangulo[n][k] = triangulo[n - 1][k - 1] + triangulo[n - 1][k];
+            }
+        }
+        return triangulo;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.fpoe_50zo.model.deck;
+
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface that defines the contract for a deck of cards (Mazo).
+ * It specifies the operations that can be performed on a deck,
+ * abstracting the implementation details.
+ */
+public interface IMazo {
+
+    /**
+     * Randomly shuffles the cards currently in the deck,
+     * using the deck's own random generator.
+     */
+    void barajar();
+
+    /**
+     * Randomly shuffles the cards currently in the deck with the given generator.
+     * The result depends only on the current order and the generator's state,
+     * which makes seeded games replayable.
+     *
+     * @param generador The random generator to shuffle with.
+     */
+    void barajar(RandomGenerator generador);
+
+    /**
+     * Draws one card from the top of the deck.
+     *
+     * @return the top card from the deck.
+     * @throws MazoVacioException if the deck is empty when trying to draw.
+     */
+    Carta tomarCarta() throws MazoVacioException;
+
+    /**
+     * Draws one card from the top of the deck, without throwing when it is empty.
+     * Used on hot paths where an empty deck is a normal event (e.g. reshuffles).
+     *
+     * @return the top card from the deck, or null if the deck is empty.
+     */
+    Carta intentarTomarCarta();
+
+    /**
+     * Checks if the deck has any cards left.
+     *
+     * @return true if the deck is empty, false otherwise.
+     */
+    boolean estaVacio();
+
+    /**
+     * Gets the number of cards remaining in the deck.
+     *
+     * @return the count of remaining cards.
+     */
+    int cartasRestantes();
+
+    /**
+     * Counts the cards of one value left in the deck.
+     * The counts are kept up to date on every draw and insertion, so this is O(1).
+     *
+     * @param valor The card value.
+     * @return how many cards of that value the deck holds.
+     */
+    int contarValor(Valor valor);
+
+    /**
+     * Reads a card without drawing it.
+     * Used to take snapshots of the deck.
+     *
+     * @param posicion The position in the deck, 0 being the bottom card.
+     * @return the code of the card at that position.
+     * @throws IndexOutOfBoundsException if the position is not in the deck.
+     */
+    int codigoEn(int posicion);
+
+    /**
+     * Adds a single card to the bottom of the deck.
+     *
+     * @param carta The card to be added (must not be null).
+     */
+    void agregarAlFinal(Carta carta);
+
+    /**
+     * Adds a list of cards to the bottom of the deck.
+     *
+     * @param cartasMesa The list of cards to add to the bottom of the deck.
+     */
+    void agregarAlFinal(List<Carta> cartasMesa);
+
+    /**
+     * Puts a card back on top of the deck, so it is the next one drawn.
+     * Used to undo a draw.
+     *
+     * @param carta The card to put back (must not be null).
+     */
+    void devolverArriba(Carta carta);
+
+    /**
+     * Removes the card at the bottom of the deck.
+     * Used to undo {@link #agregarAlFinal(Carta)}.
+     *
+     * @return the bottom card, or null if the deck is empty.
+     */
+    Carta quitarDelFinal();
+
+    /**
+     * Removes every card from the deck.
+     */
+    void vaciar();
+}
@@ -0,0 +1,258 @@
+package com.example.fpoe_50zo.model.deck;
+
+import com.example.fpoe_50zo.model.deck.IMazo;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the deck of 52 playing cards (or several such decks shuffled together).
+ * This class manages creating, shuffling, and dealing cards.
+ */
+public class Mazo implements IMazo {
+
+    // We use a List to hold the cards, which is easy to shuffle.
+    private final List<Carta> cartas;
+
+    // Source of randomness owned by this deck (never shared between games).
+    private final RandomGenerator generador;
+
+    // Cards of each value in the deck, by Valor ordinal
+    private final int[] porValor = new int[Valor.values().length];
+
+    /**
+     * Constructs a new Mazo.
+     * It initializes a full 52-card deck and shuffles it.
+     */
+    public Mazo() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new Mazo whose shuffles are fully determined by a seed.
+     * Two decks built with the same seed deal the same cards, also after
+     * every reshuffle, so a game can be replayed exactly.
+     *
+     * @param semilla The seed for this deck's random generator.
+     */
+    public Mazo(long semilla) {
+        this(new SplittableRandom(semilla));
+    }
+
+    /**
+     * Constructs a new Mazo that shuffles with the given generator.
+     * It initializes a full 52-card deck and shuffles it.
+     *
+     * @param generador The random generator used by every shuffle of this deck.
+     */
+    public Mazo(RandomGenerator generador) {
+        this(1, generador);
+    }
+
+    /**
+     * Constructs a deck made of several full 52-card decks, for large tables,
+     * whose shuffles are fully determined by a seed.
+     * A single deck deals exactly like {@link #Mazo(long)}.
+     *
+     * @param barajas The number of 52-card decks (at least 1).
+     * @param semilla The seed for this deck's random generator.
+     */
+    public Mazo(int barajas, long semilla) {
+        this(barajas, new SplittableRandom(semilla));
+    }
+
+    /**
+     * Constructs a deck made of several full 52-card decks that shuffles with the given generator.
+     *
+     * @param barajas The number of 52-card decks (at least 1).
+     * @param generador The random generator used by every shuffle of this deck.
+     */
+    public Mazo(int barajas, RandomGenerator generador) {
+        if (barajas < 1) {
+            throw new IllegalArgumentException("A deck needs at least one set of 52 cards.");
+        }
+        this.generador = Objects.requireNonNull(generador, "Random generator cannot be null");
+        this.cartas = new ArrayList<>(barajas * Carta.TOTAL_CARTAS);
+        this.crearMazoCompleto(barajas);
+        this.barajar();
+    }
+
+    /**
+     * Fills the deck with the standard 52 playing cards, once per deck.
+     * This method is called by the constructor.
+     * The cards are the shared instances from the Carta registry,
+     * so building a deck allocates no Carta objects.
+     */
+    private void crearMazoCompleto(int barajas) {
+        // Clear any existing cards, just in case
+        this.cartas.clear();
+
+        Arrays.fill(this.porValor, 0);
+
+        // Codes run suit by suit (Palo), value by value (Valor)
+        for (int baraja = 0; baraja < barajas; baraja++) {
+            for (int codigo = 0; codigo < Carta.TOTAL_CARTAS; codigo++) {
+                Carta carta = Carta.desdeCodigo(codigo);
+                this.cartas.add(carta);
+                this.porValor[carta.getValor().ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * Randomly shuffles the cards currently in the deck,
+     * using this deck's own random generator.
+     */
+    public void barajar() {
+        barajar(this.generador);
+    }
+
+    /**
+     * Randomly shuffles the cards currently in the deck with the given generator.
+     *
+     * @param generador The random generator to shuffle with.
+     */
+    public void barajar(RandomGenerator generador) {
+        Collections.shuffle(this.cartas, generador);
+    }
+
+    /**
+     * Draws one card from the top of the deck.
+     * The "top" is considered the end of the list for efficient removal.
+     *
+     * @return the top card from the deck.
+     * @throws MazoVacioException if the deck is empty when trying to draw.
+     */
+    public Carta tomarCarta() throws MazoVacioException {
+        Carta carta = intentarTomarCarta();
+        if (carta == null) {
+            // Throw our custom checked exception
+            throw new MazoVacioException("Cannot draw a card, the deck is empty.");
+        }
+        return carta;
+    }
+
+    /**
+     * Draws one card from the top of the deck, without throwing when it is empty.
+     *
+     * @return the top card from the deck, or null if the deck is empty.
+     */
+    public Carta intentarTomarCarta() {
+        if (estaVacio()) {
+            return null;
+        }
+        // Remove and return the last card from the list (O(1) operation)
+        Carta carta = this.cartas.remove(this.cartas.size() - 1);
+        this.porValor[carta.getValor().ordinal()]--;
+        return carta;
+    }
+
+    /**
+     * Checks if the deck has any cards left.
+     *
+     * @return true if the deck is empty, false otherwise.
+     */
+    public boolean estaVacio() {
+        return this.cartas.isEmpty();
+    }
+
+    /**
+     * Gets the number of cards remaining in the deck.
+     *
+     * @return the count of remaining cards.
+     */
+    public int cartasRestantes() {
+        return this.cartas.size();
+    }
+
+    /**
+     * Counts the cards of one value left in the deck, in O(1).
+     *
+     * @param valor The card value.
+     * @return how many cards of that value the deck holds.
+     */
+    public int contarValor(Valor valor) {
+        return this.porValor[valor.ordinal()];
+    }
+
+    /**
+     * Reads a card without drawing it.
+     *
+     * @param posicion The position in the deck, 0 being the bottom card.
+     * @return the code of the card at that position.
+     */
+    public int codigoEn(int posicion) {
+        return this.cartas.get(posicion).getCodigo();
+    }
+
+    /**
+     * Adds a single card to the bottom of the deck.
+     * Used for the rule: "Las cartas del jugador eliminado deben enviarse al final del mazo".
+     *
+     * @param carta The card to be added (must not be null).
+     */
+    public void agregarAlFinal(Carta carta) {
+        Objects.requireNonNull(carta, "Cannot add a null card to the deck");
+        // Add to the "bottom" of the deck (index 0)
+        this.cartas.add(0, carta);
+        this.porValor[carta.getValor().ordinal()]++;
+    }
+
+    /**
+     * Adds a list of cards to the bottom of the deck.
+     * Used for the rule: "Si las cartas del mazo se terminan se deben tomar
+     * las cartas de la mesa... y dejarlas disponibles en el mazo."
+     *
+     * @param cartasMesa The list of cards to add to the bottom of the deck.
+     */
+    public void agregarAlFinal(List<Carta> cartasMesa) {
+        Objects.requireNonNull(cartasMesa, "Cannot add a null list of cards");
+        // Adds the entire collection to the "bottom" (index 0)
+        this.cartas.addAll(0, cartasMesa);
+        for (Carta carta : cartasMesa) {
+            this.porValor[carta.getValor().ordinal()]++;
+        }
+    }
+
+    /**
+     * Puts a card back on top of the deck (the end of the list).
+     *
+     * @param carta The card to put back (must not be null).
+     */
+    public void devolverArriba(Carta carta) {
+        Objects.requireNonNull(carta, "Cannot add a null card to the deck");
+        this.cartas.add(carta);
+        this.porValor[carta.getValor().ordinal()]++;
+    }
+
+    /**
+     * Removes the card at the bottom of the deck (index 0).
+     *
+     * @return the bottom card, or null if the deck is empty.
+     */
+    public Carta quitarDelFinal() {
+        if (estaVacio()) {
+            return null;
+        }
+        Carta carta = this.cartas.remove(0);
+        this.porValor[carta.getValor().ordinal()]--;
+        return carta;
+    }
+
+    /**
+     * Removes every card from the deck.
+     */
+    public void vaciar() {
+        this.cartas.clear();
+        Arrays.fill(this.porValor, 0);
+    }
+}
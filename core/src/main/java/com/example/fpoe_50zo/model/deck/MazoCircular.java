@@ -0,0 +1,271 @@
+package com.example.fpoe_50zo.model.deck;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A deck of 52 playing cards (or several such decks shuffled together)
+ * stored as a circular buffer of card codes.
+ * Drawing from the top and adding to the bottom are both O(1), unlike
+ * {@link Mazo}, whose bottom insertions shift the whole list.
+ * It is a drop-in replacement for Mazo: given the same seed, both decks
+ * deal the same cards in the same order.
+ */
+public class MazoCircular implements IMazo {
+
+    private static final int VALORES_POR_PALO = Valor.values().length;
+
+    // Codes of the cards, from the bottom (inicio) upwards. Length is a power of two.
+    private int[] codigos;
+    private int mascara;
+
+    // Position of the bottom card and number of cards in the deck
+    private int inicio;
+    private int tamano;
+
+    private final RandomGenerator generador;
+
+    // Cards of each value in the deck, by Valor ordinal (the code modulo 13)
+    private final int[] porValor = new int[VALORES_POR_PALO];
+
+    /**
+     * Constructs a new MazoCircular.
+     * It initializes a full 52-card deck and shuffles it.
+     */
+    public MazoCircular() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new MazoCircular whose shuffles are fully determined by a seed.
+     *
+     * @param semilla The seed for this deck's random generator.
+     */
+    public MazoCircular(long semilla) {
+        this(new SplittableRandom(semilla));
+    }
+
+    /**
+     * Constructs a new MazoCircular that shuffles with the given generator.
+     * It initializes a full 52-card deck and shuffles it.
+     *
+     * @param generador The random generator used by every shuffle of this deck.
+     */
+    public MazoCircular(RandomGenerator generador) {
+        this(1, generador);
+    }
+
+    /**
+     * Constructs a deck made of several full 52-card decks, for large tables,
+     * whose shuffles are fully determined by a seed.
+     * Deals the same cards as {@link Mazo#Mazo(int, long)}.
+     *
+     * @param barajas The number of 52-card decks (at least 1).
+     * @param semilla The seed for this deck's random generator.
+     */
+    public MazoCircular(int barajas, long semilla) {
+        this(barajas, new SplittableRandom(semilla));
+    }
+
+    /**
+     * Constructs a deck made of several full 52-card decks that shuffles with the given generator.
+     *
+     * @param barajas The number of 52-card decks (at least 1).
+     * @param generador The random generator used by every shuffle of this deck.
+     */
+    public MazoCircular(int barajas, RandomGenerator generador) {
+        if (barajas < 1) {
+            throw new IllegalArgumentException("A deck needs at least one set of 52 cards.");
+        }
+        this.generador = Objects.requireNonNull(generador, "Random generator cannot be null");
+        int cartas = barajas * Carta.TOTAL_CARTAS;
+        this.codigos = new int[Integer.highestOneBit(cartas - 1) << 1];
+        this.mascara = codigos.length - 1;
+
+        // Same initial order as Mazo: code 0 of the first deck at the bottom
+        for (int i = 0; i < cartas; i++) {
+            int codigo = i % Carta.TOTAL_CARTAS;
+            codigos[i] = codigo;
+            porValor[codigo % VALORES_POR_PALO]++;
+        }
+        this.inicio = 0;
+        this.tamano = cartas;
+        this.barajar();
+    }
+
+    /**
+     * Randomly shuffles the cards currently in the deck,
+     * using this deck's own random generator.
+     */
+    @Override
+    public void barajar() {
+        barajar(this.generador);
+    }
+
+    /**
+     * Randomly shuffles the cards currently in the deck with the given generator.
+     * Performs the same swaps as Collections.shuffle, so both deck
+     * implementations stay in step for the same generator state.
+     *
+     * @param generador The random generator to shuffle with.
+     */
+    @Override
+    public void barajar(RandomGenerator generador) {
+        for (int i = tamano; i > 1; i--) {
+            int a = (inicio + i - 1) & mascara;
+            int b = (inicio + generador.nextInt(i)) & mascara;
+            int temporal = codigos[a];
+            codigos[a] = codigos[b];
+            codigos[b] = temporal;
+        }
+    }
+
+    /**
+     * Draws one card from the top of the deck in O(1).
+     *
+     * @return the top card from the deck.
+     * @throws MazoVacioException if the deck is empty when trying to draw.
+     */
+    @Override
+    public Carta tomarCarta() throws MazoVacioException {
+        Carta carta = intentarTomarCarta();
+        if (carta == null) {
+            throw new MazoVacioException("Cannot draw a card, the deck is empty.");
+        }
+        return carta;
+    }
+
+    /**
+     * Draws one card from the top of the deck in O(1), without throwing.
+     *
+     * @return the top card from the deck, or null if the deck is empty.
+     */
+    @Override
+    public Carta intentarTomarCarta() {
+        if (tamano == 0) {
+            return null;
+        }
+        tamano--;
+        int codigo = codigos[(inicio + tamano) & mascara];
+        porValor[codigo % VALORES_POR_PALO]--;
+        return Carta.desdeCodigo(codigo);
+    }
+
+    @Override
+    public boolean estaVacio() {
+        return tamano == 0;
+    }
+
+    @Override
+    public int cartasRestantes() {
+        return tamano;
+    }
+
+    @Override
+    public int contarValor(Valor valor) {
+        return porValor[valor.ordinal()];
+    }
+
+    @Override
+    public int codigoEn(int posicion) {
+        if (posicion < 0 || posicion >= tamano) {
+            throw new IndexOutOfBoundsException("Position " + posicion + " is not in a deck of " + tamano + " cards");
+        }
+        return codigos[(inicio + posicion) & mascara];
+    }
+
+    /**
+     * Adds a single card to the bottom of the deck in amortised O(1).
+     *
+     * @param carta The card to be added (must not be null).
+     */
+    @Override
+    public void agregarAlFinal(Carta carta) {
+        Objects.requireNonNull(carta, "Cannot add a null card to the deck");
+        asegurarCapacidad(tamano + 1);
+        inicio = (inicio - 1) & mascara;
+        codigos[inicio] = carta.getCodigo();
+        porValor[carta.getCodigo() % VALORES_POR_PALO]++;
+        tamano++;
+    }
+
+    /**
+     * Adds a list of cards to the bottom of the deck.
+     * As in Mazo, the first card of the list ends up at the very bottom.
+     *
+     * @param cartasMesa The list of cards to add to the bottom of the deck.
+     */
+    @Override
+    public void agregarAlFinal(List<Carta> cartasMesa) {
+        Objects.requireNonNull(cartasMesa, "Cannot add a null list of cards");
+        asegurarCapacidad(tamano + cartasMesa.size());
+        for (int i = cartasMesa.size() - 1; i >= 0; i--) {
+            inicio = (inicio - 1) & mascara;
+            codigos[inicio] = cartasMesa.get(i).getCodigo();
+            porValor[codigos[inicio] % VALORES_POR_PALO]++;
+        }
+        tamano += cartasMesa.size();
+    }
+
+    /**
+     * Puts a card back on top of the deck in amortised O(1).
+     *
+     * @param carta The card to put back (must not be null).
+     */
+    @Override
+    public void devolverArriba(Carta carta) {
+        Objects.requireNonNull(carta, "Cannot add a null card to the deck");
+        asegurarCapacidad(tamano + 1);
+        codigos[(inicio + tamano) & mascara] = carta.getCodigo();
+        porValor[carta.getCodigo() % VALORES_POR_PALO]++;
+        tamano++;
+    }
+
+    /**
+     * Removes the card at the bottom of the deck in O(1).
+     *
+     * @return the bottom card, or null if the deck is empty.
+     */
+    @Override
+    public Carta quitarDelFinal() {
+        if (tamano == 0) {
+            return null;
+        }
+        int codigo = codigos[inicio];
+        inicio = (inicio + 1) & mascara;
+        porValor[codigo % VALORES_POR_PALO]--;
+        tamano--;
+        return Carta.desdeCodigo(codigo);
+    }
+
+    @Override
+    public void vaciar() {
+        inicio = 0;
+        tamano = 0;
+        Arrays.fill(porValor, 0);
+    }
+
+    /**
+     * Grows the buffer to the next power of two that holds the given number of cards,
+     * unrolling the ring so the bottom card is at index 0.
+     */
+    private void asegurarCapacidad(int necesaria) {
+        if (necesaria <= codigos.length) return;
+
+        int nuevaCapacidad = Integer.highestOneBit(necesaria - 1) << 1;
+        int[] nuevos = new int[nuevaCapacidad];
+        for (int i = 0; i < tamano; i++) {
+            nuevos[i] = codigos[(inicio + i) & mascara];
+        }
+        codigos = nuevos;
+        mascara = nuevaCapacidad - 1;
+        inicio = 0;
+    }
+}
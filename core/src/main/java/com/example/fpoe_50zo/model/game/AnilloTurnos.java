@@ -0,0 +1,117 @@
+package com.example.fpoe_50zo.model.game;
+
+import java.util.Arrays;
+
+/**
+ * The turn order of a game: the seats still in play, linked in a ring in seat order.
+ *
+ * Every seat points at the next and the previous seat still in play, so passing the
+ * turn and eliminating a seat are O(1) whatever the size of the table, and the
+ * players left keep their relative order. An eliminated seat keeps its own links,
+ * which is enough to put it back in O(1) as long as eliminations are undone in
+ * the reverse order they were made (as the undo log of {@link Juego} does).
+ */
+final class AnilloTurnos {
+
+    private int[] siguiente = new int[0];
+    private int[] anterior = new int[0];
+    private boolean[] enJuego = new boolean[0];
+
+    private int numAsientos;
+    private int vivos;
+
+    // Seat whose turn it is, or -1 once every seat is out
+    private int actual = -1;
+
+    /**
+     * Seats the given number of players, all in play, with the turn at seat 0.
+     * Reuses the arrays when they are large enough.
+     */
+    void reiniciar(int numAsientos) {
+        if (siguiente.length < numAsientos) {
+            siguiente = new int[numAsientos];
+            anterior = new int[numAsientos];
+            enJuego = new boolean[numAsientos];
+        }
+        for (int asiento = 0; asiento < numAsientos; asiento++) {
+            siguiente[asiento] = asiento + 1 == numAsientos ? 0 : asiento + 1;
+            anterior[asiento] = asiento == 0 ? numAsientos - 1 : asiento - 1;
+        }
+        Arrays.fill(enJuego, 0, numAsientos, true);
+        this.numAsientos = numAsientos;
+        this.vivos = numAsientos;
+        this.actual = numAsientos == 0 ? -1 : 0;
+    }
+
+    /**
+     * Passes the turn to the next seat in play.
+     */
+    void avanzar() {
+        if (actual >= 0) {
+            actual = siguiente[actual];
+        }
+    }
+
+    /**
+     * Takes a seat out of the ring. If it had the turn, the turn goes to the next seat.
+     */
+    void quitar(int asiento) {
+        enJuego[asiento] = false;
+        siguiente[anterior[asiento]] = siguiente[asiento];
+        anterior[siguiente[asiento]] = anterior[asiento];
+        vivos--;
+        if (asiento == actual) {
+            actual = vivos == 0 ? -1 : siguiente[asiento];
+        }
+    }
+
+    /**
+     * Puts back the seat taken out last (and not put back yet), between the same neighbours.
+     * Does not move the turn, unless no seat was left in play.
+     */
+    void reponer(int asiento) {
+        siguiente[anterior[asiento]] = asiento;
+        anterior[siguiente[asiento]] = asiento;
+        enJuego[asiento] = true;
+        vivos++;
+        if (actual < 0) {
+            actual = asiento;
+        }
+    }
+
+    /**
+     * @param asiento A seat in play.
+     */
+    void setActual(int asiento) {
+        if (!enJuego[asiento]) {
+            throw new IllegalArgumentException("Seat " + asiento + " is out of the game.");
+        }
+        actual = asiento;
+    }
+
+    /**
+     * @return The seat whose turn it is, or -1 if no seat is in play.
+     */
+    int getActual() {
+        return actual;
+    }
+
+    /**
+     * @return The next seat in play after the given one (itself if it is the only one).
+     */
+    int getSiguiente(int asiento) {
+        return siguiente[asiento];
+    }
+
+    boolean estaEnJuego(int asiento) {
+        return asiento >= 0 && asiento < numAsientos && enJuego[asiento];
+    }
+
+    int getVivos() {
+        return vivos;
+    }
+
+    int getNumAsientos() {
+        return numAsientos;
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.card.Carta;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact, immutable snapshot of a game position.
+ *
+ * Everything that defines the position is packed into two small arrays
+ * and a few primitives:
+ * <ul>
+ *   <li>{@code cartas}: card codes of the deck (bottom to top), then each
+ *       seat's hand (in hand order), then the table (oldest to newest);</li>
+ *   <li>{@code longitudes}: deck size, table size, then one hand size per seat;</li>
+ *   <li>the table sum, the seat whose turn it is, and one "still playing" bit per seat.</li>
+ * </ul>
+ * A 64-bit key is computed once at construction, so {@link #hashCode()} is O(1)
+ * and {@link #equals(Object)} rejects different positions in O(1) in practice.
+ * A snapshot takes about 150 bytes, so millions of them fit in memory.
+ * Seats are identified by their position in the original turn order.
+ */
+public final class EstadoJuego {
+
+    /** Maximum number of seats a snapshot can describe. */
+    public static final int MAX_ASIENTOS = 64;
+
+    private static final int LONGITUD_MAZO = 0;
+    private static final int LONGITUD_MESA = 1;
+    private static final int PRIMERA_MANO = 2;
+
+    private final byte[] cartas;
+    private final short[] longitudes;
+    private final int sumaMesa;
+    private final int turno;
+    private final long vivos;
+    private final long clave;
+
+    /**
+     * Builds a snapshot from unpacked card codes.
+     *
+     * @param mazo Codes of the deck, from the bottom to the top.
+     * @param manos Codes of each seat's hand, in hand order (empty for eliminated seats).
+     * @param mesa Codes of the table, from the oldest to the last played card.
+     * @param sumaMesa The current sum on the table.
+     * @param turno The seat whose turn it is.
+     * @param vivos One bit per seat still in the game (bit i = seat i).
+     */
+    public EstadoJuego(int[] mazo, int[][] manos, int[] mesa, int sumaMesa, int turno, long vivos) {
+        Objects.requireNonNull(mazo, "Deck cannot be null");
+        Objects.requireNonNull(manos, "Hands cannot be null");
+        Objects.requireNonNull(mesa, "Table cannot be null");
+        if (manos.length == 0 || manos.length > MAX_ASIENTOS) {
+            throw new IllegalArgumentException("A snapshot needs between 1 and " + MAX_ASIENTOS + " seats.");
+        }
+        if (turno < 0 || turno >= manos.length) {
+            throw new IllegalArgumentException("Turn seat out of range: " + turno);
+        }
+
+        int total = mazo.length + mesa.length;
+        for (int[] mano : manos) {
+            total += mano.length;
+        }
+
+        this.cartas = new byte[total];
+        this.longitudes = new short[PRIMERA_MANO + manos.length];
+        int i = 0;
+        for (int codigo : mazo) {
+            cartas[i++] = codificar(codigo);
+        }
+        for (int[] mano : manos) {
+            for (int codigo : mano) {
+                cartas[i++] = codificar(codigo);
+            }
+        }
+        for (int codigo : mesa) {
+            cartas[i++] = codificar(codigo);
+        }
+        longitudes[LONGITUD_MAZO] = (short) mazo.length;
+        longitudes[LONGITUD_MESA] = (short) mesa.length;
+        for (int asiento = 0; asiento < manos.length; asiento++) {
+            longitudes[PRIMERA_MANO + asiento] = (short) manos[asiento].length;
+        }
+
+        this.sumaMesa = sumaMesa;
+        this.turno = turno;
+        this.vivos = vivos;
+        this.clave = calcularClave();
+    }
+
+    private static byte codificar(int codigo) {
+        if (codigo < 0 || codigo >= Carta.TOTAL_CARTAS) {
+            throw new IllegalArgumentException("Invalid card code: " + codigo);
+        }
+        return (byte) codigo;
+    }
+
+    private long calcularClave() {
+        long h = mezclar(0x9E3779B97F4A7C15L, sumaMesa);
+        h = mezclar(h, turno);
+        h = mezclar(h, (int) vivos);
+        h = mezclar(h, (int) (vivos >>> 32));
+        for (short longitud : longitudes) {
+            h = mezclar(h, longitud);
+        }
+        for (byte codigo : cartas) {
+            h = mezclar(h, codigo);
+        }
+        // SplitMix64 finalizer, so every bit of the key depends on every input
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private static long mezclar(long h, int valor) {
+        return (h ^ valor) * 0x100000001B3L + 0x7F4A7C15L;
+    }
+
+    // --- Getters ---
+
+    /**
+     * @return The 64-bit key of this position, suitable for hash tables and caches.
+     */
+    public long getClave() {
+        return clave;
+    }
+
+    public int getSumaMesa() {
+        return sumaMesa;
+    }
+
+    /**
+     * @return The seat whose turn it is.
+     */
+    public int getTurno() {
+        return turno;
+    }
+
+    public int getNumAsientos() {
+        return longitudes.length - PRIMERA_MANO;
+    }
+
+    /**
+     * @param asiento A seat index.
+     * @return true if the player in that seat is still in the game.
+     */
+    public boolean estaVivo(int asiento) {
+        return (vivos & (1L << asiento)) != 0;
+    }
+
+    /**
+     * @return One bit per seat still in the game.
+     */
+    public long getVivos() {
+        return vivos;
+    }
+
+    public int getCartasEnMazo() {
+        return longitudes[LONGITUD_MAZO];
+    }
+
+    /**
+     * @param posicion 0 is the bottom of the deck.
+     * @return The code of the card at that position.
+     */
+    public int getCodigoMazo(int posicion) {
+        return cartas[posicion];
+    }
+
+    public int getCartasEnMano(int asiento) {
+        return longitudes[PRIMERA_MANO + asiento];
+    }
+
+    /**
+     * @param asiento A seat index.
+     * @param posicion A position in that seat's hand.
+     * @return The code of the card at that position.
+     */
+    public int getCodigoMano(int asiento, int posicion) {
+        int inicio = longitudes[LONGITUD_MAZO];
+        for (int a = 0; a < asiento; a++) {
+            inicio += longitudes[PRIMERA_MANO + a];
+        }
+        return cartas[inicio + posicion];
+    }
+
+    public int getCartasEnMesa() {
+        return longitudes[LONGITUD_MESA];
+    }
+
+    /**
+     * @param posicion 0 is the oldest card on the table.
+     * @return The code of the card at that position.
+     */
+    public int getCodigoMesa(int posicion) {
+        return cartas[cartas.length - longitudes[LONGITUD_MESA] + posicion];
+    }
+
+    // --- equals() and hashCode() ---
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EstadoJuego otro)) return false;
+        return clave == otro.clave
+                && sumaMesa == otro.sumaMesa
+                && turno == otro.turno
+                && vivos == otro.vivos
+                && Arrays.equals(longitudes, otro.longitudes)
+                && Arrays.equals(cartas, otro.cartas);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (clave ^ (clave >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "EstadoJuego[suma=" + sumaMesa + ", turno=" + turno
+                + ", vivos=" + Long.toBinaryString(vivos)
+                + ", mazo=" + getCartasEnMazo() + ", mesa=" + getCartasEnMesa() + "]";
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.exceptions.JugadaInvalidaException;
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.player.IJugador;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Interface that defines the contract for the main "Cincuentazo" game engine.
+ * It specifies all the high-level operations the controller needs.
+ * Note: It uses other interfaces (IJugador) in its contract.
+ */
+public interface IJuego {
+
+    /**
+     * Sets up and starts the game.
+     * @param numMaquinas The number of AI players (at least 1, as many as the deck can deal).
+     */
+    void iniciarJuego(int numMaquinas);
+
+    /**
+     * Sets up and starts the game with an explicit list of players.
+     * @param participantes The players, in turn order (at least 2).
+     */
+    void iniciarJuego(List<? extends IJugador> participantes);
+
+    /**
+     * Attempts to play a non-Ace card for the current player.
+     * @param carta The card the player wants to play.
+     * @throws JugadaInvalidaException if the move is not allowed.
+     */
+    void jugarCarta(Carta carta);
+
+    /**
+     * Attempts to play an Ace card for the current player with a chosen value.
+     * @param carta The Ace card to play.
+     * @param valorElegido The value chosen by the player (must be 1 or 10).
+     * @throws JugadaInvalidaException if the move is not allowed.
+     */
+    void jugarCartaAs(Carta carta, int valorElegido);
+
+    /**
+     * Attempts to play a non-Ace card for the current player.
+     * Same rules as {@link #jugarCarta(Carta)}, but an illegal move is
+     * reported through the result instead of an exception.
+     * @param carta The card the player wants to play.
+     * @return VALIDA if the move was applied, otherwise the reason it was rejected.
+     */
+    ResultadoJugada tryJugarCarta(Carta carta);
+
+    /**
+     * Attempts to play an Ace card for the current player with a chosen value.
+     * Same rules as {@link #jugarCartaAs(Carta, int)}, but an illegal move is
+     * reported through the result instead of an exception.
+     * @param carta The Ace card to play.
+     * @param valorElegido The value chosen by the player (must be 1 or 10).
+     * @return VALIDA if the move was applied, otherwise the reason it was rejected.
+     */
+    ResultadoJugada tryJugarCartaAs(Carta carta, int valorElegido);
+
+    /**
+     * Checks if the current player has any valid move.
+     * If not, the player is eliminated.
+     * @return true if the player can play, false if they were eliminated.
+     */
+    boolean revisarEstadoJugadorActual();
+
+    /**
+     * Advances the turn to the next player in the list.
+     */
+    void siguienteTurno();
+
+    /**
+     * Passes the turn to the next player who can move, eliminating
+     * on the way every player who cannot.
+     * @return true if the game goes on, false if it has ended.
+     */
+    boolean pasarTurno();
+
+    /**
+     * Checks if the game has ended (only one player remains).
+     * @return true if the game is over, false otherwise.
+     */
+    boolean isJuegoTerminado();
+
+    /**
+     * Takes a compact, immutable snapshot of the current position.
+     * @return The snapshot.
+     */
+    EstadoJuego exportarEstado();
+
+    /**
+     * Registers a listener for the changes of this game.
+     * @param observador The listener to add.
+     */
+    void agregarObservador(IObservadorJuego observador);
+
+    /**
+     * Unregisters a listener. Does nothing if it was not registered.
+     * @param observador The listener to remove.
+     */
+    void quitarObservador(IObservadorJuego observador);
+
+    // --- Getters for Game State (for the Controller) ---
+
+    /**
+     * @return The current sum on the table.
+     */
+    int getSumaMesa();
+
+    /**
+     * @return The last card played on the table.
+     */
+    Carta getUltimaCartaJugada();
+
+    /**
+     * @return The player whose turn it is currently.
+     */
+    IJugador getJugadorActual();
+
+    /**
+     * @return An unmodifiable list of all players still in the game.
+     */
+    List<IJugador> getJugadores();
+
+    /**
+     * @param jugador A player.
+     * @return true if the player sat at this game and has not been eliminated.
+     */
+    boolean estaEnJuego(IJugador jugador);
+
+    /**
+     * @return The winning player, or null if the game is not over.
+     */
+    IJugador getGanador();
+
+    /**
+     * @return Every player who started the game, eliminated or not, in the original turn order.
+     */
+    List<IJugador> getAsientos();
+
+    // --- Card composition (kept up to date incrementally) ---
+
+    /**
+     * @param valor A card value.
+     * @return How many cards of that value are on the table.
+     */
+    int getCartasEnMesa(Valor valor);
+
+    /**
+     * For analytics that may see everything: what a player cannot see is in {@link #getCartasSinVer}.
+     * @param valor A card value.
+     * @return How many cards of that value are in the deck.
+     */
+    int getCartasEnMazo(Valor valor);
+
+    /**
+     * @param jugador The player whose point of view is taken.
+     * @param valor A card value.
+     * @return How many cards of that value the player cannot see (in the deck or in other hands).
+     */
+    int getCartasSinVer(IJugador jugador, Valor valor);
+
+    /**
+     * @param jugador The player whose point of view is taken.
+     * @return How many cards the player cannot see (in the deck or in other hands).
+     */
+    int getCartasSinVer(IJugador jugador);
+
+    /**
+     * The exact chance, from a player's point of view, of drawing at least {@code minimo}
+     * cards with one of the given values in the next {@code robos} draws. Every card the
+     * player cannot see is equally likely to be in the deck.
+     * @param jugador The player whose point of view is taken.
+     * @param valores The wanted values.
+     * @param robos How many draws (no more than the cards left in the deck).
+     * @param minimo How many wanted cards, at least.
+     * @return The probability.
+     * @throws IllegalArgumentException if the deck holds fewer than {@code robos} cards.
+     */
+    double probabilidadRobar(IJugador jugador, Set<Valor> valores, int robos, int minimo);
+
+    /**
+     * @param jugador The player whose point of view is taken.
+     * @param valores The wanted values.
+     * @return The chance that the next card drawn has one of the values.
+     * @throws IllegalArgumentException if the deck is empty (the next card comes from a reshuffle).
+     */
+    default double probabilidadSiguienteRobo(IJugador jugador, Set<Valor> valores) {
+        return probabilidadRobar(jugador, valores, 1, 1);
+    }
+
+    /**
+     * A number that changes every time the game state changes.
+     * Two reads that return the same version saw the same position,
+     * which lets callers cache work done for a position cheaply.
+     * @return The current version.
+     */
+    long getVersion();
+}
\ No newline at end of file
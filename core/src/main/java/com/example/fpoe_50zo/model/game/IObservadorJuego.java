@@ -0,0 +1,70 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.player.IJugador;
+
+/**
+ * Listener for the changes of a game, registered with
+ * {@link IJuego#agregarObservador(IObservadorJuego)}.
+ *
+ * Each kind of event is a separate method with its data as parameters,
+ * so firing an event allocates nothing. Every method does nothing by
+ * default: implement only the ones you need.
+ *
+ * Events are delivered synchronously, on the thread that changed the game,
+ * after the change has been applied. Listeners must not modify the game.
+ */
+public interface IObservadorJuego {
+
+    /**
+     * A card was played onto the table.
+     *
+     * @param jugador The player who played it.
+     * @param carta The card played.
+     * @param valorJugado The value it added (1 or 10 for an Ace).
+     * @param sumaMesa The table sum after the play.
+     */
+    default void alJugarCarta(IJugador jugador, Carta carta, int valorJugado, int sumaMesa) {
+    }
+
+    /**
+     * A player drew a card from the deck.
+     *
+     * @param jugador The player who drew.
+     * @param carta The card drawn.
+     */
+    default void alRobarCarta(IJugador jugador, Carta carta) {
+    }
+
+    /**
+     * The deck ran out and the table (except its last card) was shuffled into it.
+     *
+     * @param cartasRebarajadas The number of cards moved from the table to the deck.
+     */
+    default void alRebarajar(int cartasRebarajadas) {
+    }
+
+    /**
+     * A player could not move and left the game. Their cards went to the bottom of the deck.
+     *
+     * @param jugador The eliminated player.
+     */
+    default void alEliminarJugador(IJugador jugador) {
+    }
+
+    /**
+     * The turn passed to another player.
+     *
+     * @param jugadorActual The player whose turn it is now.
+     */
+    default void alAvanzarTurno(IJugador jugadorActual) {
+    }
+
+    /**
+     * Only one player is left.
+     *
+     * @param ganador The winner.
+     */
+    default void alTerminarJuego(IJugador ganador) {
+    }
+}
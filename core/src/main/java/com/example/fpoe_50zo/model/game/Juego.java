@@ -0,0 +1,1030 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.deck.Hipergeometrica;
+import com.example.fpoe_50zo.model.deck.Mazo;
+import com.example.fpoe_50zo.model.exceptions.JugadaInvalidaException;
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+import com.example.fpoe_50zo.model.metricas.Metricas;
+import com.example.fpoe_50zo.model.player.Jugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.deck.IMazo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents the main "Cincuentazo" game engine.
+ * This class manages the game state, players, deck, and enforces all game rules.
+ * This is the core of the "Model" in the MVC architecture.
+ */
+public class Juego implements IJuego {
+
+    /** The values that lower the table sum when played (J, Q and K). */
+    public static final Set<Valor> VALORES_QUE_RESTAN;
+
+    /** Cards dealt to each player, and kept in hand while there are cards to draw. */
+    public static final int CARTAS_POR_MANO = 4;
+
+    private static final Valor[] VALORES = Valor.values();
+
+    static {
+        EnumSet<Valor> restan = EnumSet.noneOf(Valor.class);
+        for (Valor valor : VALORES) {
+            if (valor.getValorJuego() < 0) restan.add(valor);
+        }
+        VALORES_QUE_RESTAN = Collections.unmodifiableSet(restan);
+    }
+
+    private final IMazo mazo;
+    private final List<Carta> cartasEnMesa;
+
+    // Every player who started the game, in the original turn order (never shrinks)
+    private final List<IJugador> asientos;
+    // Seat of each player, by identity
+    private final Map<IJugador, Integer> asientoDe;
+
+    // The seats still in play and whose turn it is
+    private final AnilloTurnos turnos;
+
+    private int sumaMesa;
+
+    // Cards of each value on the table and in the whole game (deck, hands and table),
+    // by Valor ordinal. Cards never leave the game, so the totals only change when a
+    // game is started or restored; the table counts follow every play and reshuffle.
+    private final int[] mesaPorValor = new int[VALORES.length];
+    private final int[] totalPorValor = new int[VALORES.length];
+    private int totalCartas;
+
+    // Incremented by every change of the game state (see getVersion)
+    private long version;
+
+    // Listeners, replaced as a whole on every change (copy-on-write),
+    // so firing an event only walks an array and never allocates
+    private static final IObservadorJuego[] SIN_OBSERVADORES = new IObservadorJuego[0];
+    private volatile IObservadorJuego[] observadores = SIN_OBSERVADORES;
+
+    // --- Undo log for hacerJugada / deshacerJugada ---
+    // Primitive stack of move records (layout documented in hacerJugada),
+    // plus a stack with the players each record eliminated.
+    private int[] historial = new int[256];
+    private int topeHistorial;
+    private IJugador[] eliminadosHistorial = new IJugador[8];
+    private int topeEliminados;
+    private int jugadasDeshacibles;
+
+    /**
+     * Constructs a new game instance.
+     * Initializes the deck and player lists.
+     */
+    public Juego() {
+        this(new Mazo());
+    }
+
+    /**
+     * Constructs a new game instance whose deck is shuffled from a seed.
+     * The same seed and the same moves always reproduce the same game,
+     * including every reshuffle of the table.
+     *
+     * @param semilla The seed for the deck's random generator.
+     */
+    public Juego(long semilla) {
+        this(new Mazo(semilla));
+    }
+
+    /**
+     * Constructs a new game instance that plays with several decks shuffled
+     * together from a seed, for tables too large for a single deck
+     * (see {@link #barajasNecesarias(int)}). One deck plays like {@link #Juego(long)}.
+     *
+     * @param barajas The number of 52-card decks.
+     * @param semilla The seed for the deck's random generator.
+     */
+    public Juego(int barajas, long semilla) {
+        this(new Mazo(barajas, semilla));
+    }
+
+    /**
+     * Constructs a new game instance that plays with the given deck.
+     * Used by headless runners that need to control how the deck is built,
+     * e.g. to play with a {@link com.example.fpoe_50zo.model.deck.MazoCircular}.
+     *
+     * @param mazo The deck to play with (must not be null).
+     */
+    public Juego(IMazo mazo) {
+        this.mazo = Objects.requireNonNull(mazo, "Deck cannot be null");
+        this.cartasEnMesa = new ArrayList<>();
+        this.asientos = new ArrayList<>();
+        this.asientoDe = new IdentityHashMap<>();
+        this.turnos = new AnilloTurnos();
+        this.sumaMesa = 0;
+    }
+
+    /**
+     * @param numJugadores The players at the table.
+     * @return The fewest 52-card decks that can deal their hands and the starting card.
+     */
+    public static int barajasNecesarias(int numJugadores) {
+        int cartas = numJugadores * CARTAS_POR_MANO + 1;
+        return Math.max(1, (cartas + Carta.TOTAL_CARTAS - 1) / Carta.TOTAL_CARTAS);
+    }
+
+    /**
+     * Sets up and starts the game.
+     * Creates players, deals initial hands, and places the first card on the table.
+     *
+     * @param numMaquinas The number of AI players (at least 1; the deck must be large
+     *                    enough to deal every hand, see {@link #barajasNecesarias(int)}).
+     */
+    @Override
+    public void iniciarJuego(int numMaquinas) {
+        // 1. Create players
+        List<IJugador> participantes = new ArrayList<>();
+        participantes.add(new Jugador("Player 1", true)); // The Human
+        for (int i = 1; i <= numMaquinas; i++) {
+            participantes.add(new JugadorMaquina("CPU " + i));
+        }
+
+        iniciarJuego(participantes);
+    }
+
+    /**
+     * Sets up and starts the game with an explicit list of players.
+     * The first player in the list takes the first turn.
+     * Used for headless games where every seat is an AI.
+     * There is no upper limit on the number of players, as long as the deck can deal
+     * their hands; large tables play with several decks (e.g. {@code new Mazo(barajas, semilla)}).
+     *
+     * @param participantes The players, in turn order (at least 2).
+     * @throws IllegalArgumentException if there are fewer than 2 players, or too many for the deck.
+     */
+    @Override
+    public void iniciarJuego(List<? extends IJugador> participantes) {
+        Objects.requireNonNull(participantes, "Players cannot be null");
+        if (participantes.size() < 2) {
+            throw new IllegalArgumentException("A game needs at least 2 players.");
+        }
+        if (participantes.size() * CARTAS_POR_MANO + 1 > mazo.cartasRestantes()) {
+            throw new IllegalArgumentException("A deck of " + mazo.cartasRestantes() + " cards cannot deal "
+                    + participantes.size() + " hands; use " + barajasNecesarias(participantes.size()) + " decks.");
+        }
+        sentar(participantes);
+        cartasEnMesa.clear();
+        Arrays.fill(mesaPorValor, 0);
+        descartarHistorial();
+
+        // 2. Deal 4 cards to each player
+        for (int i = 0; i < CARTAS_POR_MANO; i++) {
+            for (IJugador jugador : asientos) {
+                try {
+                    jugador.tomarCarta(mazo);
+                } catch (MazoVacioException e) {
+                    // This should never happen on a fresh deck, but good to handle
+                    System.err.println("Error: Deck ran out during initial deal.");
+                }
+            }
+        }
+
+        // 3. Place the starting card and set initial sum
+        iniciarMesa();
+        contarCartas();
+
+        // 4. Set the turn to the first player (the human, in a normal game)
+        turnos.reiniciar(asientos.size());
+        version++;
+    }
+
+    /**
+     * Seats the players in the given order, every one of them in play.
+     */
+    private void sentar(List<? extends IJugador> participantes) {
+        asientos.clear();
+        asientos.addAll(participantes);
+        asientoDe.clear();
+        for (int asiento = 0; asiento < asientos.size(); asiento++) {
+            asientoDe.put(asientos.get(asiento), asiento);
+        }
+        turnos.reiniciar(asientos.size());
+    }
+
+    /**
+     * Helper method to place the first card on the table and set the initial sum
+     * according to the special starting rules.
+     */
+    private void iniciarMesa() {
+        try {
+            Carta cartaInicial = mazo.tomarCarta();
+            ponerEnMesa(cartaInicial);
+
+            // "Otras consideraciones" rules for starting sum:
+            if (cartaInicial.getValor().esAs()) {
+                this.sumaMesa = 1; // Rule: "1 (Carta con la letra A)"
+            } else if (cartaInicial.getValor() == Valor.NUEVE) {
+                this.sumaMesa = 0; // Rule: "0 (Carta con número 9)"
+            } else if (cartaInicial.getValorJuego() == -10) {
+                this.sumaMesa = -10; // Rule: " -10 (Cartas con las letras J, Q, K)"
+            } else {
+                // All other cards (2-8, 10) use their standard game value
+                this.sumaMesa = cartaInicial.getValorJuego();
+            }
+
+        } catch (MazoVacioException e) {
+            // Should be impossible here
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Attempts to play a non-Ace card for the current player.
+     *
+     * @param carta The card the player wants to play.
+     * @throws JugadaInvalidaException if the move is not allowed.
+     */
+
+    @Override
+    public void jugarCarta(Carta carta) {
+        ResultadoJugada resultado = tryJugarCarta(carta);
+        if (!resultado.esValida()) {
+            throw crearExcepcion(resultado, carta.getValorJuego());
+        }
+    }
+
+    /**
+     * Attempts to play an Ace card for the current player with a chosen value.
+     *
+     * @param carta The Ace card to play.
+     * @param valorElegido The value chosen by the player (must be 1 or 10).
+     * @throws JugadaInvalidaException if the move is not allowed.
+     */
+
+    @Override
+    public void jugarCartaAs(Carta carta, int valorElegido) {
+        ResultadoJugada resultado = tryJugarCartaAs(carta, valorElegido);
+        if (!resultado.esValida()) {
+            throw crearExcepcion(resultado, valorElegido);
+        }
+    }
+
+    /**
+     * Attempts to play a non-Ace card for the current player, without throwing.
+     *
+     * @param carta The card the player wants to play.
+     * @return VALIDA if the move was applied, otherwise the reason it was rejected.
+     */
+    @Override
+    public ResultadoJugada tryJugarCarta(Carta carta) {
+        Objects.requireNonNull(carta, "Card cannot be null");
+
+        if (carta.esAs()) {
+            return rechazar(ResultadoJugada.AS_REQUIERE_VALOR);
+        }
+
+        int valorJugado = carta.getValorJuego();
+        return procesarJugada(carta, valorJugado);
+    }
+
+    /**
+     * Attempts to play an Ace card for the current player with a chosen value,
+     * without throwing.
+     *
+     * @param carta The Ace card to play.
+     * @param valorElegido The value chosen by the player (must be 1 or 10).
+     * @return VALIDA if the move was applied, otherwise the reason it was rejected.
+     */
+    @Override
+    public ResultadoJugada tryJugarCartaAs(Carta carta, int valorElegido) {
+        Objects.requireNonNull(carta, "Card cannot be null");
+
+        if (!carta.esAs()) {
+            return rechazar(ResultadoJugada.NO_ES_AS);
+        }
+        if (valorElegido != 1 && valorElegido != 10) {
+            return rechazar(ResultadoJugada.VALOR_AS_INVALIDO);
+        }
+
+        return procesarJugada(carta, valorElegido);
+    }
+
+    /**
+     * Counts a move rejected by the classic move API (search moves are not counted).
+     */
+    private static ResultadoJugada rechazar(ResultadoJugada motivo) {
+        if (Metricas.ACTIVAS) {
+            Metricas.jugadaInvalida(motivo);
+        }
+        return motivo;
+    }
+
+    /**
+     * Builds the exception thrown by the classic move API for a rejected move.
+     * Only called after a rejection, so the table sum is still the one that was checked.
+     */
+    private JugadaInvalidaException crearExcepcion(ResultadoJugada resultado, int valorJugado) {
+        if (resultado == ResultadoJugada.EXCEDE_50) {
+            return new JugadaInvalidaException("Move exceeds 50. Sum: " + this.sumaMesa + ", Card: " + valorJugado);
+        }
+        return new JugadaInvalidaException(resultado.getMensaje());
+    }
+
+    /**
+     * Private helper to process the logic common to all plays.
+     * 1. Validates the move
+     * 2. Updates game state
+     * 3. Makes player draw a new card
+     *
+     * @return VALIDA if the move was applied, otherwise the reason it was rejected.
+     */
+    private ResultadoJugada procesarJugada(Carta carta, int valorJugado) {
+        IJugador jugadorActual = getJugadorActual();
+
+        // 1. Validation (a rejected move changes nothing, so it keeps the undo history)
+        if (!jugadorActual.tieneCarta(carta)) {
+            return rechazar(ResultadoJugada.CARTA_NO_EN_MANO);
+        }
+        if (this.sumaMesa + valorJugado > 50) {
+            return rechazar(ResultadoJugada.EXCEDE_50);
+        }
+        descartarHistorial();
+
+        // 2. Execution: Update game state
+        jugadorActual.jugarCarta(carta);
+        ponerEnMesa(carta);
+        this.sumaMesa += valorJugado;
+        notificarCartaJugada(jugadorActual, carta, valorJugado);
+        if (Metricas.ACTIVAS) {
+            Metricas.turno(jugadorActual, carta, valorJugado, this.sumaMesa);
+        }
+
+        // 3. Execution: Player draws a new card (Rule: "siempre... 4 cartas")
+        robarCartaPara(jugadorActual);
+        version++;
+        return ResultadoJugada.VALIDA;
+    }
+
+    /**
+     * Makes the specified player draw one card, handling deck-empty logic.
+     * An empty deck is a normal event here, so it is detected without exceptions.
+     * @param jugador The player who needs to draw.
+     */
+    private void robarCartaPara(IJugador jugador) {
+        Carta robada = mazo.intentarTomarCarta();
+        if (robada == null) {
+            // Rule: "Si las cartas del mazo se terminan..."
+            int rebarajadas = gestionarMazoVacio();
+            if (Metricas.ACTIVAS && rebarajadas > 0) {
+                Metricas.rebarajado(rebarajadas);
+            }
+            // Retry drawing after reshuffle
+            robada = mazo.intentarTomarCarta();
+        }
+        if (robada == null) {
+            // This can happen if table was also empty (e.g., only 1 card)
+            // In this rare case, the player simply cannot draw.
+            if (Metricas.ACTIVAS) {
+                Metricas.mazoAgotado();
+            }
+            System.err.println("Failed to draw card after reshuffle. No cards available.");
+            return;
+        }
+        // Same as drawing it: the new card goes to the end of the hand
+        jugador.devolverCarta(jugador.getCartasEnMano(), robada);
+        notificarCartaRobada(jugador, robada);
+    }
+
+    /**
+     * Manages the "deck is empty" rule.
+     * Takes all cards from the table except the last one,
+     * adds them to the deck, and shuffles.
+     *
+     * @return The number of cards shuffled back (0 if the table had nothing to spare).
+     */
+    private int gestionarMazoVacio() {
+        if (cartasEnMesa.size() <= 1) {
+            // Cannot reshuffle if there's only one card (or zero) on the table.
+            return 0;
+        }
+
+        // 1. Get all cards from the table except the last played one
+        List<Carta> cartasARebarajar = this.cartasEnMesa.subList(0, this.cartasEnMesa.size() - 1);
+
+        // 2. Add them to the deck ("excepto la última jugada")
+        this.mazo.agregarAlFinal(cartasARebarajar);
+        int rebarajadas = cartasARebarajar.size();
+
+        // 3. Clear them from the table, leaving only the last card
+        cartasARebarajar.clear();
+        Arrays.fill(mesaPorValor, 0);
+        mesaPorValor[cartasEnMesa.get(0).getValor().ordinal()]++;
+
+        // 4. Shuffle
+        this.mazo.barajar();
+        notificarRebarajado(rebarajadas);
+        return rebarajadas;
+    }
+
+    /**
+     * Checks if the current player has any valid move.
+     * If not, the player is eliminated.
+     *
+     * @return true if the player can play, false if they were eliminated.
+     */
+
+    @Override
+    public boolean revisarEstadoJugadorActual() {
+        IJugador jugador = getJugadorActual();
+
+        if (!jugador.puedeJugar(this.sumaMesa)) {
+            // Rule: "quedará eliminado"
+            descartarHistorial();
+            eliminarJugador(turnos.getActual());
+            if (Metricas.ACTIVAS) {
+                Metricas.eliminacion();
+            }
+            version++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Eliminates a player from the game and returns their cards to the deck.
+     * Taking the seat out of the turn ring is O(1); if it had the turn,
+     * the turn goes to the next seat still in play.
+     * @param asiento The seat of the player to eliminate.
+     */
+    private void eliminarJugador(int asiento) {
+        IJugador jugador = asientos.get(asiento);
+        // Rule: "Las cartas del jugador eliminado deben enviarse al final del mazo"
+        List<Carta> manoEliminada = jugador.dejarMano();
+        for (Carta carta : manoEliminada) {
+            mazo.agregarAlFinal(carta);
+        }
+
+        turnos.quitar(asiento);
+
+        notificarEliminacion(jugador);
+        if (isJuegoTerminado()) {
+            notificarFinDeJuego(getGanador());
+        }
+    }
+
+    /**
+     * Advances the turn to the next player still in the game, in seat order.
+     */
+
+    @Override
+    public void siguienteTurno() {
+        if (turnos.getVivos() == 0) return; // Game over
+
+        descartarHistorial();
+        turnos.avanzar();
+        version++;
+        notificarTurno(getJugadorActual());
+    }
+
+    /**
+     * Passes the turn to the next player who can move, eliminating
+     * on the way every player who cannot.
+     * After an elimination the turn already points at the following player,
+     * so nobody is skipped.
+     *
+     * @return true if the game goes on, false if it has ended.
+     */
+    @Override
+    public boolean pasarTurno() {
+        if (isJuegoTerminado()) return false;
+
+        siguienteTurno();
+        while (!isJuegoTerminado() && !revisarEstadoJugadorActual()) {
+            // The eliminated player's seat is taken by the next one: check them too
+        }
+        return !isJuegoTerminado();
+    }
+
+    /**
+     * Checks if the game has ended (only one player remains).
+     * @return true if the game is over, false otherwise.
+     */
+
+    @Override
+    public boolean isJuegoTerminado() {
+        return turnos.getVivos() <= 1;
+    }
+
+    // --- Reversible moves (for game-tree search) ---
+
+    /**
+     * Plays a full turn for the current player and records how to undo it.
+     * The turn covers the play, the replacement draw (with a reshuffle if the
+     * deck is empty), passing the turn, and eliminating every following
+     * player who cannot move. {@link #deshacerJugada()} restores the exact
+     * previous position, except for the state of the deck's random generator.
+     *
+     * Only the minimal undo information is recorded, on a primitive stack,
+     * so search code can walk a game tree on one shared Juego. Calling any of
+     * the classic mutating methods (jugarCarta, siguienteTurno, ...)
+     * discards the recorded history. Listeners are told about the move
+     * like about any other, but not about its undo.
+     *
+     * @param carta The card to play.
+     * @param valorAs The value of the card if it is an Ace (1 or 10); ignored otherwise.
+     * @return VALIDA if the move was applied, otherwise the reason it was rejected
+     *         (nothing is recorded in that case).
+     */
+    public ResultadoJugada hacerJugada(Carta carta, int valorAs) {
+        Objects.requireNonNull(carta, "Card cannot be null");
+
+        int valorJugado = carta.getValorJuego();
+        if (carta.esAs()) {
+            if (valorAs != 1 && valorAs != 10) {
+                return ResultadoJugada.VALOR_AS_INVALIDO;
+            }
+            valorJugado = valorAs;
+        }
+
+        IJugador jugadorActual = getJugadorActual();
+        int posicion = jugadorActual.posicionEnMano(carta);
+        if (posicion < 0) {
+            return ResultadoJugada.CARTA_NO_EN_MANO;
+        }
+        if (this.sumaMesa + valorJugado > 50) {
+            return ResultadoJugada.EXCEDE_50;
+        }
+
+        // Record layout, pushed in this order and popped in reverse:
+        // [asiento, suma, carta, posicion] [mesa t0..tk-1, k] [robada | -1]
+        // ([mano h0..hm-1, m, asiento] per elimination) [eliminaciones]
+        apilar(turnos.getActual());
+        apilar(this.sumaMesa);
+        apilar(carta.getCodigo());
+        apilar(posicion);
+
+        // 1. Play the card
+        jugadorActual.jugarCarta(carta);
+        ponerEnMesa(carta);
+        this.sumaMesa += valorJugado;
+        notificarCartaJugada(jugadorActual, carta, valorJugado);
+
+        // 2. Draw a replacement, recording the table if it has to be reshuffled
+        Carta robada = mazo.intentarTomarCarta();
+        if (robada == null) {
+            int rebarajadas = Math.max(0, cartasEnMesa.size() - 1);
+            for (int i = 0; i < rebarajadas; i++) {
+                apilar(cartasEnMesa.get(i).getCodigo());
+            }
+            apilar(rebarajadas);
+            gestionarMazoVacio();
+            robada = mazo.intentarTomarCarta();
+        } else {
+            apilar(0);
+        }
+        if (robada != null) {
+            jugadorActual.devolverCarta(jugadorActual.getCartasEnMano(), robada);
+            notificarCartaRobada(jugadorActual, robada);
+        }
+        apilar(robada == null ? -1 : robada.getCodigo());
+
+        // 3. Pass the turn and eliminate every player who cannot move
+        turnos.avanzar();
+        notificarTurno(getJugadorActual());
+        int eliminaciones = 0;
+        while (!isJuegoTerminado() && !getJugadorActual().puedeJugar(this.sumaMesa)) {
+            IJugador eliminado = getJugadorActual();
+            int tamanoMano = eliminado.getCartasEnMano();
+            for (Carta c : eliminado.getMano()) {
+                apilar(c.getCodigo());
+            }
+            apilar(tamanoMano);
+            apilar(turnos.getActual());
+            apilarEliminado(eliminado);
+            eliminarJugador(turnos.getActual());
+            eliminaciones++;
+        }
+        apilar(eliminaciones);
+
+        jugadasDeshacibles++;
+        version++;
+        return ResultadoJugada.VALIDA;
+    }
+
+    /**
+     * Undoes the last move made with {@link #hacerJugada(Carta, int)}.
+     *
+     * @throws IllegalStateException if there is no recorded move to undo.
+     */
+    public void deshacerJugada() {
+        if (jugadasDeshacibles == 0) {
+            throw new IllegalStateException("There is no move to undo.");
+        }
+        jugadasDeshacibles--;
+
+        // 3. Bring back the eliminated players, last one first (the order the ring needs)
+        int eliminaciones = desapilar();
+        for (int e = 0; e < eliminaciones; e++) {
+            int asiento = desapilar();
+            int tamanoMano = desapilar();
+            IJugador eliminado = desapilarEliminado();
+            // Their cards were added to the bottom one by one: the last one is the bottom card
+            for (int i = 0; i < tamanoMano; i++) {
+                mazo.quitarDelFinal();
+            }
+            for (int i = tamanoMano - 1; i >= 0; i--) {
+                eliminado.devolverCarta(0, Carta.desdeCodigo(desapilar()));
+            }
+            turnos.reponer(asiento);
+        }
+
+        int robada = desapilar();
+        int rebarajadas = desapilar();
+
+        // 2. Undo the reshuffle: the deck holds exactly the reshuffled cards again
+        // (it was empty before), so clear it and rebuild the table in its old order
+        if (rebarajadas > 0) {
+            mazo.vaciar();
+            for (int i = 0; i < rebarajadas; i++) {
+                Carta carta = Carta.desdeCodigo(desapilar());
+                cartasEnMesa.add(0, carta);
+                mesaPorValor[carta.getValor().ordinal()]++;
+            }
+        }
+
+        int posicion = desapilar();
+        Carta jugada = Carta.desdeCodigo(desapilar());
+        this.sumaMesa = desapilar();
+        turnos.setActual(desapilar());
+        IJugador jugador = getJugadorActual();
+
+        // Return the drawn card (to the top of the deck, unless it came from the reshuffle)
+        if (robada >= 0) {
+            Carta carta = Carta.desdeCodigo(robada);
+            quitarUltimaCarta(jugador, carta);
+            if (rebarajadas == 0) {
+                mazo.devolverArriba(carta);
+            }
+        }
+
+        // 1. Take the card back from the table into its old place in the hand
+        cartasEnMesa.remove(cartasEnMesa.size() - 1);
+        mesaPorValor[jugada.getValor().ordinal()]--;
+        jugador.devolverCarta(posicion, jugada);
+        version++;
+    }
+
+    /**
+     * Removes the card a player drew last, which is the last card of their hand.
+     * With several decks an identical card may come earlier in the hand, and
+     * jugarCarta would remove that one instead, so the hand is rebuilt without it.
+     */
+    private static void quitarUltimaCarta(IJugador jugador, Carta carta) {
+        if (jugador.posicionEnMano(carta) == jugador.getCartasEnMano() - 1) {
+            jugador.jugarCarta(carta);
+            return;
+        }
+        List<Carta> mano = jugador.dejarMano();
+        for (int i = 0; i < mano.size() - 1; i++) {
+            jugador.devolverCarta(i, mano.get(i));
+        }
+    }
+
+    /**
+     * @return The number of moves that {@link #deshacerJugada()} can still undo.
+     */
+    public int getJugadasDeshacibles() {
+        return jugadasDeshacibles;
+    }
+
+    private void apilar(int valor) {
+        if (topeHistorial == historial.length) {
+            historial = Arrays.copyOf(historial, historial.length * 2);
+        }
+        historial[topeHistorial++] = valor;
+    }
+
+    private int desapilar() {
+        return historial[--topeHistorial];
+    }
+
+    private void apilarEliminado(IJugador jugador) {
+        if (topeEliminados == eliminadosHistorial.length) {
+            eliminadosHistorial = Arrays.copyOf(eliminadosHistorial, eliminadosHistorial.length * 2);
+        }
+        eliminadosHistorial[topeEliminados++] = jugador;
+    }
+
+    private IJugador desapilarEliminado() {
+        IJugador jugador = eliminadosHistorial[--topeEliminados];
+        eliminadosHistorial[topeEliminados] = null;
+        return jugador;
+    }
+
+    /**
+     * Forgets every recorded move. Called by the classic mutating methods,
+     * whose changes are not recorded and would make the old records wrong.
+     */
+    private void descartarHistorial() {
+        if (jugadasDeshacibles == 0 && topeEliminados == 0) return;
+        Arrays.fill(eliminadosHistorial, 0, topeEliminados, null);
+        topeEliminados = 0;
+        topeHistorial = 0;
+        jugadasDeshacibles = 0;
+    }
+
+    // --- Card composition ---
+
+    private void ponerEnMesa(Carta carta) {
+        cartasEnMesa.add(carta);
+        mesaPorValor[carta.getValor().ordinal()]++;
+    }
+
+    /**
+     * Counts every card in the game by value, once it is dealt or restored.
+     */
+    private void contarCartas() {
+        totalCartas = 0;
+        for (Valor valor : VALORES) {
+            int total = mazo.contarValor(valor) + mesaPorValor[valor.ordinal()];
+            for (IJugador jugador : asientos) {
+                total += jugador.contarValor(valor);
+            }
+            totalPorValor[valor.ordinal()] = total;
+            totalCartas += total;
+        }
+    }
+
+    @Override
+    public int getCartasEnMesa(Valor valor) {
+        return mesaPorValor[valor.ordinal()];
+    }
+
+    @Override
+    public int getCartasEnMazo(Valor valor) {
+        return mazo.contarValor(valor);
+    }
+
+    @Override
+    public int getCartasSinVer(IJugador jugador, Valor valor) {
+        return totalPorValor[valor.ordinal()] - mesaPorValor[valor.ordinal()] - jugador.contarValor(valor);
+    }
+
+    @Override
+    public int getCartasSinVer(IJugador jugador) {
+        return totalCartas - cartasEnMesa.size() - jugador.getCartasEnMano();
+    }
+
+    @Override
+    public double probabilidadRobar(IJugador jugador, Set<Valor> valores, int robos, int minimo) {
+        Objects.requireNonNull(valores, "Values cannot be null");
+        if (robos > mazo.cartasRestantes()) {
+            throw new IllegalArgumentException("The deck only has " + mazo.cartasRestantes() + " cards left.");
+        }
+        int buscadas = 0;
+        for (Valor valor : valores) {
+            buscadas += getCartasSinVer(jugador, valor);
+        }
+        return Hipergeometrica.probabilidadAlMenos(getCartasSinVer(jugador), buscadas, robos, minimo);
+    }
+
+    // --- Snapshots ---
+
+    /**
+     * Takes a compact, immutable snapshot of the current position.
+     * Seats are numbered in the order the players started the game.
+     *
+     * @return The snapshot.
+     * @throws IllegalStateException if the game has not been started, or has more
+     *         seats than a snapshot holds ({@link EstadoJuego#MAX_ASIENTOS}).
+     */
+    @Override
+    public EstadoJuego exportarEstado() {
+        if (asientos.isEmpty()) {
+            throw new IllegalStateException("The game has not been started.");
+        }
+        if (asientos.size() > EstadoJuego.MAX_ASIENTOS) {
+            throw new IllegalStateException("Snapshots hold at most " + EstadoJuego.MAX_ASIENTOS + " seats.");
+        }
+
+        int[] codigosMazo = new int[mazo.cartasRestantes()];
+        for (int i = 0; i < codigosMazo.length; i++) {
+            codigosMazo[i] = mazo.codigoEn(i);
+        }
+
+        int[][] manos = new int[asientos.size()][];
+        for (int asiento = 0; asiento < manos.length; asiento++) {
+            List<Carta> mano = asientos.get(asiento).getMano();
+            manos[asiento] = new int[mano.size()];
+            for (int i = 0; i < mano.size(); i++) {
+                manos[asiento][i] = mano.get(i).getCodigo();
+            }
+        }
+
+        int[] codigosMesa = new int[cartasEnMesa.size()];
+        for (int i = 0; i < codigosMesa.length; i++) {
+            codigosMesa[i] = cartasEnMesa.get(i).getCodigo();
+        }
+
+        long vivos = 0;
+        for (int asiento = 0; asiento < asientos.size(); asiento++) {
+            if (turnos.estaEnJuego(asiento)) vivos |= 1L << asiento;
+        }
+        int turno = Math.max(0, turnos.getActual());
+
+        return new EstadoJuego(codigosMazo, manos, codigosMesa, sumaMesa, turno, vivos);
+    }
+
+    /**
+     * Puts this game back into a position taken with {@link #exportarEstado()}.
+     * The snapshot may come from another game with the same number of seats:
+     * the players of this game keep their identity and only their cards change.
+     * The recorded undo history is discarded.
+     *
+     * @param estado The position to restore.
+     * @throws IllegalArgumentException if the snapshot has a different number of seats.
+     */
+    public void restaurarEstado(EstadoJuego estado) {
+        Objects.requireNonNull(estado, "State cannot be null");
+        if (estado.getNumAsientos() != asientos.size()) {
+            throw new IllegalArgumentException("The state has " + estado.getNumAsientos()
+                    + " seats, but this game has " + asientos.size() + ".");
+        }
+        descartarHistorial();
+
+        // Deck, from the bottom up
+        mazo.vaciar();
+        for (int i = 0; i < estado.getCartasEnMazo(); i++) {
+            mazo.devolverArriba(Carta.desdeCodigo(estado.getCodigoMazo(i)));
+        }
+
+        // Hands and the players still in the game; the turn falls back to
+        // the first seat in play if the snapshot's is out
+        turnos.reiniciar(asientos.size());
+        for (int asiento = 0; asiento < asientos.size(); asiento++) {
+            IJugador jugador = asientos.get(asiento);
+            jugador.dejarMano();
+            for (int i = 0; i < estado.getCartasEnMano(asiento); i++) {
+                jugador.devolverCarta(i, Carta.desdeCodigo(estado.getCodigoMano(asiento, i)));
+            }
+        }
+        for (int asiento = asientos.size() - 1; asiento >= 0; asiento--) {
+            if (!estado.estaVivo(asiento)) turnos.quitar(asiento);
+        }
+        if (turnos.estaEnJuego(estado.getTurno())) {
+            turnos.setActual(estado.getTurno());
+        }
+
+        cartasEnMesa.clear();
+        Arrays.fill(mesaPorValor, 0);
+        for (int i = 0; i < estado.getCartasEnMesa(); i++) {
+            ponerEnMesa(Carta.desdeCodigo(estado.getCodigoMesa(i)));
+        }
+        contarCartas();
+        this.sumaMesa = estado.getSumaMesa();
+        version++;
+    }
+
+    /**
+     * Replaces the players of this game and puts it into a snapshot's position,
+     * without dealing any cards. Used by search code that mirrors a position
+     * on a private game with its own players.
+     *
+     * @param estado The position to restore.
+     * @param participantes One player per seat of the snapshot, in seat order.
+     * @throws IllegalArgumentException if the number of players does not match the snapshot.
+     */
+    public void restaurarEstado(EstadoJuego estado, List<? extends IJugador> participantes) {
+        Objects.requireNonNull(estado, "State cannot be null");
+        Objects.requireNonNull(participantes, "Players cannot be null");
+        if (participantes.size() != estado.getNumAsientos()) {
+            throw new IllegalArgumentException("The state has " + estado.getNumAsientos()
+                    + " seats, but " + participantes.size() + " players were given.");
+        }
+        sentar(participantes);
+        restaurarEstado(estado);
+    }
+
+    // --- Listeners ---
+
+    @Override
+    public synchronized void agregarObservador(IObservadorJuego observador) {
+        Objects.requireNonNull(observador, "Listener cannot be null");
+        IObservadorJuego[] nuevos = Arrays.copyOf(observadores, observadores.length + 1);
+        nuevos[nuevos.length - 1] = observador;
+        observadores = nuevos;
+    }
+
+    @Override
+    public synchronized void quitarObservador(IObservadorJuego observador) {
+        IObservadorJuego[] actuales = observadores;
+        for (int i = 0; i < actuales.length; i++) {
+            if (actuales[i] == observador) {
+                IObservadorJuego[] nuevos = new IObservadorJuego[actuales.length - 1];
+                System.arraycopy(actuales, 0, nuevos, 0, i);
+                System.arraycopy(actuales, i + 1, nuevos, i, nuevos.length - i);
+                observadores = nuevos.length == 0 ? SIN_OBSERVADORES : nuevos;
+                return;
+            }
+        }
+    }
+
+    private void notificarCartaJugada(IJugador jugador, Carta carta, int valorJugado) {
+        for (IObservadorJuego observador : observadores) {
+            observador.alJugarCarta(jugador, carta, valorJugado, sumaMesa);
+        }
+    }
+
+    private void notificarCartaRobada(IJugador jugador, Carta carta) {
+        for (IObservadorJuego observador : observadores) {
+            observador.alRobarCarta(jugador, carta);
+        }
+    }
+
+    private void notificarRebarajado(int cartasRebarajadas) {
+        for (IObservadorJuego observador : observadores) {
+            observador.alRebarajar(cartasRebarajadas);
+        }
+    }
+
+    private void notificarEliminacion(IJugador jugador) {
+        for (IObservadorJuego observador : observadores) {
+            observador.alEliminarJugador(jugador);
+        }
+    }
+
+    private void notificarTurno(IJugador jugadorActual) {
+        for (IObservadorJuego observador : observadores) {
+            observador.alAvanzarTurno(jugadorActual);
+        }
+    }
+
+    private void notificarFinDeJuego(IJugador ganador) {
+        for (IObservadorJuego observador : observadores) {
+            observador.alTerminarJuego(ganador);
+        }
+    }
+
+    // --- Getters for the Controller ---
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public List<IJugador> getAsientos() {
+        return Collections.unmodifiableList(asientos);
+    }
+
+    @Override
+    public IJugador getJugadorActual() {
+        int actual = turnos.getActual();
+        return actual < 0 ? null : asientos.get(actual);
+    }
+
+    @Override
+    public int getSumaMesa() {
+        return sumaMesa;
+    }
+
+    /**
+     * Lists the players still in the game, in seat order. Walks every seat,
+     * so code that runs on every turn should ask {@link #estaEnJuego(IJugador)}.
+     */
+    @Override
+    public List<IJugador> getJugadores() {
+        List<IJugador> enJuego = new ArrayList<>(turnos.getVivos());
+        for (int asiento = 0; asiento < asientos.size(); asiento++) {
+            if (turnos.estaEnJuego(asiento)) enJuego.add(asientos.get(asiento));
+        }
+        return Collections.unmodifiableList(enJuego);
+    }
+
+    @Override
+    public boolean estaEnJuego(IJugador jugador) {
+        Integer asiento = asientoDe.get(jugador);
+        return asiento != null && turnos.estaEnJuego(asiento);
+    }
+
+    @Override
+    public Carta getUltimaCartaJugada() {
+        if (cartasEnMesa.isEmpty()) return null;
+        return cartasEnMesa.get(cartasEnMesa.size() - 1);
+    }
+
+    @Override
+    public IJugador getGanador() {
+        if (isJuegoTerminado()) {
+            return getJugadorActual();
+        }
+        return null;
+    }
+}
\ No newline at end of file
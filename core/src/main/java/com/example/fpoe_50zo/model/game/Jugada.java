@@ -0,0 +1,113 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.card.Carta;
+
+import java.util.Objects;
+
+/**
+ * A complete move: the card to play and, for an Ace, the value it takes.
+ *
+ * Every possible move is a shared instance (52 cards, plus the second
+ * value of each Ace), so choosing a move allocates nothing. A move can
+ * also be encoded as a small int: the card code, plus {@link #AS_COMO_DIEZ}
+ * when an Ace counts as 10.
+ */
+public final class Jugada {
+
+    /** Bit set in an encoded move when the Ace is played as 10. */
+    public static final int AS_COMO_DIEZ = 1 << 6;
+
+    /** Mask that extracts the card code from an encoded move. */
+    public static final int MASCARA_CODIGO = AS_COMO_DIEZ - 1;
+
+    // [codigo] and [codigo | AS_COMO_DIEZ]; the second half is only filled for Aces
+    private static final Jugada[] JUGADAS = new Jugada[2 * AS_COMO_DIEZ];
+
+    static {
+        for (int codigo = 0; codigo < Carta.TOTAL_CARTAS; codigo++) {
+            Carta carta = Carta.desdeCodigo(codigo);
+            if (carta.esAs()) {
+                JUGADAS[codigo] = new Jugada(carta, 1);
+                JUGADAS[codigo | AS_COMO_DIEZ] = new Jugada(carta, 10);
+            } else {
+                JUGADAS[codigo] = new Jugada(carta, carta.getValorJuego());
+            }
+        }
+    }
+
+    private final Carta carta;
+    private final int valor;
+
+    private Jugada(Carta carta, int valor) {
+        this.carta = carta;
+        this.valor = valor;
+    }
+
+    /**
+     * Returns the move that plays a card.
+     *
+     * @param carta The card to play.
+     * @param valorAs The value of the card if it is an Ace (1 or 10); ignored otherwise.
+     * @return The shared instance for that move.
+     * @throws IllegalArgumentException if the card is an Ace and the value is not 1 or 10.
+     */
+    public static Jugada de(Carta carta, int valorAs) {
+        Objects.requireNonNull(carta, "Card cannot be null");
+        if (!carta.esAs()) {
+            return JUGADAS[carta.getCodigo()];
+        }
+        if (valorAs != 1 && valorAs != 10) {
+            throw new IllegalArgumentException("Ace value must be 1 or 10.");
+        }
+        return JUGADAS[carta.getCodigo() | (valorAs == 10 ? AS_COMO_DIEZ : 0)];
+    }
+
+    /**
+     * Returns the move with the given encoding.
+     *
+     * @param codigo A value returned by {@link #getCodigo()}.
+     * @return The shared instance for that move.
+     * @throws IllegalArgumentException if the code does not encode a move.
+     */
+    public static Jugada desdeCodigo(int codigo) {
+        Jugada jugada = (codigo >= 0 && codigo < JUGADAS.length) ? JUGADAS[codigo] : null;
+        if (jugada == null) {
+            throw new IllegalArgumentException("Invalid move code: " + codigo);
+        }
+        return jugada;
+    }
+
+    /**
+     * Plays this move for the current player of a game.
+     *
+     * @param juego The game to play in.
+     * @return VALIDA if the move was applied, otherwise the reason it was rejected.
+     */
+    public ResultadoJugada aplicar(IJuego juego) {
+        return carta.esAs() ? juego.tryJugarCartaAs(carta, valor) : juego.tryJugarCarta(carta);
+    }
+
+    public Carta getCarta() {
+        return carta;
+    }
+
+    /**
+     * @return The value this move adds to the table sum.
+     */
+    public int getValor() {
+        return valor;
+    }
+
+    /**
+     * @return The move encoded as the card code, plus {@link #AS_COMO_DIEZ}
+     *         when an Ace counts as 10.
+     */
+    public int getCodigo() {
+        return carta.getCodigo() | (carta.esAs() && valor == 10 ? AS_COMO_DIEZ : 0);
+    }
+
+    @Override
+    public String toString() {
+        return carta.esAs() ? carta + " (" + valor + ")" : carta.toString();
+    }
+}
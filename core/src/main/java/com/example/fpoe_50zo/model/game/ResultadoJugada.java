@@ -0,0 +1,48 @@
+package com.example.fpoe_50zo.model.game;
+
+/**
+ * Outcome of an attempted move, returned by the non-throwing move API
+ * ({@link IJuego#tryJugarCarta} and {@link IJuego#tryJugarCartaAs}).
+ * Enum constants are shared singletons, so reporting a rejection
+ * allocates nothing and captures no stack trace.
+ */
+public enum ResultadoJugada {
+
+    /** The move was valid and has been applied. */
+    VALIDA("Valid move."),
+
+    /** An Ace was passed to the method for regular cards. */
+    AS_REQUIERE_VALOR("Aces must be played using jugarCartaAs()"),
+
+    /** A regular card was passed to the method for Aces. */
+    NO_ES_AS("This method is only for playing Aces."),
+
+    /** The chosen Ace value is neither 1 nor 10. */
+    VALOR_AS_INVALIDO("Ace value must be 1 or 10."),
+
+    /** The current player does not hold the card. */
+    CARTA_NO_EN_MANO("Player does not have that card."),
+
+    /** Playing the card would take the table sum above 50. */
+    EXCEDE_50("Move exceeds 50.");
+
+    private final String mensaje;
+
+    ResultadoJugada(String mensaje) {
+        this.mensaje = mensaje;
+    }
+
+    /**
+     * @return A description of the outcome, suitable for an exception message.
+     */
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    /**
+     * @return true if the move was applied.
+     */
+    public boolean esValida() {
+        return this == VALIDA;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Palo;
+
+import java.util.Objects;
+
+/**
+ * Suit symmetry of game positions.
+ *
+ * No rule of the game looks at a card's suit, only at its value, so renaming the
+ * suits of a position (say Hearts to Spades and Spades to Hearts, in the deck, the
+ * hands and the table alike) gives a position with the same outcome. Each position
+ * has up to 24 such variants; caches, solvers and tablebases can store one entry for
+ * all of them by keying on the canonical variant.
+ *
+ * A suit permutation is packed in an int, two bits per suit: bits {@code 2p..2p+1}
+ * hold the suit (ordinal) that suit {@code p} becomes.
+ *
+ * The canonical variant renames the suits in order of first appearance: the first
+ * suit met while scanning the position's cards becomes Hearts, the next new one
+ * Diamonds, and so on; suits that never appear take the remaining names in order.
+ * An instance does that scan incrementally, one card at a time and without
+ * allocating, so search code can canonicalise its own representation on every node.
+ * Instances are not thread-safe.
+ */
+public final class SimetriaPalos {
+
+    public static final int NUM_PALOS = Palo.values().length;
+
+    /** The permutation that leaves every suit alone. */
+    public static final int IDENTIDAD = 0b11_10_01_00;
+
+    private static final int VALORES_POR_PALO = Carta.TOTAL_CARTAS / NUM_PALOS;
+
+    // One bit per original suit that already has a canonical name
+    private int asignados;
+    // Canonical names given so far, packed like a permutation
+    private int permutacion;
+    private int siguiente;
+
+    /**
+     * Creates a canonicaliser with no suit named yet.
+     */
+    public SimetriaPalos() {
+        reiniciar();
+    }
+
+    /**
+     * Forgets every name given, to start scanning a new position.
+     */
+    public void reiniciar() {
+        asignados = 0;
+        permutacion = 0;
+        siguiente = 0;
+    }
+
+    /**
+     * Renames the suit of the next card of the scan, naming it first if it is new.
+     *
+     * @param codigo The card code, in the original suits.
+     * @return The card code in the canonical suits.
+     */
+    public int canonizar(int codigo) {
+        int palo = codigo / VALORES_POR_PALO;
+        if ((asignados & (1 << palo)) == 0) {
+            asignados |= 1 << palo;
+            permutacion |= siguiente++ << (2 * palo);
+        }
+        return ((permutacion >>> (2 * palo)) & 3) * VALORES_POR_PALO + codigo % VALORES_POR_PALO;
+    }
+
+    /**
+     * @param palo A suit ordinal.
+     * @return true if a card of that suit has been scanned since the last reset.
+     */
+    public boolean estaAsignado(int palo) {
+        return (asignados & (1 << palo)) != 0;
+    }
+
+    /**
+     * @return The permutation from the original suits to the canonical ones; suits
+     *         not scanned yet take the remaining names in suit order.
+     */
+    public int getPermutacion() {
+        int completa = permutacion;
+        int nombre = siguiente;
+        for (int palo = 0; palo < NUM_PALOS; palo++) {
+            if ((asignados & (1 << palo)) == 0) {
+                completa |= nombre++ << (2 * palo);
+            }
+        }
+        return completa;
+    }
+
+    // --- Permutations ---
+
+    /**
+     * @param permutacion A packed suit permutation.
+     * @param palo A suit ordinal.
+     * @return The suit ordinal that palo becomes.
+     */
+    public static int palo(int permutacion, int palo) {
+        return (permutacion >>> (2 * palo)) & 3;
+    }
+
+    /**
+     * @param permutacion A packed suit permutation.
+     * @return The permutation that undoes it.
+     */
+    public static int invertir(int permutacion) {
+        int inversa = 0;
+        for (int palo = 0; palo < NUM_PALOS; palo++) {
+            inversa |= palo << (2 * palo(permutacion, palo));
+        }
+        return inversa;
+    }
+
+    /**
+     * @param primera The permutation applied first.
+     * @param segunda The permutation applied next.
+     * @return The permutation equivalent to applying both.
+     */
+    public static int componer(int primera, int segunda) {
+        int compuesta = 0;
+        for (int palo = 0; palo < NUM_PALOS; palo++) {
+            compuesta |= palo(segunda, palo(primera, palo)) << (2 * palo);
+        }
+        return compuesta;
+    }
+
+    /**
+     * @param permutacion A packed suit permutation.
+     * @param codigo A card code.
+     * @return The code of the same value in the permuted suit.
+     */
+    public static int permutarCarta(int permutacion, int codigo) {
+        return palo(permutacion, codigo / VALORES_POR_PALO) * VALORES_POR_PALO + codigo % VALORES_POR_PALO;
+    }
+
+    /**
+     * @param permutacion A packed suit permutation.
+     * @param codigo A move code ({@link Jugada#getCodigo()}).
+     * @return The code of the same move with the card's suit permuted.
+     */
+    public static int permutarJugada(int permutacion, int codigo) {
+        return permutarCarta(permutacion, codigo & Jugada.MASCARA_CODIGO) | (codigo & Jugada.AS_COMO_DIEZ);
+    }
+
+    public static Carta permutar(int permutacion, Carta carta) {
+        return Carta.desdeCodigo(permutarCarta(permutacion, carta.getCodigo()));
+    }
+
+    public static Jugada permutar(int permutacion, Jugada jugada) {
+        return Jugada.desdeCodigo(permutarJugada(permutacion, jugada.getCodigo()));
+    }
+
+    /**
+     * Renames the suits of every card of a position.
+     *
+     * @param permutacion A packed suit permutation.
+     * @param estado The position.
+     * @return The permuted position (same sizes, sum, turn and players).
+     */
+    public static EstadoJuego permutar(int permutacion, EstadoJuego estado) {
+        Objects.requireNonNull(estado, "State cannot be null");
+        int[] mazo = new int[estado.getCartasEnMazo()];
+        for (int i = 0; i < mazo.length; i++) {
+            mazo[i] = permutarCarta(permutacion, estado.getCodigoMazo(i));
+        }
+        int[][] manos = new int[estado.getNumAsientos()][];
+        for (int asiento = 0; asiento < manos.length; asiento++) {
+            manos[asiento] = new int[estado.getCartasEnMano(asiento)];
+            for (int i = 0; i < manos[asiento].length; i++) {
+                manos[asiento][i] = permutarCarta(permutacion, estado.getCodigoMano(asiento, i));
+            }
+        }
+        int[] mesa = new int[estado.getCartasEnMesa()];
+        for (int i = 0; i < mesa.length; i++) {
+            mesa[i] = permutarCarta(permutacion, estado.getCodigoMesa(i));
+        }
+        return new EstadoJuego(mazo, manos, mesa, estado.getSumaMesa(), estado.getTurno(), estado.getVivos());
+    }
+
+    // --- Canonical positions ---
+
+    /**
+     * Finds the permutation that takes a position to its canonical variant, scanning
+     * the deck from the bottom up, then each hand in seat and hand order, then the table.
+     *
+     * @param estado The position.
+     * @return The permutation from its suits to the canonical ones.
+     */
+    public static int permutacionCanonica(EstadoJuego estado) {
+        Objects.requireNonNull(estado, "State cannot be null");
+        SimetriaPalos simetria = new SimetriaPalos();
+        for (int i = 0; i < estado.getCartasEnMazo() && simetria.siguiente < NUM_PALOS; i++) {
+            simetria.canonizar(estado.getCodigoMazo(i));
+        }
+        for (int asiento = 0; asiento < estado.getNumAsientos(); asiento++) {
+            for (int i = 0; i < estado.getCartasEnMano(asiento) && simetria.siguiente < NUM_PALOS; i++) {
+                simetria.canonizar(estado.getCodigoMano(asiento, i));
+            }
+        }
+        for (int i = 0; i < estado.getCartasEnMesa() && simetria.siguiente < NUM_PALOS; i++) {
+            simetria.canonizar(estado.getCodigoMesa(i));
+        }
+        return simetria.getPermutacion();
+    }
+
+    /**
+     * Two positions that differ only in the names of their suits have the same
+     * canonical variant; positions that are not suit variants of each other do not.
+     *
+     * @param estado The position.
+     * @return Its canonical variant ({@code permutar(permutacionCanonica(estado), estado)}).
+     */
+    public static EstadoJuego canonizar(EstadoJuego estado) {
+        return permutar(permutacionCanonica(estado), estado);
+    }
+}
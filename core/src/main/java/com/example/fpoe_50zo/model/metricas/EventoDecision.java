@@ -0,0 +1,32 @@
+package com.example.fpoe_50zo.model.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for an AI player choosing its move.
+ */
+@Name("com.example.fpoe_50zo.Decision")
+@Label("AI Decision")
+@Category({"Cincuentazo", "AI"})
+@Description("Time an AI player spent choosing a move")
+@StackTrace(false)
+final class EventoDecision extends jdk.jfr.Event {
+
+    @Label("Player")
+    String jugador;
+
+    @Label("Strategy")
+    String estrategia;
+
+    @Label("Decision Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long duracion;
+
+    @Label("Move Found")
+    boolean encontrada;
+}
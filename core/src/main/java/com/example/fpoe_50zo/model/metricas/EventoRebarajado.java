@@ -0,0 +1,21 @@
+package com.example.fpoe_50zo.model.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the table being shuffled back into an empty deck.
+ */
+@Name("com.example.fpoe_50zo.Rebarajado")
+@Label("Reshuffle")
+@Category({"Cincuentazo", "Game"})
+@Description("The table, except its last card, shuffled back into the empty deck")
+@StackTrace(false)
+final class EventoRebarajado extends jdk.jfr.Event {
+
+    @Label("Cards")
+    int cartas;
+}
@@ -0,0 +1,30 @@
+package com.example.fpoe_50zo.model.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a move applied to a game.
+ */
+@Name("com.example.fpoe_50zo.Turno")
+@Label("Turn")
+@Category({"Cincuentazo", "Game"})
+@Description("A card played on the table")
+@StackTrace(false)
+final class EventoTurno extends jdk.jfr.Event {
+
+    @Label("Player")
+    String jugador;
+
+    @Label("Card")
+    String carta;
+
+    @Label("Value Played")
+    int valorJugado;
+
+    @Label("Table Sum")
+    int sumaMesa;
+}
@@ -0,0 +1,98 @@
+package com.example.fpoe_50zo.model.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram that many threads can record into without contention.
+ *
+ * Durations go into power-of-two buckets (bucket {@code i} holds [2^i, 2^(i+1)) ns),
+ * each one a striped {@link LongAdder}, so recording is cheap and
+ * never blocks. Percentiles are therefore approximate: they are reported as the upper
+ * bound of the bucket they fall in, at most twice the real value.
+ */
+public final class HistogramaLatencia {
+
+    // A non-negative long has at most 63 significant bits
+    private static final int NUM_CUBETAS = 63;
+
+    private final LongAdder[] cubetas = new LongAdder[NUM_CUBETAS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public HistogramaLatencia() {
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            cubetas[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one duration. Negative durations (a clock going back) count as 0.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void registrar(long nanos) {
+        long duracion = Math.max(0, nanos);
+        cubetas[63 - Long.numberOfLeadingZeros(duracion | 1)].increment();
+        totalNanos.add(duracion);
+    }
+
+    public long getCuenta() {
+        long cuenta = 0;
+        for (LongAdder cubeta : cubetas) {
+            cuenta += cubeta.sum();
+        }
+        return cuenta;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return The mean duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public double getMediaNanos() {
+        long cuenta = getCuenta();
+        return cuenta == 0 ? 0 : (double) getTotalNanos() / cuenta;
+    }
+
+    /**
+     * Estimates a percentile. Reads the buckets while others may still be recording,
+     * so under load the result is a close snapshot, not an exact one.
+     *
+     * @param fraccion The percentile as a fraction (0.5 for the median, 0.99 for p99).
+     * @return The upper bound, in nanoseconds, of the bucket holding that percentile,
+     *         or 0 if nothing was recorded.
+     * @throws IllegalArgumentException if the fraction is not in [0, 1].
+     */
+    public long getPercentilNanos(double fraccion) {
+        if (!(fraccion >= 0 && fraccion <= 1)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1: " + fraccion);
+        }
+        long[] cuentas = new long[NUM_CUBETAS];
+        long total = 0;
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            cuentas[i] = cubetas[i].sum();
+            total += cuentas[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rango = Math.max(1, (long) Math.ceil(fraccion * total));
+        long acumulado = 0;
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            acumulado += cuentas[i];
+            if (acumulado >= rango) {
+                return (2L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void reiniciar() {
+        for (LongAdder cubeta : cubetas) {
+            cubeta.reset();
+        }
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.fpoe_50zo.model.metricas;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Engine instrumentation: counters, a latency histogram of AI decisions, and
+ * JDK Flight Recorder events for turns, reshuffles and decisions.
+ *
+ * Off by default. Start the JVM with {@code -Dfpoe50zo.metricas=true} to turn it on;
+ * the counters are then published over JMX as {@value #NOMBRE_MBEAN}, and the events
+ * (category "Cincuentazo") are recorded whenever a JFR recording enables them.
+ *
+ * The engine guards every hook with {@code if (Metricas.ACTIVAS)}. The flag is a
+ * {@code static final} read once at startup, so when it is off the JIT folds the
+ * checks away and the game runs as if it were not instrumented. When it is on, the
+ * counters are striped {@link LongAdder}s, so games on many threads do not contend.
+ *
+ * Only the moves of real games are counted: the copies that MCTS plays out with
+ * {@link com.example.fpoe_50zo.model.game.Juego#hacerJugada} are not.
+ */
+public final class Metricas {
+
+    /** The system property that turns metrics on. */
+    public static final String PROPIEDAD = "fpoe50zo.metricas";
+
+    /** Whether metrics are on for this JVM. */
+    public static final boolean ACTIVAS = Boolean.getBoolean(PROPIEDAD);
+
+    public static final String NOMBRE_MBEAN = "com.example.fpoe_50zo:type=Metricas";
+
+    private static final ResultadoJugada[] MOTIVOS = ResultadoJugada.values();
+
+    private static final LongAdder TURNOS = new LongAdder();
+    private static final LongAdder REBARAJADOS = new LongAdder();
+    private static final LongAdder CARTAS_REBARAJADAS = new LongAdder();
+    private static final LongAdder ELIMINACIONES = new LongAdder();
+    private static final LongAdder MAZOS_AGOTADOS = new LongAdder();
+    // One counter per rejection reason, by ordinal
+    private static final LongAdder[] JUGADAS_INVALIDAS = new LongAdder[MOTIVOS.length];
+    private static final HistogramaLatencia DECISIONES = new HistogramaLatencia();
+
+    private static final MetricasMXBean VISTA = new Vista();
+
+    static {
+        for (int i = 0; i < JUGADAS_INVALIDAS.length; i++) {
+            JUGADAS_INVALIDAS[i] = new LongAdder();
+        }
+        if (ACTIVAS) {
+            registrarMBean();
+        }
+    }
+
+    private Metricas() {
+    }
+
+    /**
+     * @return The counters, as published over JMX (also when metrics are off,
+     *         in which case the engine leaves them at zero).
+     */
+    public static MetricasMXBean getMXBean() {
+        return VISTA;
+    }
+
+    /**
+     * @return The latency histogram of AI decisions.
+     */
+    public static HistogramaLatencia getDecisiones() {
+        return DECISIONES;
+    }
+
+    // --- Hooks, called by the engine only when ACTIVAS ---
+
+    /**
+     * A move was applied to a game.
+     */
+    public static void turno(IJugador jugador, Carta carta, int valorJugado, int sumaMesa) {
+        TURNOS.increment();
+        EventoTurno evento = new EventoTurno();
+        if (evento.shouldCommit()) {
+            evento.jugador = jugador.getNombre();
+            evento.carta = carta.toString();
+            evento.valorJugado = valorJugado;
+            evento.sumaMesa = sumaMesa;
+            evento.commit();
+        }
+    }
+
+    /**
+     * The table was shuffled back into the empty deck.
+     *
+     * @param cartas The number of cards shuffled back.
+     */
+    public static void rebarajado(int cartas) {
+        REBARAJADOS.increment();
+        CARTAS_REBARAJADAS.add(cartas);
+        EventoRebarajado evento = new EventoRebarajado();
+        if (evento.shouldCommit()) {
+            evento.cartas = cartas;
+            evento.commit();
+        }
+    }
+
+    public static void eliminacion() {
+        ELIMINACIONES.increment();
+    }
+
+    /**
+     * The engine rejected a move.
+     *
+     * @param motivo Why it was rejected.
+     */
+    public static void jugadaInvalida(ResultadoJugada motivo) {
+        JUGADAS_INVALIDAS[motivo.ordinal()].increment();
+    }
+
+    /**
+     * A player had to draw but neither the deck nor the table had a card left.
+     */
+    public static void mazoAgotado() {
+        MAZOS_AGOTADOS.increment();
+    }
+
+    /**
+     * An AI player finished choosing its move.
+     *
+     * @param jugador The player who decided.
+     * @param estrategia The name of the strategy it decided with.
+     * @param inicioNanos When the decision started, from {@link System#nanoTime()}.
+     * @param encontrada Whether a move was found (false when the player cannot move).
+     */
+    public static void decision(IJugador jugador, String estrategia, long inicioNanos, boolean encontrada) {
+        long duracion = System.nanoTime() - inicioNanos;
+        DECISIONES.registrar(duracion);
+        EventoDecision evento = new EventoDecision();
+        if (evento.shouldCommit()) {
+            evento.jugador = jugador.getNombre();
+            evento.estrategia = estrategia;
+            evento.duracion = duracion;
+            evento.encontrada = encontrada;
+            evento.commit();
+        }
+    }
+
+    private static void registrarMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(VISTA, new ObjectName(NOMBRE_MBEAN));
+        } catch (JMException e) {
+            // Metrics are a diagnostic aid: the game runs without them
+            System.err.println("Could not register the metrics MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the static counters for JMX.
+     */
+    private static final class Vista implements MetricasMXBean {
+
+        @Override
+        public long getTurnos() {
+            return TURNOS.sum();
+        }
+
+        @Override
+        public long getRebarajados() {
+            return REBARAJADOS.sum();
+        }
+
+        @Override
+        public long getCartasRebarajadas() {
+            return CARTAS_REBARAJADAS.sum();
+        }
+
+        @Override
+        public long getEliminaciones() {
+            return ELIMINACIONES.sum();
+        }
+
+        @Override
+        public long getJugadasInvalidas() {
+            long total = 0;
+            for (LongAdder contador : JUGADAS_INVALIDAS) {
+                total += contador.sum();
+            }
+            return total;
+        }
+
+        @Override
+        public Map<String, Long> getJugadasInvalidasPorMotivo() {
+            Map<String, Long> porMotivo = new LinkedHashMap<>();
+            for (ResultadoJugada motivo : MOTIVOS) {
+                if (motivo.esValida()) continue;
+                porMotivo.put(motivo.name(), JUGADAS_INVALIDAS[motivo.ordinal()].sum());
+            }
+            return porMotivo;
+        }
+
+        @Override
+        public long getMazosAgotados() {
+            return MAZOS_AGOTADOS.sum();
+        }
+
+        @Override
+        public long getDecisiones() {
+            return DECISIONES.getCuenta();
+        }
+
+        @Override
+        public double getDecisionMediaNanos() {
+            return DECISIONES.getMediaNanos();
+        }
+
+        @Override
+        public long getDecisionP50Nanos() {
+            return DECISIONES.getPercentilNanos(0.5);
+        }
+
+        @Override
+        public long getDecisionP99Nanos() {
+            return DECISIONES.getPercentilNanos(0.99);
+        }
+
+        @Override
+        public long getDecisionP999Nanos() {
+            return DECISIONES.getPercentilNanos(0.999);
+        }
+
+        @Override
+        public void reiniciar() {
+            TURNOS.reset();
+            REBARAJADOS.reset();
+            CARTAS_REBARAJADAS.reset();
+            ELIMINACIONES.reset();
+            MAZOS_AGOTADOS.reset();
+            for (LongAdder contador : JUGADAS_INVALIDAS) {
+                contador.reset();
+            }
+            DECISIONES.reiniciar();
+        }
+    }
+}
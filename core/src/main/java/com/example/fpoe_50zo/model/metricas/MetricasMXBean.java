@@ -0,0 +1,45 @@
+package com.example.fpoe_50zo.model.metricas;
+
+import java.util.Map;
+
+/**
+ * JMX view of the engine counters, registered as {@value Metricas#NOMBRE_MBEAN}
+ * when metrics are on (see {@link Metricas}). Every value counts since the JVM
+ * started or since the last {@link #reiniciar()}, across all games in the JVM.
+ */
+public interface MetricasMXBean {
+
+    /** Moves applied to a game (one per turn played). */
+    long getTurnos();
+
+    /** Times the table was shuffled back into an empty deck. */
+    long getRebarajados();
+
+    /** Cards shuffled back into the deck, over all reshuffles. */
+    long getCartasRebarajadas();
+
+    long getEliminaciones();
+
+    /** Moves rejected by the engine, for any reason. */
+    long getJugadasInvalidas();
+
+    /** Moves rejected by the engine, by reason (a ResultadoJugada name). */
+    Map<String, Long> getJugadasInvalidasPorMotivo();
+
+    /** Draws that found no card even after reshuffling the table. */
+    long getMazosAgotados();
+
+    /** AI decisions timed. */
+    long getDecisiones();
+
+    double getDecisionMediaNanos();
+
+    long getDecisionP50Nanos();
+
+    long getDecisionP99Nanos();
+
+    long getDecisionP999Nanos();
+
+    /** Sets every counter back to zero. */
+    void reiniciar();
+}
@@ -1,29 +1,34 @@
 package com.example.fpoe_50zo.model.player;
 
 import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Jugada;
 
 import java.util.List;
 
 /**
- * Represents an AI-controlled (Machine) player.
- * It extends the base Jugador class and adds logic
- * to decide which card to play.
+ * The default AI strategy: plays the first card that fits, with an Ace counting
+ * as 10 whenever it fits. Stateless, so one instance can serve any number of players.
  */
-public class JugadorMaquina extends Jugador {
+public class EstrategiaVoraz implements IEstrategia {
 
-    /**
-     * Constructs a new AI player.
-     *
-     * @param nombre The display name for the AI (e.g., "CPU 1").
-     */
-    public JugadorMaquina(String nombre) {
-        // Call the parent constructor, setting esHumano to false.
-        super(nombre, false);
+    @Override
+    public Jugada decidir(IJugador jugador, IJuego juego) {
+        int sumaActual = juego.getSumaMesa();
+        Carta carta = elegirCarta(jugador.getMano(), sumaActual);
+        if (carta == null) {
+            return null;
+        }
+        return Jugada.de(carta, sumaActual + 10 <= 50 ? 10 : 1);
+    }
+
+    @Override
+    public String getNombre() {
+        return "Voraz";
     }
 
     /**
      * Decides which card to play based on the current game sum.
-     * This is the "AI" logic.
      *
      * Strategy:
      * 1. Tries to play an Ace (A) as 10 if possible.
@@ -31,16 +36,15 @@ public class JugadorMaquina extends Jugador {
      * 3. As a last resort, plays an Ace (A) as 1 if possible.
      * 4. If no card is playable, returns null.
      *
+     * @param mano The hand to choose from.
      * @param sumaActual The current sum on the table.
      * @return The Carta to be played, or null if no valid move exists.
      */
-    public Carta decidirMejorJugada(int sumaActual) {
-        // We use 'mano' directly, which is 'protected' in the Jugador class.
-
+    public static Carta elegirCarta(List<Carta> mano, int sumaActual) {
         Carta asComoUno = null; // To store an Ace-as-1 as a last resort
 
         // --- First Pass: Look for Aces-as-10 and regular cards ---
-        for (Carta carta : this.mano) {
+        for (Carta carta : mano) {
 
             if (carta.esAs()) {
                 // Priority 1: Can we use an Ace as 10?
@@ -64,11 +68,6 @@ public class JugadorMaquina extends Jugador {
 
         // If no regular card or Ace-as-10 was playable,
         // play the Ace-as-1 if we found one.
-        if (asComoUno != null) {
-            return asComoUno;
-        }
-
-        // If no card was playable at all
-        return null;
+        return asComoUno;
     }
 }
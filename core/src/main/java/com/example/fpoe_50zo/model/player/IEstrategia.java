@@ -0,0 +1,39 @@
+package com.example.fpoe_50zo.model.player;
+
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Jugada;
+
+/**
+ * How an AI player chooses its move: the card and, for an Ace, its value
+ * (both carried by the returned {@link Jugada}).
+ * A {@link JugadorMaquina} delegates every decision to its strategy.
+ */
+public interface IEstrategia {
+
+    /**
+     * Chooses a move. Must only read the game.
+     *
+     * @param jugador The player to move (its hand is the only one it may look at).
+     * @param juego The game where it is that player's turn.
+     * @return The move to make, or null if no valid move exists.
+     */
+    Jugada decidir(IJugador jugador, IJuego juego);
+
+    /**
+     * Creates a strategy that decides like this one, for another player.
+     * Stateless strategies can return themselves (the default); strategies
+     * with mutable state must return a fresh copy.
+     *
+     * @return The strategy to give the copy.
+     */
+    default IEstrategia copiar() {
+        return this;
+    }
+
+    /**
+     * @return A short name for reports (e.g. tournament tables).
+     */
+    default String getNombre() {
+        return getClass().getSimpleName();
+    }
+}
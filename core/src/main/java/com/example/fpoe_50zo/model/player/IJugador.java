@@ -3,6 +3,7 @@ package com.example.fpoe_50zo.model.player;
 import com.example.fpoe_50zo.model.deck.IMazo;
 import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
 import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
 
 import java.util.List;
 
@@ -29,6 +30,31 @@ public interface IJugador {
      */
     boolean jugarCarta(Carta carta);
 
+    /**
+     * Checks whether a specific card is in the player's hand.
+     *
+     * @param carta The card to look for.
+     * @return true if the card is in the hand.
+     */
+    boolean tieneCarta(Carta carta);
+
+    /**
+     * Finds where a card sits in the player's hand.
+     *
+     * @param carta The card to look for.
+     * @return The position of the card in the hand, or -1 if it is not there.
+     */
+    int posicionEnMano(Carta carta);
+
+    /**
+     * Puts a card into the player's hand at a given position.
+     * Used to undo moves, so the hand gets back its exact previous order.
+     *
+     * @param posicion The position the card takes in the hand.
+     * @param carta The card to put back.
+     */
+    void devolverCarta(int posicion, Carta carta);
+
     /**
      * Checks if the player has at least one valid move.
      *
@@ -64,4 +90,13 @@ public interface IJugador {
      * @return The current number of cards in the player's hand.
      */
     int getCartasEnMano();
+
+    /**
+     * Counts the cards of one value in the player's hand.
+     * The counts are kept up to date as the hand changes, so this is O(1).
+     *
+     * @param valor The card value.
+     * @return how many cards of that value the hand holds.
+     */
+    int contarValor(Valor valor);
 }
\ No newline at end of file
@@ -4,10 +4,12 @@ import com.example.fpoe_50zo.model.player.IJugador;
 import com.example.fpoe_50zo.model.deck.IMazo;
 
 import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
 import com.example.fpoe_50zo.model.deck.Mazo;
 import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -26,6 +28,9 @@ public class Jugador implements IJugador {
     // Protected so subclasses (JugadorMaquina) can access it directly.
     protected final List<Carta> mano;
 
+    // How many cards of each value the hand holds, kept in step with the hand
+    private final int[] porValor = new int[Valor.values().length];
+
     // Flag to distinguish between human and AI
     private final boolean esHumano;
 
@@ -54,6 +59,7 @@ public class Jugador implements IJugador {
         // handles the action of drawing one. The game logic will enforce the count.
         Carta carta = mazo.tomarCarta();
         this.mano.add(carta);
+        this.porValor[carta.getValor().ordinal()]++;
     }
 
     /**
@@ -64,7 +70,42 @@ public class Jugador implements IJugador {
      * @return true if the card was in the hand and removed, false otherwise.
      */
     public boolean jugarCarta(Carta carta) {
-        return this.mano.remove(carta);
+        if (!this.mano.remove(carta)) {
+            return false;
+        }
+        this.porValor[carta.getValor().ordinal()]--;
+        return true;
+    }
+
+    /**
+     * Checks whether a specific card is in the player's hand.
+     *
+     * @param carta The card to look for.
+     * @return true if the card is in the hand.
+     */
+    public boolean tieneCarta(Carta carta) {
+        return this.mano.contains(carta);
+    }
+
+    /**
+     * Finds where a card sits in the player's hand.
+     *
+     * @param carta The card to look for.
+     * @return The position of the card in the hand, or -1 if it is not there.
+     */
+    public int posicionEnMano(Carta carta) {
+        return this.mano.indexOf(carta);
+    }
+
+    /**
+     * Puts a card into the player's hand at a given position (used to undo moves).
+     *
+     * @param posicion The position the card takes in the hand.
+     * @param carta The card to put back.
+     */
+    public void devolverCarta(int posicion, Carta carta) {
+        this.mano.add(posicion, Objects.requireNonNull(carta, "Card cannot be null"));
+        this.porValor[carta.getValor().ordinal()]++;
     }
 
     /**
@@ -109,6 +150,7 @@ public class Jugador implements IJugador {
         List<Carta> manoParaDevolver = new ArrayList<>(this.mano);
         // Clear the player's hand
         this.mano.clear();
+        Arrays.fill(this.porValor, 0);
         return manoParaDevolver;
     }
 
@@ -142,6 +184,16 @@ public class Jugador implements IJugador {
         return this.mano.size();
     }
 
+    /**
+     * Counts the cards of one value in the player's hand, in O(1).
+     *
+     * @param valor The card value.
+     * @return how many cards of that value the hand holds.
+     */
+    public int contarValor(Valor valor) {
+        return this.porValor[valor.ordinal()];
+    }
+
     @Override
     public String toString() {
         return nombre + " (Mano: " + mano.size() + " cartas)";
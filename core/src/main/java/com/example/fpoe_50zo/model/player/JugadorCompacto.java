@@ -0,0 +1,331 @@
+package com.example.fpoe_50zo.model.player;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.deck.IMazo;
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.metricas.Metricas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A player whose hand is stored as a 64-bit mask of card codes
+ * (bit {@code i} set = card {@link Carta#desdeCodigo(int) i} in hand).
+ *
+ * The hand also keeps a "value profile": one bit per group of cards that
+ * behave the same in the game (Ace, 2 ... 8, 9, 10, and J/Q/K).
+ * Checking whether the player can move, and picking the default move,
+ * are a single lookup in tables indexed by (table sum, profile),
+ * with no iteration over the hand and no allocation.
+ *
+ * Since a mask cannot hold the same card twice, this hand only
+ * supports games played with a single 52-card deck.
+ */
+public class JugadorCompacto implements IJugador {
+
+    // --- Value groups (one bit each in the profile) ---
+    private static final int GRUPO_AS = 0;       // 1 or 10
+    private static final int GRUPO_NUEVE = 8;    // 0
+    private static final int GRUPO_DIEZ = 9;     // 10
+    private static final int GRUPO_FIGURA = 10;  // J, Q, K: -10
+    private static final int NUM_GRUPOS = 11;
+    private static final int NUM_PERFILES = 1 << NUM_GRUPOS;
+
+    // Sums up to 40 accept any card; 41..50 get a row each; row 11 = above 50
+    private static final int SUMA_LIBRE = 40;
+    private static final int NUM_FILAS = 12;
+
+    /** Encoded move returned when no card can be played. */
+    public static final int SIN_JUGADA = -1;
+
+    // Group of each card code
+    private static final byte[] GRUPO_POR_CODIGO = new byte[Carta.TOTAL_CARTAS];
+
+    // Card codes belonging to each group
+    private static final long[] CARTAS_DEL_GRUPO = new long[NUM_GRUPOS];
+
+    // Card codes of each value
+    private static final long[] CARTAS_DEL_VALOR = new long[Valor.values().length];
+
+    // [fila * NUM_PERFILES + perfil] -> can the player move?
+    private static final boolean[] PUEDE_JUGAR = new boolean[NUM_FILAS * NUM_PERFILES];
+
+    // [fila * NUM_PERFILES + perfil] -> group to play (| Jugada.AS_COMO_DIEZ), or SIN_JUGADA
+    private static final byte[] JUGADA_POR_DEFECTO = new byte[NUM_FILAS * NUM_PERFILES];
+
+    static {
+        for (int codigo = 0; codigo < Carta.TOTAL_CARTAS; codigo++) {
+            Valor valor = Carta.desdeCodigo(codigo).getValor();
+            int grupo = grupoDe(valor);
+            GRUPO_POR_CODIGO[codigo] = (byte) grupo;
+            CARTAS_DEL_GRUPO[grupo] |= 1L << codigo;
+            CARTAS_DEL_VALOR[valor.ordinal()] |= 1L << codigo;
+        }
+
+        // Preference order for non-Ace cards: highest value first
+        int[] preferencia = new int[NUM_GRUPOS - 1];
+        preferencia[0] = GRUPO_DIEZ;
+        for (int grupo = 7; grupo >= 1; grupo--) {
+            preferencia[8 - grupo] = grupo; // 8, 7, ..., 2
+        }
+        preferencia[8] = GRUPO_NUEVE;
+        preferencia[9] = GRUPO_FIGURA;
+
+        for (int fila = 0; fila < NUM_FILAS; fila++) {
+            int suma = SUMA_LIBRE + fila;
+            for (int perfil = 0; perfil < NUM_PERFILES; perfil++) {
+                int jugada = SIN_JUGADA;
+                boolean tieneAs = (perfil & (1 << GRUPO_AS)) != 0;
+
+                // Same priorities as JugadorMaquina: Ace as 10, any other card, Ace as 1
+                if (tieneAs && suma + 10 <= 50) {
+                    jugada = GRUPO_AS | Jugada.AS_COMO_DIEZ;
+                } else {
+                    for (int grupo : preferencia) {
+                        if ((perfil & (1 << grupo)) != 0 && suma + valorDeGrupo(grupo) <= 50) {
+                            jugada = grupo;
+                            break;
+                        }
+                    }
+                    if (jugada == SIN_JUGADA && tieneAs && suma + 1 <= 50) {
+                        jugada = GRUPO_AS;
+                    }
+                }
+
+                int indice = fila * NUM_PERFILES + perfil;
+                JUGADA_POR_DEFECTO[indice] = (byte) jugada;
+                PUEDE_JUGAR[indice] = jugada != SIN_JUGADA;
+            }
+        }
+    }
+
+    private final String nombre;
+    private final boolean esHumano;
+
+    // Cards in hand, one bit per code
+    private long mano;
+
+    // One bit per value group present in the hand
+    private int perfil;
+
+    /**
+     * Constructs a new player with an empty hand.
+     *
+     * @param nombre The display name for the player.
+     * @param esHumano true if this is a human-controlled player, false otherwise.
+     */
+    public JugadorCompacto(String nombre, boolean esHumano) {
+        this.nombre = Objects.requireNonNull(nombre, "Player name cannot be null");
+        this.esHumano = esHumano;
+    }
+
+    /**
+     * Draws a card from the deck and adds it to the player's hand.
+     *
+     * @param mazo The deck to draw from.
+     * @throws MazoVacioException if the deck is empty.
+     */
+    @Override
+    public void tomarCarta(IMazo mazo) throws MazoVacioException {
+        agregar(mazo.tomarCarta());
+    }
+
+    private void agregar(Carta carta) {
+        long bit = 1L << carta.getCodigo();
+        if ((mano & bit) != 0) {
+            throw new IllegalStateException("A compact hand cannot hold the same card twice: " + carta);
+        }
+        mano |= bit;
+        perfil |= 1 << GRUPO_POR_CODIGO[carta.getCodigo()];
+    }
+
+    /**
+     * Removes a specific card from the player's hand.
+     *
+     * @param carta The card to be played (and removed).
+     * @return true if the card was in the hand and removed, false otherwise.
+     */
+    @Override
+    public boolean jugarCarta(Carta carta) {
+        int codigo = carta.getCodigo();
+        long bit = 1L << codigo;
+        if ((mano & bit) == 0) {
+            return false;
+        }
+        mano &= ~bit;
+        int grupo = GRUPO_POR_CODIGO[codigo];
+        if ((mano & CARTAS_DEL_GRUPO[grupo]) == 0) {
+            perfil &= ~(1 << grupo);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tieneCarta(Carta carta) {
+        return (mano & (1L << carta.getCodigo())) != 0;
+    }
+
+    /**
+     * The position of a card is its rank among the codes in the hand,
+     * matching the order of {@link #getMano()}.
+     */
+    @Override
+    public int posicionEnMano(Carta carta) {
+        long bit = 1L << carta.getCodigo();
+        if ((mano & bit) == 0) {
+            return -1;
+        }
+        return Long.bitCount(mano & (bit - 1));
+    }
+
+    /**
+     * A mask keeps its cards in code order, so the position is not needed.
+     */
+    @Override
+    public void devolverCarta(int posicion, Carta carta) {
+        agregar(carta);
+    }
+
+    /**
+     * Checks if the player has at least one valid move, with one table lookup.
+     *
+     * @param sumaMesa The current sum on the table.
+     * @return true if the player has at least one card that can be played.
+     */
+    @Override
+    public boolean puedeJugar(int sumaMesa) {
+        return PUEDE_JUGAR[fila(sumaMesa) * NUM_PERFILES + perfil];
+    }
+
+    /**
+     * Picks the default move with one table lookup.
+     * Priorities: an Ace as 10, then the highest-valued other card that fits,
+     * then an Ace as 1. Among equivalent cards, the lowest code is chosen.
+     *
+     * @param sumaMesa The current sum on the table.
+     * @return The move encoded as the card code, plus {@link Jugada#AS_COMO_DIEZ}
+     *         when an Ace must count as 10; or {@link #SIN_JUGADA}.
+     */
+    public int decidirJugada(int sumaMesa) {
+        if (!Metricas.ACTIVAS) {
+            return elegirJugada(sumaMesa);
+        }
+        long inicio = System.nanoTime();
+        int jugada = elegirJugada(sumaMesa);
+        Metricas.decision(this, "Compacto", inicio, jugada != SIN_JUGADA);
+        return jugada;
+    }
+
+    private int elegirJugada(int sumaMesa) {
+        int jugada = JUGADA_POR_DEFECTO[fila(sumaMesa) * NUM_PERFILES + perfil];
+        if (jugada == SIN_JUGADA) {
+            return SIN_JUGADA;
+        }
+        int grupo = jugada & Jugada.MASCARA_CODIGO;
+        int codigo = Long.numberOfTrailingZeros(mano & CARTAS_DEL_GRUPO[grupo]);
+        return codigo | (jugada & Jugada.AS_COMO_DIEZ);
+    }
+
+    /**
+     * Same choice as {@link #decidirJugada(int)}, returned as a card.
+     *
+     * @param sumaActual The current sum on the table.
+     * @return The Carta to be played, or null if no valid move exists.
+     */
+    public Carta decidirMejorJugada(int sumaActual) {
+        int jugada = decidirJugada(sumaActual);
+        return jugada == SIN_JUGADA ? null : Carta.desdeCodigo(jugada & Jugada.MASCARA_CODIGO);
+    }
+
+    @Override
+    public List<Carta> dejarMano() {
+        List<Carta> manoParaDevolver = cartasDe(mano);
+        mano = 0;
+        perfil = 0;
+        return manoParaDevolver;
+    }
+
+    /**
+     * @return The player's hand, in card-code order (unmodifiable).
+     */
+    @Override
+    public List<Carta> getMano() {
+        return Collections.unmodifiableList(cartasDe(mano));
+    }
+
+    /**
+     * @return The hand as a mask of card codes.
+     */
+    public long getMascaraMano() {
+        return mano;
+    }
+
+    @Override
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public boolean esHumano() {
+        return esHumano;
+    }
+
+    @Override
+    public int getCartasEnMano() {
+        return Long.bitCount(mano);
+    }
+
+    /**
+     * Counts the cards of one value in the player's hand, with one mask and a bit count.
+     */
+    @Override
+    public int contarValor(Valor valor) {
+        return Long.bitCount(mano & CARTAS_DEL_VALOR[valor.ordinal()]);
+    }
+
+    @Override
+    public String toString() {
+        return nombre + " (Mano: " + getCartasEnMano() + " cartas)";
+    }
+
+    // --- Helpers ---
+
+    private static int fila(int sumaMesa) {
+        if (sumaMesa <= SUMA_LIBRE) return 0;
+        if (sumaMesa > 50) return NUM_FILAS - 1;
+        return sumaMesa - SUMA_LIBRE;
+    }
+
+    private static List<Carta> cartasDe(long mascara) {
+        List<Carta> cartas = new ArrayList<>(Long.bitCount(mascara));
+        for (long resto = mascara; resto != 0; resto &= resto - 1) {
+            cartas.add(Carta.desdeCodigo(Long.numberOfTrailingZeros(resto)));
+        }
+        return cartas;
+    }
+
+    private static int grupoDe(Valor valor) {
+        switch (valor) {
+            case AS: return GRUPO_AS;
+            case NUEVE: return GRUPO_NUEVE;
+            case DIEZ: return GRUPO_DIEZ;
+            case JOTA:
+            case QUINA:
+            case REY: return GRUPO_FIGURA;
+            default: return valor.getValorJuego() - 1; // DOS..OCHO -> 1..7
+        }
+    }
+
+    private static int valorDeGrupo(int grupo) {
+        switch (grupo) {
+            case GRUPO_NUEVE: return 0;
+            case GRUPO_DIEZ: return 10;
+            case GRUPO_FIGURA: return -10;
+            default: return grupo + 1; // 2..8
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.fpoe_50zo.model.player;
+
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.metricas.Metricas;
+
+import java.util.Objects;
+
+/**
+ * Represents an AI-controlled (Machine) player.
+ * It extends the base Jugador class and delegates the choice
+ * of which card to play to a strategy ({@link IEstrategia}).
+ */
+public class JugadorMaquina extends Jugador {
+
+    private final IEstrategia estrategia;
+
+    /**
+     * Constructs a new AI player with the default greedy strategy.
+     *
+     * @param nombre The display name for the AI (e.g., "CPU 1").
+     */
+    public JugadorMaquina(String nombre) {
+        this(nombre, new EstrategiaVoraz());
+    }
+
+    /**
+     * Constructs a new AI player.
+     *
+     * @param nombre The display name for the AI (e.g., "CPU 1").
+     * @param estrategia How the player chooses its moves.
+     */
+    public JugadorMaquina(String nombre, IEstrategia estrategia) {
+        // Call the parent constructor, setting esHumano to false.
+        super(nombre, false);
+        this.estrategia = Objects.requireNonNull(estrategia, "Strategy cannot be null");
+    }
+
+    public IEstrategia getEstrategia() {
+        return estrategia;
+    }
+
+    /**
+     * Decides the full move to make in a game: the card and, for an Ace,
+     * its value, as chosen by the player's strategy.
+     *
+     * @param juego The game where it is this player's turn.
+     * @return The move to make, or null if no valid move exists.
+     */
+    public Jugada decidirJugada(IJuego juego) {
+        if (!Metricas.ACTIVAS) {
+            return estrategia.decidir(this, juego);
+        }
+        long inicio = System.nanoTime();
+        Jugada jugada = estrategia.decidir(this, juego);
+        Metricas.decision(this, estrategia.getNombre(), inicio, jugada != null);
+        return jugada;
+    }
+
+    /**
+     * Creates a new player with the same name and strategy, and an empty hand.
+     * Used to think ahead on a private copy of a game (see
+     * {@link com.example.fpoe_50zo.model.game.Juego#restaurarEstado(com.example.fpoe_50zo.model.game.EstadoJuego, java.util.List)}).
+     * Subclasses must override this to keep their own type.
+     *
+     * @return A player that decides like this one.
+     */
+    public JugadorMaquina clonarEstrategia() {
+        return new JugadorMaquina(getNombre(), estrategia.copiar());
+    }
+}
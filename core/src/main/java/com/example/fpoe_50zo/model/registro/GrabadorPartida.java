@@ -0,0 +1,123 @@
+package com.example.fpoe_50zo.model.registro;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.IObservadorJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.JugadorCompacto;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Records one game into a {@link RegistroPartidas}.
+ *
+ * Attach it right after {@link Juego#iniciarJuego(java.util.List)}: it takes the deal
+ * from the game, listens to every played card, and writes the record when the game
+ * ends (or when {@link #terminar()} is called, for a game stopped early).
+ *
+ * Replaying a record starts a {@code new Juego(Juego.barajasNecesarias(n), semilla)} with
+ * the same number n of seats, so the game must have been created that way (a
+ * {@link com.example.fpoe_50zo.model.deck.Mazo} shuffled from the recorded seed; for up
+ * to 12 seats, the same as {@code new Juego(semilla)}), and must not use
+ * {@link Juego#deshacerJugada()}.
+ */
+public final class GrabadorPartida implements IObservadorJuego {
+
+    private final RegistroPartidas registro;
+    private final Juego juego;
+    private final long semilla;
+    private final int opciones;
+    private final byte[] reparto;
+    private byte[] jugadas = new byte[64];
+    private int numJugadas;
+    private long posicion = -1;
+
+    private GrabadorPartida(RegistroPartidas registro, Juego juego, long semilla) {
+        this.registro = registro;
+        this.juego = juego;
+        this.semilla = semilla;
+
+        boolean compactas = false;
+        for (IJugador jugador : juego.getAsientos()) {
+            compactas |= jugador instanceof JugadorCompacto;
+        }
+        this.opciones = compactas ? RegistroPartidas.OPCION_MANOS_COMPACTAS : 0;
+        this.reparto = reparto(juego.exportarEstado());
+    }
+
+    /**
+     * Starts recording a game that has just been dealt.
+     *
+     * @param registro The journal to write to.
+     * @param juego A game created with {@code new Juego(Juego.barajasNecesarias(n), semilla)}, right after iniciarJuego.
+     * @param semilla The seed the game was created with.
+     * @return The recorder, already listening to the game.
+     */
+    public static GrabadorPartida grabar(RegistroPartidas registro, Juego juego, long semilla) {
+        GrabadorPartida grabador = new GrabadorPartida(Objects.requireNonNull(registro, "Journal cannot be null"),
+                Objects.requireNonNull(juego, "Game cannot be null"), semilla);
+        juego.agregarObservador(grabador);
+        return grabador;
+    }
+
+    @Override
+    public void alJugarCarta(IJugador jugador, Carta carta, int valorJugado, int sumaMesa) {
+        if (numJugadas == jugadas.length) {
+            jugadas = Arrays.copyOf(jugadas, jugadas.length * 2);
+        }
+        int codigo = carta.getCodigo();
+        if (carta.esAs() && valorJugado == 10) {
+            codigo |= Jugada.AS_COMO_DIEZ;
+        }
+        jugadas[numJugadas++] = (byte) codigo;
+    }
+
+    @Override
+    public void alTerminarJuego(IJugador ganador) {
+        terminar();
+    }
+
+    /**
+     * Writes the record now and stops listening. Does nothing the second time.
+     *
+     * @return The offset of the record in the journal.
+     */
+    public long terminar() {
+        if (posicion < 0) {
+            juego.quitarObservador(this);
+            posicion = registro.registrar(semilla, opciones, juego.getAsientos().size(), reparto, jugadas, numJugadas);
+        }
+        return posicion;
+    }
+
+    public int getNumJugadas() {
+        return numJugadas;
+    }
+
+    /**
+     * Packs a freshly dealt position: each seat's hand, the table card, then the deck from the top.
+     */
+    static byte[] reparto(EstadoJuego estado) {
+        int total = estado.getCartasEnMazo() + estado.getCartasEnMesa();
+        for (int asiento = 0; asiento < estado.getNumAsientos(); asiento++) {
+            total += estado.getCartasEnMano(asiento);
+        }
+        byte[] reparto = new byte[total];
+        int n = 0;
+        for (int asiento = 0; asiento < estado.getNumAsientos(); asiento++) {
+            for (int i = 0; i < estado.getCartasEnMano(asiento); i++) {
+                reparto[n++] = (byte) estado.getCodigoMano(asiento, i);
+            }
+        }
+        for (int i = 0; i < estado.getCartasEnMesa(); i++) {
+            reparto[n++] = (byte) estado.getCodigoMesa(i);
+        }
+        for (int i = estado.getCartasEnMazo() - 1; i >= 0; i--) {
+            reparto[n++] = (byte) estado.getCodigoMazo(i);
+        }
+        return reparto;
+    }
+}
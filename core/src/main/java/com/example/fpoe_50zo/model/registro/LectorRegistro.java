@@ -0,0 +1,266 @@
+package com.example.fpoe_50zo.model.registro;
+
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.Jugador;
+import com.example.fpoe_50zo.model.player.JugadorCompacto;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads a {@link RegistroPartidas} file in place, through read-only memory mappings.
+ *
+ * Opening the file builds an index with the offset of every game, so game {@code n}
+ * and move {@code k} of it are found in O(1) and read straight from the mapping:
+ * nothing is copied or decoded ahead of time, and reading a move allocates nothing.
+ * A game can be walked move by move with {@link #getCodigoJugada(int, int)} or
+ * {@link #getJugada(int, int)} (which returns the shared {@link Jugada} instances),
+ * or replayed into a {@link Juego}, in full or up to any move.
+ *
+ * The file may still be growing: {@link #actualizar()} indexes the games appended
+ * since the last call. A reader is not thread-safe, but the file can be read by any
+ * number of readers while one process writes it.
+ */
+public final class LectorRegistro implements AutoCloseable {
+
+    private final FileChannel canal;
+    private final int tamanoSegmento;
+    private final int desplazamiento;
+    private final List<MappedByteBuffer> segmentos = new ArrayList<>();
+
+    // Offset of every complete game, in file order
+    private long[] desplazamientos = new long[1024];
+    private int numPartidas;
+    // Where indexing stopped (the first record not yet complete)
+    private long fin = RegistroPartidas.CABECERA_ARCHIVO;
+
+    private LectorRegistro(FileChannel canal) throws IOException {
+        this.canal = canal;
+        if (canal.size() < RegistroPartidas.CABECERA_ARCHIVO) {
+            throw new IOException("Not a game journal (file too short).");
+        }
+        MappedByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, RegistroPartidas.CABECERA_ARCHIVO);
+        cabecera.order(ByteOrder.LITTLE_ENDIAN);
+        RegistroPartidas.validarCabecera(cabecera, 0);
+        this.tamanoSegmento = cabecera.getInt(8);
+        if (Integer.bitCount(tamanoSegmento) != 1) {
+            throw new IOException("Corrupt journal header: segment size " + tamanoSegmento);
+        }
+        this.desplazamiento = Integer.numberOfTrailingZeros(tamanoSegmento);
+        actualizar();
+    }
+
+    /**
+     * Opens a journal for reading and indexes every complete game in it.
+     *
+     * @param archivo The journal file.
+     * @return The reader.
+     * @throws IOException if the file cannot be read or is not a journal.
+     */
+    public static LectorRegistro abrir(Path archivo) throws IOException {
+        FileChannel canal = FileChannel.open(Objects.requireNonNull(archivo, "File cannot be null"),
+                StandardOpenOption.READ);
+        try {
+            return new LectorRegistro(canal);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Indexes the games completed since the last call (or since opening).
+     *
+     * @return The number of new games.
+     * @throws IOException if the file cannot be mapped.
+     */
+    public int actualizar() throws IOException {
+        int antes = numPartidas;
+        long tamanoArchivo = canal.size();
+        while (fin < tamanoArchivo) {
+            int indice = (int) (fin >>> desplazamiento);
+            if (indice >= segmentos.size() && !mapear(indice, tamanoArchivo)) break;
+            int longitud = (int) RegistroPartidas.ENTERO.getAcquire(segmentos.get(indice), posicionEn(fin));
+            if (longitud == 0) break;
+            if (longitud > 0) {
+                if (numPartidas == desplazamientos.length) {
+                    desplazamientos = Arrays.copyOf(desplazamientos, numPartidas * 2);
+                }
+                desplazamientos[numPartidas++] = fin;
+            }
+            fin += RegistroPartidas.alinear(Math.abs(longitud));
+        }
+        return numPartidas - antes;
+    }
+
+    public int getNumPartidas() {
+        return numPartidas;
+    }
+
+    /**
+     * @param partida The game's index in the file.
+     * @return Its offset in the file.
+     */
+    public long getDesplazamiento(int partida) {
+        return desplazamientos[Objects.checkIndex(partida, numPartidas)];
+    }
+
+    public long getSemilla(int partida) {
+        return buffer(partida).getLong(posicion(partida) + RegistroPartidas.POS_SEMILLA);
+    }
+
+    public int getNumJugadores(int partida) {
+        return buffer(partida).get(posicion(partida) + RegistroPartidas.POS_JUGADORES) & 0xFF;
+    }
+
+    /**
+     * @return The game's RegistroPartidas.OPCION_* flags.
+     */
+    public int getOpciones(int partida) {
+        return buffer(partida).get(posicion(partida) + RegistroPartidas.POS_OPCIONES) & 0xFF;
+    }
+
+    /**
+     * @return The number of cards in the game's deal.
+     */
+    public int getCartasReparto(int partida) {
+        return buffer(partida).getShort(posicion(partida) + RegistroPartidas.POS_REPARTO);
+    }
+
+    /**
+     * @param partida The game's index.
+     * @param i The card's position in the deal: each hand, the table card, then the deck from the top.
+     * @return The card code.
+     */
+    public int getCodigoReparto(int partida, int i) {
+        Objects.checkIndex(i, getCartasReparto(partida));
+        return buffer(partida).get(posicion(partida) + RegistroPartidas.CABECERA_PARTIDA + i);
+    }
+
+    public int getNumJugadas(int partida) {
+        MappedByteBuffer buffer = buffer(partida);
+        int posicion = posicion(partida);
+        return buffer.getInt(posicion) - RegistroPartidas.CABECERA_PARTIDA
+                - buffer.getShort(posicion + RegistroPartidas.POS_REPARTO);
+    }
+
+    /**
+     * @param partida The game's index.
+     * @param jugada The move's index within the game.
+     * @return The move code (see {@link Jugada#getCodigo()}).
+     */
+    public int getCodigoJugada(int partida, int jugada) {
+        MappedByteBuffer buffer = buffer(partida);
+        int posicion = posicion(partida);
+        int reparto = buffer.getShort(posicion + RegistroPartidas.POS_REPARTO);
+        int numJugadas = buffer.getInt(posicion) - RegistroPartidas.CABECERA_PARTIDA - reparto;
+        Objects.checkIndex(jugada, numJugadas);
+        return buffer.get(posicion + RegistroPartidas.CABECERA_PARTIDA + reparto + jugada);
+    }
+
+    /**
+     * @return The move, as one of the shared {@link Jugada} instances.
+     */
+    public Jugada getJugada(int partida, int jugada) {
+        return Jugada.desdeCodigo(getCodigoJugada(partida, jugada));
+    }
+
+    /**
+     * Replays a whole game.
+     *
+     * @param partida The game's index.
+     * @return The game after its last recorded move.
+     * @throws IllegalStateException if a recorded move is not legal in the replay.
+     */
+    public Juego reproducir(int partida) {
+        return reproducir(partida, getNumJugadas(partida));
+    }
+
+    /**
+     * Replays a game up to a move: the result is the position where that move is about to be made.
+     * The seats are plain players (or compact ones, if the game was recorded with them) named "Asiento i".
+     *
+     * @param partida The game's index.
+     * @param numJugadas How many of its moves to apply (from 0 to getNumJugadas).
+     * @return The game after those moves.
+     * @throws IllegalStateException if the seed deals differently from the recorded deal
+     *                               (e.g. the shuffle changed), or a recorded move is not legal in the replay.
+     */
+    public Juego reproducir(int partida, int numJugadas) {
+        Objects.checkIndex(numJugadas, getNumJugadas(partida) + 1);
+        boolean compactas = (getOpciones(partida) & RegistroPartidas.OPCION_MANOS_COMPACTAS) != 0;
+        List<IJugador> asientos = new ArrayList<>();
+        for (int i = 0; i < getNumJugadores(partida); i++) {
+            asientos.add(compactas ? new JugadorCompacto("Asiento " + i, false) : new Jugador("Asiento " + i, false));
+        }
+
+        Juego juego = new Juego(Juego.barajasNecesarias(asientos.size()), getSemilla(partida));
+        juego.iniciarJuego(asientos);
+
+        // The seed must deal exactly the recorded cards, or the moves would replay another game
+        MappedByteBuffer buffer = buffer(partida);
+        int posicionReparto = posicion(partida) + RegistroPartidas.CABECERA_PARTIDA;
+        byte[] reparto = GrabadorPartida.reparto(juego.exportarEstado());
+        boolean coincide = reparto.length == getCartasReparto(partida);
+        for (int i = 0; coincide && i < reparto.length; i++) {
+            coincide = buffer.get(posicionReparto + i) == reparto[i];
+        }
+        if (!coincide) {
+            throw new IllegalStateException("Game " + partida + " does not replay: seed "
+                    + getSemilla(partida) + " no longer deals the recorded cards.");
+        }
+
+        // Same flow as when it was recorded: a move, then the turn passes (eliminating who cannot move)
+        int inicio = posicionReparto + reparto.length;
+        for (int k = 0; k < numJugadas; k++) {
+            Jugada jugada = Jugada.desdeCodigo(buffer.get(inicio + k));
+            ResultadoJugada resultado = jugada.aplicar(juego);
+            if (!resultado.esValida()) {
+                throw new IllegalStateException("Game " + partida + " does not replay: move " + k
+                        + " (" + jugada + ") is " + resultado);
+            }
+            juego.pasarTurno();
+        }
+        return juego;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private MappedByteBuffer buffer(int partida) {
+        return segmentos.get((int) (getDesplazamiento(partida) >>> desplazamiento));
+    }
+
+    private int posicion(int partida) {
+        return posicionEn(desplazamientos[partida]);
+    }
+
+    private int posicionEn(long desplazamientoArchivo) {
+        return (int) (desplazamientoArchivo & (tamanoSegmento - 1));
+    }
+
+    /**
+     * Maps the next segment, if the file already reaches its end.
+     */
+    private boolean mapear(int indice, long tamanoArchivo) throws IOException {
+        long inicio = (long) indice << desplazamiento;
+        if (inicio + tamanoSegmento > tamanoArchivo) return false;
+        MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, inicio, tamanoSegmento);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        segmentos.add(buffer);
+        return true;
+    }
+}
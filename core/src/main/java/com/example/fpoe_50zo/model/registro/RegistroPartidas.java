@@ -0,0 +1,317 @@
+package com.example.fpoe_50zo.model.registro;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only binary journal of played games, written through memory-mapped segments.
+ *
+ * File layout (little-endian):
+ * <pre>
+ * file header (16 bytes):  int magic "50ZO" | short version | short unused | int segment size | int unused
+ * then one record after another, each starting at a multiple of 8:
+ *   int   length        bytes of the record, this header included (negative: padding of -length bytes)
+ *   byte  players       number of seats
+ *   byte  options       OPCION_* flags
+ *   short deal size     number of card codes in the deal
+ *   long  seed          seed of the game's deck (see {@link com.example.fpoe_50zo.model.game.Juego#Juego(long)})
+ *   byte[deal size]     the deal: each seat's hand, the starting table card, then the deck from top to bottom
+ *   byte[...]           one byte per move: card code, plus {@link com.example.fpoe_50zo.model.game.Jugada#AS_COMO_DIEZ} for an Ace played as 10
+ * </pre>
+ * The file is a sequence of segments of a fixed power-of-two size, each mapped once.
+ * A record never crosses a segment boundary: the rest of a segment that cannot hold
+ * the next record is filled with padding.
+ *
+ * Any number of threads can write at once. Each record reserves its space with a
+ * single atomic add, is copied into the mapping with no lock, and is published by
+ * writing its length last. A record whose length is still zero is not there yet, so
+ * a reader (or a reopen after a crash) stops at the first one. Mapped pages are forced
+ * to disk in batches, every {@code lote} records, by whichever writer gets there
+ * first; the others never wait for it.
+ */
+public final class RegistroPartidas implements AutoCloseable {
+
+    /** "50ZO" read as a little-endian int. */
+    public static final int MAGIA = 0x4F5A3035;
+    public static final short VERSION = 1;
+
+    /** The players held sorted hands ({@link com.example.fpoe_50zo.model.player.JugadorCompacto}). */
+    public static final int OPCION_MANOS_COMPACTAS = 1;
+
+    public static final int TAMANO_SEGMENTO_POR_DEFECTO = 1 << 26;
+    public static final int LOTE_POR_DEFECTO = 4096;
+
+    static final int CABECERA_ARCHIVO = 16;
+    static final int CABECERA_PARTIDA = 16;
+    static final int ALINEACION = 8;
+
+    // Offsets inside a record
+    static final int POS_JUGADORES = 4;
+    static final int POS_OPCIONES = 5;
+    static final int POS_REPARTO = 6;
+    static final int POS_SEMILLA = 8;
+
+    // Ordered access to the length field, which publishes a record
+    static final VarHandle ENTERO = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final FileChannel canal;
+    private final int tamanoSegmento;
+    private final int desplazamiento;
+    private final int lote;
+
+    private final AtomicLong posicion;
+    private final AtomicInteger pendientes = new AtomicInteger();
+    private final ReentrantLock cerrojoSincronizar = new ReentrantLock();
+    private volatile MappedByteBuffer[] segmentos = new MappedByteBuffer[0];
+    private long sincronizadoHasta;
+    private volatile boolean cerrado;
+
+    private RegistroPartidas(FileChannel canal, int tamanoSegmento, int lote) throws IOException {
+        this.canal = canal;
+        this.tamanoSegmento = tamanoSegmento;
+        this.desplazamiento = Integer.numberOfTrailingZeros(tamanoSegmento);
+        this.lote = lote;
+        this.posicion = new AtomicLong(CABECERA_ARCHIVO);
+
+        MappedByteBuffer primero = segmento(0);
+        if ((int) ENTERO.getAcquire(primero, 0) == 0) {
+            // New file
+            primero.putShort(4, VERSION);
+            primero.putInt(8, tamanoSegmento);
+            ENTERO.setRelease(primero, 0, MAGIA);
+        } else {
+            validarCabecera(primero, tamanoSegmento);
+            posicion.set(buscarFinal());
+        }
+        this.sincronizadoHasta = posicion.get();
+    }
+
+    /**
+     * Opens a journal with the default segment size and flush batch.
+     * The file is created if missing; otherwise new games are appended after the last complete one.
+     *
+     * @param archivo The journal file.
+     * @return The open journal.
+     * @throws IOException if the file cannot be opened or is not a journal.
+     */
+    public static RegistroPartidas abrir(Path archivo) throws IOException {
+        return abrir(archivo, TAMANO_SEGMENTO_POR_DEFECTO, LOTE_POR_DEFECTO);
+    }
+
+    /**
+     * Opens a journal.
+     *
+     * @param archivo The journal file.
+     * @param tamanoSegmento Bytes mapped at a time: a power of two, at least 4 KiB.
+     *                       An existing file must have been created with the same size.
+     * @param lote Records written between two flushes to disk (at least 1).
+     * @return The open journal.
+     * @throws IOException if the file cannot be opened or is not a journal.
+     */
+    public static RegistroPartidas abrir(Path archivo, int tamanoSegmento, int lote) throws IOException {
+        if (Integer.bitCount(tamanoSegmento) != 1 || tamanoSegmento < 4096) {
+            throw new IllegalArgumentException("Segment size must be a power of two of at least 4096: " + tamanoSegmento);
+        }
+        if (lote < 1) {
+            throw new IllegalArgumentException("Flush batch must be at least 1: " + lote);
+        }
+        FileChannel canal = FileChannel.open(Objects.requireNonNull(archivo, "File cannot be null"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new RegistroPartidas(canal, tamanoSegmento, lote);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends one game. Safe to call from any number of threads at once.
+     *
+     * @param semilla The seed of the game's deck.
+     * @param opciones OPCION_* flags.
+     * @param numJugadores The number of seats.
+     * @param reparto The deal, as card codes (see the class comment).
+     * @param jugadas The move codes, in order.
+     * @param numJugadas How many bytes of {@code jugadas} to write.
+     * @return The offset of the record in the file.
+     */
+    public long registrar(long semilla, int opciones, int numJugadores, byte[] reparto, byte[] jugadas, int numJugadas) {
+        if (cerrado) {
+            throw new IllegalStateException("The journal is closed.");
+        }
+        if (numJugadores < 1 || numJugadores > 0xFF) {
+            throw new IllegalArgumentException("Invalid number of players: " + numJugadores);
+        }
+        Objects.checkFromIndexSize(0, numJugadas, jugadas.length);
+        int longitud = CABECERA_PARTIDA + reparto.length + numJugadas;
+        if (reparto.length > Short.MAX_VALUE || alinear(longitud) > tamanoSegmento - CABECERA_ARCHIVO) {
+            throw new IllegalArgumentException("Game too long for a segment: " + longitud + " bytes");
+        }
+
+        long inicio = reservar(alinear(longitud));
+        MappedByteBuffer buffer = segmento((int) (inicio >>> desplazamiento));
+        int i = (int) (inicio & (tamanoSegmento - 1));
+        buffer.put(i + POS_JUGADORES, (byte) numJugadores);
+        buffer.put(i + POS_OPCIONES, (byte) opciones);
+        buffer.putShort(i + POS_REPARTO, (short) reparto.length);
+        buffer.putLong(i + POS_SEMILLA, semilla);
+        buffer.put(i + CABECERA_PARTIDA, reparto, 0, reparto.length);
+        buffer.put(i + CABECERA_PARTIDA + reparto.length, jugadas, 0, numJugadas);
+        ENTERO.setRelease(buffer, i, longitud);
+
+        if (pendientes.incrementAndGet() >= lote && cerrojoSincronizar.tryLock()) {
+            try {
+                pendientes.set(0);
+                forzar();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not flush the journal", e);
+            } finally {
+                cerrojoSincronizar.unlock();
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Forces every record written so far to disk.
+     *
+     * @throws IOException if the flush fails.
+     */
+    public void sincronizar() throws IOException {
+        cerrojoSincronizar.lock();
+        try {
+            pendientes.set(0);
+            forzar();
+        } finally {
+            cerrojoSincronizar.unlock();
+        }
+    }
+
+    /**
+     * @return The offset where the next record will go (the bytes used so far).
+     */
+    public long getPosicion() {
+        return posicion.get();
+    }
+
+    public int getTamanoSegmento() {
+        return tamanoSegmento;
+    }
+
+    /**
+     * Flushes the journal and closes the file. Records being written by other threads at
+     * that moment may be lost.
+     */
+    @Override
+    public void close() throws IOException {
+        if (cerrado) return;
+        cerrado = true;
+        try {
+            sincronizar();
+        } finally {
+            canal.close();
+        }
+    }
+
+    /**
+     * Reserves {@code tamano} bytes that do not cross a segment boundary.
+     */
+    private long reservar(int tamano) {
+        while (true) {
+            long inicio = posicion.getAndAdd(tamano);
+            long finSegmento = (inicio | (tamanoSegmento - 1)) + 1;
+            if (inicio + tamano <= finSegmento) {
+                return inicio;
+            }
+            // Does not fit: pad what we took, at the end of this segment and at the start of the next
+            rellenar(inicio, (int) (finSegmento - inicio));
+            rellenar(finSegmento, (int) (inicio + tamano - finSegmento));
+        }
+    }
+
+    private void rellenar(long inicio, int tamano) {
+        MappedByteBuffer buffer = segmento((int) (inicio >>> desplazamiento));
+        ENTERO.setRelease(buffer, (int) (inicio & (tamanoSegmento - 1)), -tamano);
+    }
+
+    /**
+     * Returns a segment, mapping it (and growing the file) the first time.
+     */
+    private MappedByteBuffer segmento(int indice) {
+        MappedByteBuffer[] actuales = segmentos;
+        if (indice < actuales.length && actuales[indice] != null) {
+            return actuales[indice];
+        }
+        synchronized (this) {
+            actuales = segmentos;
+            if (indice >= actuales.length) {
+                actuales = Arrays.copyOf(actuales, Math.max(indice + 1, actuales.length * 2));
+            }
+            if (actuales[indice] == null) {
+                try {
+                    MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE,
+                            (long) indice << desplazamiento, tamanoSegmento);
+                    buffer.order(ByteOrder.LITTLE_ENDIAN);
+                    actuales[indice] = buffer;
+                } catch (IOException e) {
+                    throw new IllegalStateException("Could not map journal segment " + indice, e);
+                }
+            }
+            segmentos = actuales;
+            return actuales[indice];
+        }
+    }
+
+    /**
+     * Walks the records of an existing file up to the first one that was never completed.
+     */
+    private long buscarFinal() throws IOException {
+        long tamanoArchivo = canal.size();
+        long actual = CABECERA_ARCHIVO;
+        while (actual < tamanoArchivo) {
+            MappedByteBuffer buffer = segmento((int) (actual >>> desplazamiento));
+            int longitud = (int) ENTERO.getAcquire(buffer, (int) (actual & (tamanoSegmento - 1)));
+            if (longitud == 0) break;
+            actual += alinear(Math.abs(longitud));
+        }
+        return actual;
+    }
+
+    private void forzar() throws IOException {
+        if (!canal.isOpen()) return;
+        long hasta = posicion.get();
+        for (long s = sincronizadoHasta >>> desplazamiento; s <= (hasta - 1) >>> desplazamiento; s++) {
+            segmento((int) s).force();
+        }
+        // The current segment is forced again next time: it may still be receiving records
+        sincronizadoHasta = hasta;
+    }
+
+    static void validarCabecera(MappedByteBuffer cabecera, int tamanoSegmento) throws IOException {
+        if (cabecera.getInt(0) != MAGIA) {
+            throw new IOException("Not a game journal (bad magic number).");
+        }
+        if (cabecera.getShort(4) != VERSION) {
+            throw new IOException("Unsupported journal version: " + cabecera.getShort(4));
+        }
+        if (tamanoSegmento != 0 && cabecera.getInt(8) != tamanoSegmento) {
+            throw new IOException("Journal was created with segments of " + cabecera.getInt(8) + " bytes.");
+        }
+    }
+
+    static int alinear(int longitud) {
+        return (longitud + ALINEACION - 1) & -ALINEACION;
+    }
+}
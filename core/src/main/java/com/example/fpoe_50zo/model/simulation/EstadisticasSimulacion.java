@@ -0,0 +1,149 @@
+package com.example.fpoe_50zo.model.simulation;
+
+/**
+ * Aggregated results of a batch of headless games.
+ * Each worker fills its own instance and the results are merged at the end,
+ * so no counter is ever shared between threads.
+ */
+public class EstadisticasSimulacion {
+
+    private final int numAsientos;
+    private final long[] victoriasPorAsiento;
+    private final long[] eliminacionesPorAsiento;
+
+    private long partidas;
+    private long partidasTruncadas;
+    private long turnos;
+    private long eliminaciones;
+    private long maxTurnosPartida;
+    private long nanosTranscurridos;
+
+    /**
+     * Creates an empty statistics block.
+     *
+     * @param numAsientos The number of seats at the simulated table.
+     */
+    public EstadisticasSimulacion(int numAsientos) {
+        this.numAsientos = numAsientos;
+        this.victoriasPorAsiento = new long[numAsientos];
+        this.eliminacionesPorAsiento = new long[numAsientos];
+    }
+
+    /**
+     * Records one finished game.
+     *
+     * @param asientoGanador The seat of the winner, or -1 if the game was truncated.
+     * @param turnosPartida The number of moves played in the game.
+     */
+    void registrarPartida(int asientoGanador, long turnosPartida) {
+        partidas++;
+        turnos += turnosPartida;
+        if (turnosPartida > maxTurnosPartida) {
+            maxTurnosPartida = turnosPartida;
+        }
+        if (asientoGanador < 0) {
+            partidasTruncadas++;
+        } else {
+            victoriasPorAsiento[asientoGanador]++;
+        }
+    }
+
+    /**
+     * Records that the player in the given seat was eliminated.
+     *
+     * @param asiento The seat of the eliminated player.
+     */
+    void registrarEliminacion(int asiento) {
+        eliminaciones++;
+        eliminacionesPorAsiento[asiento]++;
+    }
+
+    /**
+     * Adds the counters of another block to this one.
+     *
+     * @param otra The block to merge (must have the same number of seats).
+     * @return this block, for chaining.
+     */
+    EstadisticasSimulacion combinar(EstadisticasSimulacion otra) {
+        partidas += otra.partidas;
+        partidasTruncadas += otra.partidasTruncadas;
+        turnos += otra.turnos;
+        eliminaciones += otra.eliminaciones;
+        maxTurnosPartida = Math.max(maxTurnosPartida, otra.maxTurnosPartida);
+        for (int i = 0; i < numAsientos; i++) {
+            victoriasPorAsiento[i] += otra.victoriasPorAsiento[i];
+            eliminacionesPorAsiento[i] += otra.eliminacionesPorAsiento[i];
+        }
+        return this;
+    }
+
+    void setNanosTranscurridos(long nanosTranscurridos) {
+        this.nanosTranscurridos = nanosTranscurridos;
+    }
+
+    // --- Getters ---
+
+    public int getNumAsientos() {
+        return numAsientos;
+    }
+
+    public long getPartidas() {
+        return partidas;
+    }
+
+    public long getPartidasTruncadas() {
+        return partidasTruncadas;
+    }
+
+    public long getTurnos() {
+        return turnos;
+    }
+
+    public long getEliminaciones() {
+        return eliminaciones;
+    }
+
+    public long getMaxTurnosPartida() {
+        return maxTurnosPartida;
+    }
+
+    public long getVictorias(int asiento) {
+        return victoriasPorAsiento[asiento];
+    }
+
+    public long getEliminaciones(int asiento) {
+        return eliminacionesPorAsiento[asiento];
+    }
+
+    public long getNanosTranscurridos() {
+        return nanosTranscurridos;
+    }
+
+    /**
+     * @return The throughput of the run in games per second.
+     */
+    public double getPartidasPorSegundo() {
+        if (nanosTranscurridos <= 0) return 0;
+        return partidas * 1_000_000_000.0 / nanosTranscurridos;
+    }
+
+    /**
+     * @return A multi-line human-readable report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %,d (truncated: %,d) in %.2f s -> %,.0f games/s%n",
+                partidas, partidasTruncadas, nanosTranscurridos / 1e9, getPartidasPorSegundo()));
+        sb.append(String.format("Moves: %,d (avg %.1f per game, max %,d)%n",
+                turnos, partidas == 0 ? 0.0 : (double) turnos / partidas, maxTurnosPartida));
+        sb.append(String.format("Eliminations: %,d%n", eliminaciones));
+        for (int i = 0; i < numAsientos; i++) {
+            sb.append(String.format("  Seat %d: wins %,d (%.2f%%), eliminated %,d%n",
+                    i, victoriasPorAsiento[i],
+                    partidas == 0 ? 0.0 : 100.0 * victoriasPorAsiento[i] / partidas,
+                    eliminacionesPorAsiento[i]));
+        }
+        return sb.toString();
+    }
+}
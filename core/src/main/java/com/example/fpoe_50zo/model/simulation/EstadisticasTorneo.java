@@ -0,0 +1,215 @@
+package com.example.fpoe_50zo.model.simulation;
+
+import java.util.List;
+
+/**
+ * Results of a {@link Torneo}: head-to-head wins between every pair of strategies,
+ * plus the time spent playing each strategy's games.
+ * Like {@link EstadisticasSimulacion}, each worker fills its own instance and the
+ * results are merged at the end.
+ */
+public class EstadisticasTorneo {
+
+    /** z for a two-sided 95% confidence interval. */
+    public static final double Z_95 = 1.959964;
+
+    private final List<String> nombres;
+    // [a][b]: games a played against b, and how many of them a won
+    private final long[][] partidas;
+    private final long[][] victorias;
+    // Time spent playing each strategy's games, added up over all threads
+    private final long[] nanosJuego;
+    private long partidasTruncadas;
+    private long nanosTranscurridos;
+
+    /**
+     * Creates an empty results block.
+     *
+     * @param nombres The names of the strategies, by index.
+     */
+    public EstadisticasTorneo(List<String> nombres) {
+        this.nombres = List.copyOf(nombres);
+        int n = nombres.size();
+        this.partidas = new long[n][n];
+        this.victorias = new long[n][n];
+        this.nanosJuego = new long[n];
+    }
+
+    /**
+     * Records one game between two strategies.
+     *
+     * @param a The index of one strategy.
+     * @param b The index of the other.
+     * @param ganador The index of the winner (a or b), or -1 if the game was truncated.
+     * @param nanos How long the game took.
+     */
+    void registrarPartida(int a, int b, int ganador, long nanos) {
+        partidas[a][b]++;
+        partidas[b][a]++;
+        nanosJuego[a] += nanos;
+        nanosJuego[b] += nanos;
+        if (ganador < 0) {
+            partidasTruncadas++;
+        } else {
+            victorias[ganador][ganador == a ? b : a]++;
+        }
+    }
+
+    /**
+     * Adds the counters of another block to this one.
+     *
+     * @param otra The block to merge (must have the same strategies).
+     * @return this block, for chaining.
+     */
+    EstadisticasTorneo combinar(EstadisticasTorneo otra) {
+        for (int a = 0; a < nombres.size(); a++) {
+            for (int b = 0; b < nombres.size(); b++) {
+                partidas[a][b] += otra.partidas[a][b];
+                victorias[a][b] += otra.victorias[a][b];
+            }
+            nanosJuego[a] += otra.nanosJuego[a];
+        }
+        partidasTruncadas += otra.partidasTruncadas;
+        return this;
+    }
+
+    void setNanosTranscurridos(long nanosTranscurridos) {
+        this.nanosTranscurridos = nanosTranscurridos;
+    }
+
+    /**
+     * Computes the Wilson score interval of a proportion, which stays inside [0, 1]
+     * and behaves well with few games or win rates near 0 or 1.
+     *
+     * @param exitos The number of successes.
+     * @param n The number of trials.
+     * @param z The normal quantile of the confidence level (e.g. {@link #Z_95}).
+     * @return The interval as {lower, upper}; {0, 1} if there were no trials.
+     */
+    public static double[] intervaloWilson(long exitos, long n, double z) {
+        if (n == 0) {
+            return new double[]{0, 1};
+        }
+        double p = (double) exitos / n;
+        double z2 = z * z;
+        double centro = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double margen = z * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n)) / (1 + z2 / n);
+        return new double[]{Math.max(0, centro - margen), Math.min(1, centro + margen)};
+    }
+
+    // --- Getters ---
+
+    public int getNumEstrategias() {
+        return nombres.size();
+    }
+
+    public String getNombre(int estrategia) {
+        return nombres.get(estrategia);
+    }
+
+    /**
+     * @return The games strategy {@code a} played against strategy {@code b}.
+     */
+    public long getPartidas(int a, int b) {
+        return partidas[a][b];
+    }
+
+    /**
+     * @return The games strategy {@code a} won against strategy {@code b}.
+     */
+    public long getVictorias(int a, int b) {
+        return victorias[a][b];
+    }
+
+    /**
+     * @return All the games a strategy played.
+     */
+    public long getPartidas(int estrategia) {
+        long total = 0;
+        for (long p : partidas[estrategia]) total += p;
+        return total;
+    }
+
+    /**
+     * @return All the games a strategy won.
+     */
+    public long getVictorias(int estrategia) {
+        long total = 0;
+        for (long v : victorias[estrategia]) total += v;
+        return total;
+    }
+
+    public double getTasaVictorias(int estrategia) {
+        long jugadas = getPartidas(estrategia);
+        return jugadas == 0 ? 0 : (double) getVictorias(estrategia) / jugadas;
+    }
+
+    /**
+     * @return The 95% confidence interval of a strategy's win rate, as {lower, upper}.
+     */
+    public double[] getIntervaloVictorias(int estrategia) {
+        return intervaloWilson(getVictorias(estrategia), getPartidas(estrategia), Z_95);
+    }
+
+    /**
+     * @return The 95% confidence interval of a's win rate against b, as {lower, upper}.
+     */
+    public double[] getIntervaloVictorias(int a, int b) {
+        return intervaloWilson(victorias[a][b], partidas[a][b], Z_95);
+    }
+
+    /**
+     * @return The games of a strategy played per second of one thread's time
+     *         (its opponents' thinking included).
+     */
+    public double getPartidasPorSegundo(int estrategia) {
+        if (nanosJuego[estrategia] <= 0) return 0;
+        return getPartidas(estrategia) * 1_000_000_000.0 / nanosJuego[estrategia];
+    }
+
+    public long getPartidas() {
+        long total = 0;
+        for (int a = 0; a < nombres.size(); a++) total += getPartidas(a);
+        return total / 2;
+    }
+
+    public long getPartidasTruncadas() {
+        return partidasTruncadas;
+    }
+
+    public long getNanosTranscurridos() {
+        return nanosTranscurridos;
+    }
+
+    /**
+     * @return The throughput of the whole tournament in games per second.
+     */
+    public double getPartidasPorSegundo() {
+        if (nanosTranscurridos <= 0) return 0;
+        return getPartidas() * 1_000_000_000.0 / nanosTranscurridos;
+    }
+
+    /**
+     * @return A multi-line human-readable report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %,d (truncated: %,d) in %.2f s -> %,.0f games/s%n",
+                getPartidas(), partidasTruncadas, nanosTranscurridos / 1e9, getPartidasPorSegundo()));
+        for (int a = 0; a < nombres.size(); a++) {
+            double[] intervalo = getIntervaloVictorias(a);
+            sb.append(String.format("  %-12s wins %,d/%,d = %.1f%% [%.1f%%, %.1f%%], %,.0f games/s per thread%n",
+                    nombres.get(a), getVictorias(a), getPartidas(a), 100 * getTasaVictorias(a),
+                    100 * intervalo[0], 100 * intervalo[1], getPartidasPorSegundo(a)));
+            for (int b = 0; b < nombres.size(); b++) {
+                if (b == a || partidas[a][b] == 0) continue;
+                double[] contra = getIntervaloVictorias(a, b);
+                sb.append(String.format("    vs %-12s %,d/%,d = %.1f%% [%.1f%%, %.1f%%]%n",
+                        nombres.get(b), victorias[a][b], partidas[a][b],
+                        100.0 * victorias[a][b] / partidas[a][b], 100 * contra[0], 100 * contra[1]));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.fpoe_50zo.model.simulation;
+
+import com.example.fpoe_50zo.model.deck.IMazo;
+import com.example.fpoe_50zo.model.deck.Mazo;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.JugadorCompacto;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import com.example.fpoe_50zo.model.registro.GrabadorPartida;
+import com.example.fpoe_50zo.model.registro.RegistroPartidas;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Headless batch runner that plays complete all-CPU games of "Cincuentazo".
+ * It drives {@link Juego} directly (no JavaFX, no delays) and spreads the
+ * games across a work-stealing {@link ForkJoinPool}.
+ * Game number {@code i} is always dealt from the same seed, derived from the
+ * base seed and {@code i}, so any game of a run can be replayed on its own.
+ */
+public class Simulador {
+
+    // Games played by one leaf task before it stops splitting
+    private static final int PARTIDAS_POR_TAREA = 512;
+
+    // Safety net: a game that runs longer than this is counted as truncated
+    private static final int MAX_TURNOS_POR_PARTIDA = 10_000;
+
+    private final int numMaquinas;
+    private final long semillaBase;
+    private final ForkJoinPool pool;
+
+    // Builds the deck of each game from that game's seed (by default with as
+    // many 52-card decks as the table needs, like the journal replay)
+    private LongFunction<IMazo> fabricaMazo;
+    private boolean mazoPorDefecto = true;
+
+    // Journal where every game is recorded, or null
+    private RegistroPartidas registro;
+
+    // Whether the CPUs hold their cards in a JugadorCompacto bitmask hand
+    private boolean manosCompactas;
+
+    /**
+     * Creates a simulator with a random base seed that uses every available core.
+     *
+     * @param numMaquinas The number of AI players at each table (at least 2).
+     */
+    public Simulador(int numMaquinas) {
+        this(numMaquinas, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a reproducible simulator that uses every available core.
+     *
+     * @param numMaquinas The number of AI players at each table (at least 2).
+     * @param semillaBase The seed from which every game's seed is derived.
+     */
+    public Simulador(int numMaquinas, long semillaBase) {
+        this(numMaquinas, semillaBase, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a reproducible simulator that runs its games on the given pool.
+     *
+     * @param numMaquinas The number of AI players at each table (at least 2).
+     * @param semillaBase The seed from which every game's seed is derived.
+     * @param pool The fork-join pool that executes the games.
+     */
+    public Simulador(int numMaquinas, long semillaBase, ForkJoinPool pool) {
+        if (numMaquinas < 2) {
+            throw new IllegalArgumentException("A simulated game needs at least 2 AI players.");
+        }
+        this.numMaquinas = numMaquinas;
+        this.semillaBase = semillaBase;
+        this.pool = pool;
+        int barajas = Juego.barajasNecesarias(numMaquinas);
+        this.fabricaMazo = semilla -> new Mazo(barajas, semilla);
+    }
+
+    /**
+     * @return The seed from which every game's seed is derived.
+     */
+    public long getSemillaBase() {
+        return semillaBase;
+    }
+
+    /**
+     * Chooses the deck implementation used by every game, e.g. {@code MazoCircular::new}.
+     *
+     * @param fabricaMazo Builds a shuffled deck from a game's seed.
+     */
+    public void setFabricaMazo(LongFunction<IMazo> fabricaMazo) {
+        this.fabricaMazo = Objects.requireNonNull(fabricaMazo, "Deck factory cannot be null");
+        this.mazoPorDefecto = false;
+    }
+
+    /**
+     * Records every game played from now on into a journal.
+     * A recorded game is replayed from its seed with the default deck,
+     * so this cannot be combined with {@link #setFabricaMazo(LongFunction)}.
+     *
+     * @param registro The journal, or null to stop recording.
+     */
+    public void setRegistro(RegistroPartidas registro) {
+        this.registro = registro;
+    }
+
+    /**
+     * Chooses the hand representation of the CPUs.
+     * Compact hands answer puedeJugar and pick their move with a table lookup.
+     * Their tie-break between equally legal cards differs from JugadorMaquina,
+     * so results are not identical to a run with list hands.
+     *
+     * @param manosCompactas true to seat {@link JugadorCompacto} players.
+     * @throws IllegalArgumentException if compact hands are asked for at a table
+     *                                  that needs more than one deck.
+     */
+    public void setManosCompactas(boolean manosCompactas) {
+        if (manosCompactas && Juego.barajasNecesarias(numMaquinas) > 1) {
+            throw new IllegalArgumentException("Compact hands only support tables dealt from a single deck.");
+        }
+        this.manosCompactas = manosCompactas;
+    }
+
+    /**
+     * Computes the seed of a given game of this run.
+     * Uses the SplitMix64 finalizer so that consecutive indices give
+     * unrelated seeds.
+     *
+     * @param indicePartida The index of the game within the run.
+     * @return The seed that game is dealt from.
+     */
+    public long semillaPartida(long indicePartida) {
+        return semillaPartida(semillaBase, indicePartida);
+    }
+
+    /**
+     * Same as {@link #semillaPartida(long)}, for any base seed.
+     */
+    static long semillaPartida(long semillaBase, long indicePartida) {
+        long z = semillaBase + (indicePartida + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays the given number of games and returns the aggregated results.
+     *
+     * @param numPartidas The number of complete games to play.
+     * @return The merged statistics, including the elapsed time.
+     */
+    public EstadisticasSimulacion simular(long numPartidas) {
+        if (registro != null && !mazoPorDefecto) {
+            throw new IllegalStateException("Recorded games must use the default deck.");
+        }
+        long inicio = System.nanoTime();
+        EstadisticasSimulacion resultado = pool.invoke(new TareaSimulacion(0, numPartidas));
+        resultado.setNanosTranscurridos(System.nanoTime() - inicio);
+        return resultado;
+    }
+
+    /**
+     * Plays one complete game and records it in the given statistics block.
+     */
+    private void jugarPartida(long semilla, EstadisticasSimulacion estadisticas) {
+        IJugador[] asientos = new IJugador[numMaquinas];
+        for (int i = 0; i < numMaquinas; i++) {
+            asientos[i] = manosCompactas
+                    ? new JugadorCompacto("CPU " + (i + 1), false)
+                    : new JugadorMaquina("CPU " + (i + 1));
+        }
+
+        Juego juego = new Juego(fabricaMazo.apply(semilla));
+        juego.iniciarJuego(Arrays.asList(asientos));
+        GrabadorPartida grabador = registro != null ? GrabadorPartida.grabar(registro, juego, semilla) : null;
+
+        long turnos = 0;
+        while (!juego.isJuegoTerminado()) {
+            if (turnos >= MAX_TURNOS_POR_PARTIDA) {
+                estadisticas.registrarPartida(-1, turnos);
+                if (grabador != null) grabador.terminar();
+                return;
+            }
+
+            IJugador actual = juego.getJugadorActual();
+            if (!juego.revisarEstadoJugadorActual()) {
+                // The eliminated player's successor now holds the turn
+                estadisticas.registrarEliminacion(asientoDe(asientos, actual));
+                continue;
+            }
+
+            jugarTurno(juego, actual);
+            turnos++;
+            juego.siguienteTurno();
+        }
+
+        estadisticas.registrarPartida(asientoDe(asientos, juego.getGanador()), turnos);
+    }
+
+    /**
+     * Lets the current CPU choose and play its move: a compact hand by its table
+     * lookup, any other CPU through its strategy.
+     * Uses the non-throwing move API: a rejected move here is a bug in the AI.
+     */
+    private static void jugarTurno(Juego juego, IJugador actual) {
+        Jugada jugada;
+        if (actual instanceof JugadorCompacto compacto) {
+            int codigo = compacto.decidirJugada(juego.getSumaMesa());
+            jugada = codigo == JugadorCompacto.SIN_JUGADA ? null : Jugada.desdeCodigo(codigo);
+        } else {
+            jugada = ((JugadorMaquina) actual).decidirJugada(juego);
+        }
+        if (jugada == null) {
+            throw new IllegalStateException("AI found no move for a player who can move: " + actual);
+        }
+
+        ResultadoJugada resultado = jugada.aplicar(juego);
+        if (!resultado.esValida()) {
+            throw new IllegalStateException("AI chose an invalid move: " + jugada + " (" + resultado + ")");
+        }
+    }
+
+    private static int asientoDe(IJugador[] asientos, IJugador jugador) {
+        for (int i = 0; i < asientos.length; i++) {
+            if (asientos[i] == jugador) return i;
+        }
+        throw new IllegalStateException("Player is not seated at this table: " + jugador);
+    }
+
+    /**
+     * Fork-join task over a range of game indices [desde, hasta).
+     */
+    private class TareaSimulacion extends RecursiveTask<EstadisticasSimulacion> {
+
+        private final long desde;
+        private final long hasta;
+
+        TareaSimulacion(long desde, long hasta) {
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected EstadisticasSimulacion compute() {
+            if (hasta - desde <= PARTIDAS_POR_TAREA) {
+                EstadisticasSimulacion estadisticas = new EstadisticasSimulacion(numMaquinas);
+                for (long i = desde; i < hasta; i++) {
+                    jugarPartida(semillaPartida(i), estadisticas);
+                }
+                return estadisticas;
+            }
+
+            long mitad = (desde + hasta) >>> 1;
+            TareaSimulacion izquierda = new TareaSimulacion(desde, mitad);
+            izquierda.fork();
+            EstadisticasSimulacion derecha = new TareaSimulacion(mitad, hasta).compute();
+            return izquierda.join().combinar(derecha);
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * Usage: Simulador [numPartidas] [numMaquinas] [semillaBase]
+     *
+     * @param args optional number of games (default 1,000,000), CPUs per table (default 3)
+     *             and base seed (random by default).
+     */
+    public static void main(String[] args) {
+        long numPartidas = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int numMaquinas = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Simulador simulador = args.length > 2
+                ? new Simulador(numMaquinas, Long.parseLong(args[2]))
+                : new Simulador(numMaquinas);
+
+        System.out.printf("Simulating %,d games with %d CPUs on %d threads (base seed %d)...%n",
+                numPartidas, numMaquinas, ForkJoinPool.commonPool().getParallelism(),
+                simulador.getSemillaBase());
+        EstadisticasSimulacion resultado = simulador.simular(numPartidas);
+        System.out.print(resultado);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.fpoe_50zo.model.simulation;
+
+import com.example.fpoe_50zo.model.ai.EstrategiaMCTS;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.EstrategiaVoraz;
+import com.example.fpoe_50zo.model.player.IEstrategia;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Round-robin tournament between AI strategies ({@link IEstrategia}).
+ *
+ * Every pair of registered strategies plays the same number of head-to-head games.
+ * Games are played in pairs from the same deal with the seats swapped, so neither
+ * strategy profits from a lucky deal or from moving first; and every pairing uses
+ * the same deals. All the games of all the pairings are spread across a
+ * work-stealing {@link ForkJoinPool}, like the games of a {@link Simulador}.
+ * Each game seats fresh copies of the strategies ({@link IEstrategia#copiar()}).
+ */
+public class Torneo {
+
+    // Games played by one leaf task before it stops splitting (search strategies are slow)
+    private static final int PARTIDAS_POR_TAREA = 16;
+
+    // Safety net, as in the simulator: a longer game is counted as truncated
+    private static final int MAX_TURNOS_POR_PARTIDA = 10_000;
+
+    private final long semillaBase;
+    private final ForkJoinPool pool;
+    private final List<IEstrategia> estrategias = new ArrayList<>();
+
+    /**
+     * Creates a reproducible tournament that uses every available core.
+     *
+     * @param semillaBase The seed from which every deal is derived.
+     */
+    public Torneo(long semillaBase) {
+        this(semillaBase, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a reproducible tournament that runs its games on the given pool.
+     *
+     * @param semillaBase The seed from which every deal is derived.
+     * @param pool The fork-join pool that executes the games.
+     */
+    public Torneo(long semillaBase, ForkJoinPool pool) {
+        this.semillaBase = semillaBase;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Adds a strategy to the tournament.
+     *
+     * @param estrategia The strategy; its name must be unique in the tournament.
+     */
+    public void registrar(IEstrategia estrategia) {
+        Objects.requireNonNull(estrategia, "Strategy cannot be null");
+        for (IEstrategia otra : estrategias) {
+            if (otra.getNombre().equals(estrategia.getNombre())) {
+                throw new IllegalArgumentException("A strategy named " + estrategia.getNombre() + " is already registered.");
+            }
+        }
+        estrategias.add(estrategia);
+    }
+
+    /**
+     * Plays every pairing of the registered strategies.
+     *
+     * @param partidasPorEmparejamiento The games each pair of strategies plays
+     *                                  (even, so every deal is played from both seats).
+     * @return The merged results, including the elapsed time.
+     */
+    public EstadisticasTorneo jugar(int partidasPorEmparejamiento) {
+        if (estrategias.size() < 2) {
+            throw new IllegalStateException("A tournament needs at least 2 strategies.");
+        }
+        if (partidasPorEmparejamiento < 2 || partidasPorEmparejamiento % 2 != 0) {
+            throw new IllegalArgumentException("Each pairing must play a positive, even number of games.");
+        }
+
+        List<int[]> emparejamientos = new ArrayList<>();
+        for (int a = 0; a < estrategias.size(); a++) {
+            for (int b = a + 1; b < estrategias.size(); b++) {
+                emparejamientos.add(new int[]{a, b});
+            }
+        }
+        List<String> nombres = new ArrayList<>();
+        for (IEstrategia estrategia : estrategias) {
+            nombres.add(estrategia.getNombre());
+        }
+
+        long inicio = System.nanoTime();
+        long total = (long) emparejamientos.size() * partidasPorEmparejamiento;
+        EstadisticasTorneo resultado = pool.invoke(
+                new TareaTorneo(List.copyOf(estrategias), nombres, emparejamientos, partidasPorEmparejamiento, 0, total));
+        resultado.setNanosTranscurridos(System.nanoTime() - inicio);
+        return resultado;
+    }
+
+    /**
+     * Plays one game of a pairing: game {@code 2k} and {@code 2k+1} share deal {@code k},
+     * with the seats swapped.
+     */
+    private void jugarPartida(List<IEstrategia> estrategias, int[] emparejamiento, long partida,
+                              EstadisticasTorneo resultado) {
+        int primera = emparejamiento[(int) (partida & 1)];
+        int segunda = emparejamiento[1 - (int) (partida & 1)];
+        JugadorMaquina[] asientos = {
+                new JugadorMaquina(estrategias.get(primera).getNombre(), estrategias.get(primera).copiar()),
+                new JugadorMaquina(estrategias.get(segunda).getNombre(), estrategias.get(segunda).copiar())
+        };
+
+        long inicio = System.nanoTime();
+        Juego juego = new Juego(Simulador.semillaPartida(semillaBase, partida >>> 1));
+        juego.iniciarJuego(List.of(asientos));
+        int turnos = 0;
+        do {
+            JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+            Jugada jugada = actual.decidirJugada(juego);
+            ResultadoJugada resultadoJugada = jugada.aplicar(juego);
+            if (!resultadoJugada.esValida()) {
+                throw new IllegalStateException(actual.getNombre() + " chose an invalid move: "
+                        + jugada + " (" + resultadoJugada + ")");
+            }
+            turnos++;
+        } while (juego.pasarTurno() && turnos < MAX_TURNOS_POR_PARTIDA);
+        long nanos = System.nanoTime() - inicio;
+
+        int ganador = -1;
+        if (juego.isJuegoTerminado()) {
+            ganador = juego.getGanador() == asientos[0] ? primera : segunda;
+        }
+        resultado.registrarPartida(primera, segunda, ganador, nanos);
+    }
+
+    /**
+     * Fork-join task over a range of game indices [desde, hasta) of the whole tournament:
+     * game {@code i} is game {@code i % partidasPorEmparejamiento} of pairing
+     * {@code i / partidasPorEmparejamiento}.
+     */
+    private class TareaTorneo extends RecursiveTask<EstadisticasTorneo> {
+
+        private final List<IEstrategia> estrategias;
+        private final List<String> nombres;
+        private final List<int[]> emparejamientos;
+        private final int partidasPorEmparejamiento;
+        private final long desde;
+        private final long hasta;
+
+        TareaTorneo(List<IEstrategia> estrategias, List<String> nombres, List<int[]> emparejamientos,
+                    int partidasPorEmparejamiento, long desde, long hasta) {
+            this.estrategias = estrategias;
+            this.nombres = nombres;
+            this.emparejamientos = emparejamientos;
+            this.partidasPorEmparejamiento = partidasPorEmparejamiento;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected EstadisticasTorneo compute() {
+            if (hasta - desde <= PARTIDAS_POR_TAREA) {
+                EstadisticasTorneo resultado = new EstadisticasTorneo(nombres);
+                for (long i = desde; i < hasta; i++) {
+                    jugarPartida(estrategias, emparejamientos.get((int) (i / partidasPorEmparejamiento)),
+                            i % partidasPorEmparejamiento, resultado);
+                }
+                return resultado;
+            }
+
+            long mitad = (desde + hasta) >>> 1;
+            TareaTorneo izquierda = new TareaTorneo(estrategias, nombres, emparejamientos,
+                    partidasPorEmparejamiento, desde, mitad);
+            izquierda.fork();
+            EstadisticasTorneo derecha = new TareaTorneo(estrategias, nombres, emparejamientos,
+                    partidasPorEmparejamiento, mitad, hasta).compute();
+            return izquierda.join().combinar(derecha);
+        }
+    }
+
+    /**
+     * Command-line entry point: the greedy strategy against MCTS.
+     * Usage: Torneo [partidasPorEmparejamiento] [msMcts] [semillaBase]
+     *
+     * @param args optional games per pairing (default 200), MCTS thinking time per
+     *             move in ms (default 5) and base seed (random by default).
+     */
+    public static void main(String[] args) {
+        int partidas = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long msMcts = args.length > 1 ? Long.parseLong(args[1]) : 5;
+        long semilla = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+
+        Torneo torneo = new Torneo(semilla);
+        torneo.registrar(new EstrategiaVoraz());
+        torneo.registrar(new EstrategiaMCTS(msMcts));
+        System.out.printf("Tournament: %,d games per pairing on %d threads (base seed %d)...%n",
+                partidas, ForkJoinPool.commonPool().getParallelism(), semilla);
+        System.out.print(torneo.jugar(partidas));
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.fpoe_50zo.servidor;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.Jugada;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A blocking client for {@link ServidorMesas}, and a load generator built on it.
+ *
+ * The load generator opens C connections, each of which deals T tables and then
+ * plays them all to the end in turns (so C * T tables are open at once), always
+ * choosing the first legal card. It reports the games and moves per second.
+ *
+ * Usage: ClienteMesas [--puerto P] [--clientes C] [--mesas T] [--maquinas N]
+ */
+public final class ClienteMesas implements AutoCloseable {
+
+    private final Socket socket;
+    private final BufferedReader entrada;
+    private final OutputStream salida;
+
+    /**
+     * Connects to a server on this machine.
+     *
+     * @param puerto The server's port.
+     * @throws IOException if the connection fails.
+     */
+    public ClienteMesas(int puerto) throws IOException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), puerto);
+        socket.setTcpNoDelay(true);
+        this.entrada = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        this.salida = socket.getOutputStream();
+    }
+
+    /**
+     * Sends one command and waits for its answer.
+     *
+     * @param comando The command line, without the line break.
+     * @return The answer line.
+     * @throws IOException if the connection fails or the server hangs up.
+     */
+    public String enviar(String comando) throws IOException {
+        salida.write((comando + "\n").getBytes(StandardCharsets.US_ASCII));
+        salida.flush();
+        String respuesta = entrada.readLine();
+        if (respuesta == null) {
+            throw new IOException("The server closed the connection.");
+        }
+        return respuesta;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    /**
+     * Reads a field of a state line.
+     *
+     * @param estado A state line ("OK mesa=1 version=3 ...").
+     * @param clave The field's name, e.g. "suma".
+     * @return Its value.
+     * @throws IllegalArgumentException if the line has no such field.
+     */
+    public static String campo(String estado, String clave) {
+        String prefijo = " " + clave + "=";
+        int inicio = estado.indexOf(prefijo);
+        if (inicio < 0) {
+            throw new IllegalArgumentException("No " + clave + " in: " + estado);
+        }
+        inicio += prefijo.length();
+        int fin = estado.indexOf(' ', inicio);
+        return estado.substring(inicio, fin < 0 ? estado.length() : fin);
+    }
+
+    /**
+     * Picks the first legal move of the hand in a state line (an Ace counts 10 when it fits).
+     *
+     * @param estado A state line where it is the client's turn.
+     * @return The move code, or -1 if no card fits.
+     */
+    public static int primeraJugadaLegal(String estado) {
+        int suma = Integer.parseInt(campo(estado, "suma"));
+        String mano = campo(estado, "mano");
+        if (mano.isEmpty()) {
+            return -1;
+        }
+        for (String codigo : mano.split(",")) {
+            Carta carta = Carta.desdeCodigo(Integer.parseInt(codigo));
+            if (carta.esAs()) {
+                if (suma + 10 <= 50) return carta.getCodigo() | Jugada.AS_COMO_DIEZ;
+                if (suma + 1 <= 50) return carta.getCodigo();
+            } else if (suma + carta.getValorJuego() <= 50) {
+                return carta.getCodigo();
+            }
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int puerto = 5050;
+        int clientes = 100;
+        int mesasPorCliente = 10;
+        int maquinas = 3;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            int valor = Integer.parseInt(args[i + 1]);
+            switch (args[i]) {
+                case "--puerto" -> puerto = valor;
+                case "--clientes" -> clientes = valor;
+                case "--mesas" -> mesasPorCliente = valor;
+                case "--maquinas" -> maquinas = valor;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        LongAdder partidas = new LongAdder();
+        LongAdder jugadas = new LongAdder();
+        long inicio = System.nanoTime();
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int c = 0; c < clientes; c++) {
+                int p = puerto;
+                int t = mesasPorCliente;
+                int m = maquinas;
+                long semilla = (long) c * mesasPorCliente;
+                tareas.add(hilos.submit(() -> {
+                    jugarMesas(p, t, m, semilla, partidas, jugadas);
+                    return null;
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("%d games, %d moves in %.2f s: %.0f games/s, %.0f moves/s%n",
+                partidas.sum(), jugadas.sum(), segundos, partidas.sum() / segundos, jugadas.sum() / segundos);
+    }
+
+    /**
+     * One load-generating client: deals its tables, then plays a move on each
+     * unfinished table in turn until every game is over.
+     */
+    static void jugarMesas(int puerto, int numMesas, int numMaquinas, long semilla,
+                           LongAdder partidas, LongAdder jugadas) throws IOException {
+        try (ClienteMesas cliente = new ClienteMesas(puerto)) {
+            String[] estados = new String[numMesas];
+            for (int i = 0; i < numMesas; i++) {
+                estados[i] = comprobar(cliente.enviar("CREAR " + numMaquinas + " " + (semilla + i)));
+            }
+            int enJuego = numMesas;
+            while (enJuego > 0) {
+                for (int i = 0; i < numMesas; i++) {
+                    String estado = estados[i];
+                    if (estado == null) continue;
+                    if (!campo(estado, "ganador").equals("-") || !campo(estado, "turno").equals("0")) {
+                        // Over (the CPUs finish the game when the client is eliminated)
+                        estados[i] = null;
+                        enJuego--;
+                        partidas.increment();
+                        continue;
+                    }
+                    String mesa = campo(estado, "mesa");
+                    estados[i] = comprobar(cliente.enviar("JUGAR " + mesa + " " + primeraJugadaLegal(estado)));
+                    jugadas.increment();
+                }
+            }
+        }
+    }
+
+    private static String comprobar(String respuesta) throws IOException {
+        if (!respuesta.startsWith("OK")) {
+            throw new IOException("Server error: " + respuesta);
+        }
+        return respuesta;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.fpoe_50zo.servidor;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * One table of the server: a {@link Juego} between a remote player (seat 0)
+ * and greedy CPUs, driven as an actor.
+ *
+ * The game is only ever touched by the table's own virtual thread, which takes
+ * commands from a small bounded mailbox and runs them one at a time, so no lock
+ * is needed however many connections address the table. A command never blocks
+ * its sender: if the mailbox is full it is answered with an error at once.
+ * Everything the table holds is bounded (the 52 cards, a fixed mailbox, a parked
+ * virtual thread), which is what lets a server keep thousands of them open.
+ */
+final class Mesa implements AutoCloseable {
+
+    static final int CAPACIDAD_BUZON = 8;
+
+    // Safety net, as in the simulator: CPU moves run for the player in one command at most
+    private static final int MAX_TURNOS_MAQUINAS = 10_000;
+
+    private static final String CERRADA = "ERR table closed";
+    private static final String OCUPADA = "ERR table busy";
+
+    private final int id;
+    private final Juego juego;
+    private final IJugador jugador;
+    private final BlockingQueue<Comando> buzon = new ArrayBlockingQueue<>(CAPACIDAD_BUZON);
+    private final Thread actor;
+    private volatile boolean cerrada;
+
+    /**
+     * Deals a new game and starts the table's actor.
+     *
+     * @param id The table's number on the server.
+     * @param numMaquinas The CPUs at the table (1 to 3).
+     * @param semilla The seed the deck is shuffled from.
+     */
+    Mesa(int id, int numMaquinas, long semilla) {
+        this.id = id;
+        this.juego = new Juego(semilla);
+        juego.iniciarJuego(numMaquinas);
+        this.jugador = juego.getAsientos().get(0);
+        this.actor = Thread.ofVirtual().name("mesa-" + id).start(this::atender);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    /**
+     * @return A future with the state line of the table.
+     */
+    CompletableFuture<String> estado() {
+        return encolar(this::describir);
+    }
+
+    /**
+     * Plays the remote player's move, then every CPU move until it is the
+     * player's turn again or the game ends.
+     *
+     * @param codigo The move code (see {@link Jugada#getCodigo()}).
+     * @return A future with the new state line, or an "ERR" line if the move was rejected.
+     */
+    CompletableFuture<String> jugar(int codigo) {
+        return encolar(() -> aplicar(codigo));
+    }
+
+    /**
+     * Stops the actor. Commands still queued are answered with an error.
+     */
+    @Override
+    public void close() {
+        cerrada = true;
+        actor.interrupt();
+    }
+
+    private CompletableFuture<String> encolar(Supplier<String> accion) {
+        Comando comando = new Comando(accion);
+        if (cerrada) {
+            comando.respuesta.complete(CERRADA);
+        } else if (!buzon.offer(comando)) {
+            comando.respuesta.complete(OCUPADA);
+        } else if (cerrada && buzon.remove(comando)) {
+            // Closed while queueing: the actor may already have drained the mailbox
+            comando.respuesta.complete(CERRADA);
+        }
+        return comando.respuesta;
+    }
+
+    private void atender() {
+        try {
+            while (!cerrada) {
+                Comando comando = buzon.take();
+                String respuesta;
+                try {
+                    respuesta = comando.accion.get();
+                } catch (RuntimeException e) {
+                    respuesta = "ERR " + e.getMessage();
+                }
+                comando.respuesta.complete(respuesta);
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        } finally {
+            Comando pendiente;
+            while ((pendiente = buzon.poll()) != null) {
+                pendiente.respuesta.complete(CERRADA);
+            }
+        }
+    }
+
+    // --- Run by the actor only ---
+
+    private String aplicar(int codigo) {
+        if (juego.isJuegoTerminado()) {
+            return "ERR game over";
+        }
+        if (juego.getJugadorActual() != jugador) {
+            return "ERR not your turn";
+        }
+        ResultadoJugada resultado = Jugada.desdeCodigo(codigo).aplicar(juego);
+        if (!resultado.esValida()) {
+            return "ERR " + resultado.name();
+        }
+
+        int turnos = 0;
+        while (juego.pasarTurno()
+                && juego.getJugadorActual() instanceof JugadorMaquina maquina
+                && turnos++ < MAX_TURNOS_MAQUINAS) {
+            Jugada jugada = maquina.decidirJugada(juego);
+            ResultadoJugada resultadoMaquina = jugada.aplicar(juego);
+            if (!resultadoMaquina.esValida()) {
+                throw new IllegalStateException(maquina.getNombre() + " chose an invalid move: "
+                        + jugada + " (" + resultadoMaquina + ")");
+            }
+        }
+        return describir();
+    }
+
+    /**
+     * Formats the state line: {@code OK mesa=ID version=V suma=S turno=T ganador=G mano=C,C,...}.
+     * Turn and winner are seat numbers (the remote player is 0), or "-" when there is none.
+     */
+    private String describir() {
+        List<IJugador> asientos = juego.getAsientos();
+        StringBuilder linea = new StringBuilder(64);
+        linea.append("OK mesa=").append(id)
+                .append(" version=").append(juego.getVersion())
+                .append(" suma=").append(juego.getSumaMesa())
+                .append(" turno=").append(juego.isJuegoTerminado() ? "-" : asientos.indexOf(juego.getJugadorActual()))
+                .append(" ganador=").append(juego.isJuegoTerminado() ? asientos.indexOf(juego.getGanador()) : "-")
+                .append(" mano=");
+        List<Carta> mano = jugador.getMano();
+        for (int i = 0; i < mano.size(); i++) {
+            if (i > 0) linea.append(',');
+            linea.append(mano.get(i).getCodigo());
+        }
+        return linea.toString();
+    }
+
+    private static final class Comando {
+        final Supplier<String> accion;
+        final CompletableFuture<String> respuesta = new CompletableFuture<>();
+
+        Comando(Supplier<String> accion) {
+            this.accion = accion;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.fpoe_50zo.servidor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A game server hosting many tables at once, over a local TCP line protocol.
+ *
+ * Every connection and every table runs on its own virtual thread. Each table is
+ * an actor ({@link Mesa}) that owns its {@link com.example.fpoe_50zo.model.game.Juego}:
+ * connections only send it commands, so a game is never touched by two threads.
+ * Any connection can address any table by number; the tables a connection created
+ * are closed when it disconnects.
+ *
+ * The protocol is one ASCII command per line, answered with one line that starts
+ * with "OK" or "ERR":
+ * <ul>
+ *   <li>{@code CREAR N [SEMILLA]}: deals a new table with the client in seat 0 and
+ *       N greedy CPUs (1 to 3). Answers the state line.</li>
+ *   <li>{@code ESTADO MESA}: answers the state line
+ *       {@code OK mesa=ID version=V suma=S turno=T ganador=G mano=C,C,...}, with seats
+ *       as numbers ("-" for none) and the client's hand as card codes.</li>
+ *   <li>{@code JUGAR MESA JUGADA}: plays a move code (a card code, plus 64 for an Ace
+ *       played as 10); the CPUs then move until it is the client's turn again.
+ *       Answers the new state line, or {@code ERR <ResultadoJugada>} if the move is rejected.</li>
+ *   <li>{@code CERRAR MESA}: closes a table.</li>
+ *   <li>{@code SALIR}: closes the connection.</li>
+ * </ul>
+ * The server only listens on the loopback address: it is meant for local play and load tests.
+ */
+public final class ServidorMesas implements AutoCloseable {
+
+    public static final int MAX_MESAS_POR_DEFECTO = 10_000;
+
+    // Longer lines are a protocol error (and would let a client grow our buffers)
+    static final int MAX_LINEA = 128;
+
+    private final ServerSocket servidor;
+    private final int maxMesas;
+    private final Map<Integer, Mesa> mesas = new ConcurrentHashMap<>();
+    private final Set<Socket> conexiones = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger siguienteMesa = new AtomicInteger();
+    // Tables open or being dealt, checked against maxMesas before dealing
+    private final AtomicInteger mesasReservadas = new AtomicInteger();
+    private volatile boolean cerrado;
+
+    private ServidorMesas(ServerSocket servidor, int maxMesas) {
+        this.servidor = servidor;
+        this.maxMesas = maxMesas;
+        Thread.ofVirtual().name("servidor-mesas").start(this::aceptar);
+    }
+
+    /**
+     * Starts a server on the loopback address.
+     *
+     * @param puerto The port, or 0 for any free port (see {@link #getPuerto()}).
+     * @param maxMesas The most tables open at once.
+     * @return The running server.
+     * @throws IOException if the port cannot be bound.
+     */
+    public static ServidorMesas iniciar(int puerto, int maxMesas) throws IOException {
+        if (maxMesas < 1) {
+            throw new IllegalArgumentException("The server needs room for at least one table.");
+        }
+        return new ServidorMesas(new ServerSocket(puerto, 1024, InetAddress.getLoopbackAddress()), maxMesas);
+    }
+
+    /**
+     * Runs a server until the process is stopped.
+     * Usage: ServidorMesas [--puerto P] [--max-mesas N]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int puerto = 5050;
+        int maxMesas = MAX_MESAS_POR_DEFECTO;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--puerto" -> puerto = Integer.parseInt(args[i + 1]);
+                case "--max-mesas" -> maxMesas = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        ServidorMesas servidor = iniciar(puerto, maxMesas);
+        System.out.println("Serving up to " + maxMesas + " tables on port " + servidor.getPuerto());
+        Thread.currentThread().join();
+    }
+
+    public int getPuerto() {
+        return servidor.getLocalPort();
+    }
+
+    public int getNumMesas() {
+        return mesas.size();
+    }
+
+    /**
+     * Stops accepting clients, disconnects every client and closes every table.
+     */
+    @Override
+    public void close() throws IOException {
+        cerrado = true;
+        servidor.close();
+        for (Socket conexion : conexiones) {
+            conexion.close();
+        }
+        for (Mesa mesa : mesas.values()) {
+            mesa.close();
+        }
+        mesas.clear();
+    }
+
+    private void aceptar() {
+        while (!cerrado) {
+            try {
+                Socket conexion = servidor.accept();
+                conexion.setTcpNoDelay(true);
+                conexiones.add(conexion);
+                if (cerrado) {
+                    conexion.close(); // Lost the race with close()
+                    break;
+                }
+                Thread.ofVirtual().name("conexion-" + conexion.getPort()).start(() -> atender(conexion));
+            } catch (IOException e) {
+                if (!cerrado) {
+                    System.err.println("Failed to accept a client: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Serves one client: reads a command, waits for the answer, writes it back.
+     */
+    private void atender(Socket conexion) {
+        List<Mesa> propias = new ArrayList<>();
+        try (conexion) {
+            InputStream entrada = new BufferedInputStream(conexion.getInputStream());
+            OutputStream salida = new BufferedOutputStream(conexion.getOutputStream());
+            byte[] linea = new byte[MAX_LINEA];
+            int longitud;
+            while ((longitud = leerLinea(entrada, linea)) >= 0) {
+                String comando = new String(linea, 0, longitud, StandardCharsets.US_ASCII).trim();
+                if (comando.equals("SALIR")) {
+                    escribir(salida, "OK bye");
+                    break;
+                }
+                escribir(salida, ejecutar(comando, propias));
+            }
+            if (longitud == -2) {
+                escribir(salida, "ERR line too long");
+            }
+        } catch (SocketException e) {
+            // The client went away, or the server is closing
+        } catch (IOException e) {
+            System.err.println("Connection error: " + e.getMessage());
+        } finally {
+            conexiones.remove(conexion);
+            for (Mesa mesa : propias) {
+                cerrarMesa(mesa);
+            }
+        }
+    }
+
+    private String ejecutar(String comando, List<Mesa> propias) {
+        String[] partes = comando.split(" +");
+        try {
+            switch (partes[0]) {
+                case "CREAR" -> {
+                    int numMaquinas = Integer.parseInt(argumento(partes, 1));
+                    long semilla = partes.length > 2 ? Long.parseLong(partes[2]) : System.nanoTime();
+                    if (numMaquinas < 1 || numMaquinas > 3) {
+                        return "ERR a table has 1 to 3 CPUs";
+                    }
+                    Mesa mesa = crearMesa(numMaquinas, semilla);
+                    if (mesa == null) {
+                        return "ERR server full";
+                    }
+                    propias.add(mesa);
+                    return mesa.estado().join();
+                }
+                case "ESTADO" -> {
+                    Mesa mesa = buscarMesa(partes);
+                    return mesa == null ? "ERR no such table" : mesa.estado().join();
+                }
+                case "JUGAR" -> {
+                    Mesa mesa = buscarMesa(partes);
+                    int jugada = Integer.parseInt(argumento(partes, 2));
+                    return mesa == null ? "ERR no such table" : mesa.jugar(jugada).join();
+                }
+                case "CERRAR" -> {
+                    Mesa mesa = buscarMesa(partes);
+                    if (mesa == null) {
+                        return "ERR no such table";
+                    }
+                    propias.remove(mesa);
+                    cerrarMesa(mesa);
+                    return "OK";
+                }
+                default -> {
+                    return "ERR unknown command";
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private Mesa crearMesa(int numMaquinas, long semilla) {
+        if (mesasReservadas.incrementAndGet() > maxMesas) {
+            mesasReservadas.decrementAndGet();
+            return null;
+        }
+        Mesa mesa = new Mesa(siguienteMesa.incrementAndGet(), numMaquinas, semilla);
+        mesas.put(mesa.getId(), mesa);
+        if (cerrado) {
+            cerrarMesa(mesa); // Lost the race with close()
+        }
+        return mesa;
+    }
+
+    private void cerrarMesa(Mesa mesa) {
+        if (mesas.remove(mesa.getId(), mesa)) {
+            mesasReservadas.decrementAndGet();
+        }
+        mesa.close();
+    }
+
+    private Mesa buscarMesa(String[] partes) {
+        return mesas.get(Integer.parseInt(argumento(partes, 1)));
+    }
+
+    private static String argumento(String[] partes, int i) {
+        if (i >= partes.length) {
+            throw new IllegalArgumentException("missing argument");
+        }
+        return partes[i];
+    }
+
+    /**
+     * Reads one line ('\n' terminated, an optional '\r' dropped) into the buffer.
+     *
+     * @return The line's length, -1 at the end of the stream, or -2 if the line does not fit.
+     */
+    private static int leerLinea(InputStream entrada, byte[] linea) throws IOException {
+        int n = 0;
+        int b;
+        while ((b = entrada.read()) != '\n') {
+            if (b < 0) {
+                return n == 0 ? -1 : n;
+            }
+            if (n == linea.length) {
+                return -2;
+            }
+            linea[n++] = (byte) b;
+        }
+        if (n > 0 && linea[n - 1] == '\r') {
+            n--;
+        }
+        return n;
+    }
+
+    private static void escribir(OutputStream salida, String respuesta) throws IOException {
+        salida.write(respuesta.getBytes(StandardCharsets.US_ASCII));
+        salida.write('\n');
+        salida.flush();
+    }
+}
@@ -0,0 +1,16 @@
+module com.example.fpoe_50zo.core {
+    requires java.management;
+    requires jdk.jfr;
+
+    exports com.example.fpoe_50zo.model.card;
+    exports com.example.fpoe_50zo.model.deck;
+    exports com.example.fpoe_50zo.model.exceptions;
+    exports com.example.fpoe_50zo.model.game;
+    exports com.example.fpoe_50zo.model.player;
+    exports com.example.fpoe_50zo.model.ai;
+    exports com.example.fpoe_50zo.model.simulation;
+    exports com.example.fpoe_50zo.model.registro;
+    exports com.example.fpoe_50zo.model.metricas;
+    exports com.example.fpoe_50zo.servidor;
+    exports com.example.fpoe_50zo.cli;
+}
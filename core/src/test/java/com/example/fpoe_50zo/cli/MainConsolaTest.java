@@ -0,0 +1,45 @@
+package com.example.fpoe_50zo.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainConsolaTest {
+
+    @Test
+    void testJuegaPartidasReproducibles() {
+        String primera = ejecutar(0, "--maquinas", "3", "--partidas", "4", "--semilla", "42", "--silencioso");
+        String segunda = ejecutar(0, "--maquinas", "3", "--partidas", "4", "--semilla", "42", "--silencioso");
+        // Same seed, same games (only the timings may differ)
+        assertEquals(primera.replaceAll("\\d+ ms", ""), segunda.replaceAll("\\d+ ms", ""));
+        assertTrue(primera.contains("Game 4 (seed 45)"));
+        assertTrue(primera.contains(" wins after "));
+        assertTrue(primera.contains("CPU 3: "));
+
+        // A single game narrates its moves
+        String narrada = ejecutar(0, "--maquinas", "2", "--semilla", "7");
+        assertTrue(narrada.contains("CPU 1 plays "));
+        assertTrue(narrada.contains(" is out"));
+    }
+
+    @Test
+    void testRechazaArgumentosInvalidos() {
+        assertEquals("", ejecutar(2, "--maquinas", "1"));
+        assertEquals("", ejecutar(2, "--partidas"));
+        assertEquals("", ejecutar(2, "--desconocida"));
+    }
+
+    private static String ejecutar(int codigoEsperado, String... args) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ByteArrayOutputStream errores = new ByteArrayOutputStream();
+        int codigo = MainConsola.ejecutar(args,
+                new PrintStream(salida, true, StandardCharsets.UTF_8),
+                new PrintStream(errores, true, StandardCharsets.UTF_8));
+        assertEquals(codigoEsperado, codigo, errores.toString(StandardCharsets.UTF_8));
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+}
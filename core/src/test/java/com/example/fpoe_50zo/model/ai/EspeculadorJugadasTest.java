@@ -0,0 +1,89 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.Jugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EspeculadorJugadasTest {
+
+    @Test
+    void testPrediceLasJugadasDeLasMaquinas() {
+        // Runs every speculation on the calling thread, so it is complete on return
+        EspeculadorJugadas especulador = new EspeculadorJugadas(Runnable::run);
+        Juego juego = new Juego(5L);
+        IJugador humano = new Jugador("Humano", true);
+        JugadorMaquina a = new JugadorMaquina("A");
+        JugadorMaquina b = new JugadorMaquina("B");
+        juego.iniciarJuego(List.of(humano, a, b));
+
+        Jugada jugadaHumano = primeraJugada(humano, juego.getSumaMesa());
+        especulador.especular(juego, jugadaHumano);
+        assertNull(especulador.buscar(juego), "Nothing is predicted for the current position");
+
+        // The real game follows the predicted path: both machines' moves are ready
+        assertEquals(ResultadoJugada.VALIDA, jugadaHumano.aplicar(juego));
+        assertTrue(juego.pasarTurno());
+        for (JugadorMaquina maquina : List.of(a, b)) {
+            assertSame(maquina, juego.getJugadorActual());
+            CompletableFuture<Jugada> prediccion = especulador.buscar(juego);
+            assertNotNull(prediccion);
+            assertEquals(maquina.decidirJugada(juego), prediccion.join());
+            assertEquals(ResultadoJugada.VALIDA, prediccion.join().aplicar(juego));
+            assertTrue(juego.pasarTurno());
+        }
+
+        // Back to the human: the speculation stopped there
+        assertSame(humano, juego.getJugadorActual());
+        assertNull(especulador.buscar(juego));
+    }
+
+    @Test
+    void testDescartaLoQueNoCoincide() {
+        EspeculadorJugadas especulador = new EspeculadorJugadas(Runnable::run);
+        Juego juego = new Juego(5L);
+        IJugador humano = new Jugador("Humano", true);
+        juego.iniciarJuego(List.of(humano, new JugadorMaquina("A")));
+
+        // The speculation expected one card, the human played another one
+        List<Carta> mano = humano.getMano();
+        Jugada esperada = primeraJugada(humano, juego.getSumaMesa());
+        especulador.especular(juego, esperada);
+        Carta otra = mano.get(mano.indexOf(esperada.getCarta()) == 0 ? 1 : 0);
+        assertEquals(ResultadoJugada.VALIDA, Jugada.de(otra, 1).aplicar(juego));
+        assertTrue(juego.pasarTurno());
+        assertNull(especulador.buscar(juego), "Same version, different position");
+
+        // And a discarded speculation is never handed out
+        juego = new Juego(5L);
+        humano = new Jugador("Humano", true);
+        juego.iniciarJuego(List.of(humano, new JugadorMaquina("A")));
+        Jugada jugada = primeraJugada(humano, juego.getSumaMesa());
+        especulador.especular(juego, jugada);
+        especulador.descartar();
+        jugada.aplicar(juego);
+        juego.pasarTurno();
+        assertNull(especulador.buscar(juego));
+    }
+
+    /**
+     * The first card of the hand that can be played, with an Ace counting as 1.
+     */
+    private static Jugada primeraJugada(IJugador jugador, int suma) {
+        for (Carta carta : jugador.getMano()) {
+            if (suma + (carta.esAs() ? 1 : carta.getValorJuego()) <= 50) {
+                return Jugada.de(carta, 1);
+            }
+        }
+        throw new AssertionError("No playable card");
+    }
+}
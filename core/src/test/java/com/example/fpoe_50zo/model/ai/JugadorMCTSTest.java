@@ -0,0 +1,115 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Palo;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.EstrategiaVoraz;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JugadorMCTSTest {
+
+    @Test
+    void testEncuentraLaJugadaQueGana() {
+        JugadorMCTS mcts = new JugadorMCTS("MCTS", 10_000);
+        mcts.setIteracionesMaximas(2000);
+        Juego juego = posicion(mcts, 45,
+                Carta.de(Palo.PICAS, Valor.DOS), Carta.de(Palo.PICAS, Valor.TRES),
+                Carta.de(Palo.PICAS, Valor.AS), Carta.de(Palo.PICAS, Valor.CINCO));
+
+        // The greedy rule plays the first card that fits
+        assertEquals(Carta.de(Palo.PICAS, Valor.DOS), EstrategiaVoraz.elegirCarta(mcts.getMano(), juego.getSumaMesa()));
+
+        // Reaching 50 leaves an opponent holding only 2..8 without a move
+        assertEquals(Jugada.de(Carta.de(Palo.PICAS, Valor.CINCO), 0), mcts.decidirJugada(juego));
+    }
+
+    @Test
+    void testEligeElValorDelAs() {
+        JugadorMCTS mcts = new JugadorMCTS("MCTS", 10_000);
+        mcts.setIteracionesMaximas(2000);
+        Carta as = Carta.de(Palo.PICAS, Valor.AS);
+
+        Juego juego = posicion(mcts, 40, Carta.de(Palo.PICAS, Valor.DOS), as,
+                Carta.de(Palo.PICAS, Valor.TRES), Carta.de(Palo.PICAS, Valor.CUATRO));
+        assertEquals(Jugada.de(as, 10), mcts.decidirJugada(juego));
+
+        // With a single legal move there is nothing to search
+        juego = posicion(mcts, 49, Carta.de(Palo.PICAS, Valor.DOS), as,
+                Carta.de(Palo.PICAS, Valor.TRES), Carta.de(Palo.PICAS, Valor.CUATRO));
+        assertEquals(Jugada.de(as, 1), mcts.decidirJugada(juego));
+    }
+
+    @Test
+    void testJuegaPartidasCompletasConJugadasValidas() {
+        for (long semilla = 0; semilla < 5; semilla++) {
+            JugadorMCTS mcts = new JugadorMCTS("MCTS", 20);
+            mcts.setIteracionesMaximas(50);
+            Juego juego = new Juego(semilla);
+            juego.iniciarJuego(List.of(new JugadorMaquina("A"), mcts, new JugadorMaquina("B")));
+
+            while (!juego.isJuegoTerminado()) {
+                if (!juego.revisarEstadoJugadorActual()) {
+                    continue;
+                }
+                JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+                Jugada jugada = actual.decidirJugada(juego);
+                assertEquals(ResultadoJugada.VALIDA, jugada.aplicar(juego));
+                juego.siguienteTurno();
+            }
+            assertNotNull(juego.getGanador());
+        }
+    }
+
+    @Test
+    void testRespetaElPresupuestoDeTiempo() {
+        JugadorMCTS mcts = new JugadorMCTS("MCTS", 100);
+        Juego juego = new Juego(3L);
+        juego.iniciarJuego(List.of(mcts, new JugadorMaquina("A"), new JugadorMaquina("B")));
+
+        long inicio = System.nanoTime();
+        Jugada jugada = mcts.decidirJugada(juego);
+        long transcurridoMs = (System.nanoTime() - inicio) / 1_000_000L;
+
+        assertNotNull(jugada);
+        assertTrue(transcurridoMs < 1000, "Took " + transcurridoMs + " ms");
+        assertEquals(ResultadoJugada.VALIDA, jugada.aplicar(juego));
+    }
+
+    /**
+     * Builds a two-player position where the search player moves first with the given hand,
+     * and every card it cannot see (deck and opponent's hand) is a 2..8 of Hearts or Diamonds.
+     */
+    private static Juego posicion(JugadorMCTS mcts, int suma, Carta... mano) {
+        Juego juego = new Juego(1L);
+        juego.iniciarJuego(List.of(mcts, new JugadorMaquina("Rival")));
+
+        int[] ocultas = new int[14];
+        int n = 0;
+        for (Palo palo : new Palo[]{Palo.CORAZONES, Palo.DIAMANTES}) {
+            for (Valor valor : new Valor[]{Valor.DOS, Valor.TRES, Valor.CUATRO, Valor.CINCO,
+                    Valor.SEIS, Valor.SIETE, Valor.OCHO}) {
+                ocultas[n++] = Carta.de(palo, valor).getCodigo();
+            }
+        }
+        int[] manoPropia = new int[mano.length];
+        for (int i = 0; i < mano.length; i++) {
+            manoPropia[i] = mano[i].getCodigo();
+        }
+        int[] mazo = Arrays.copyOfRange(ocultas, 4, ocultas.length);
+        int[] manoRival = Arrays.copyOfRange(ocultas, 0, 4);
+        int[] mesa = {Carta.de(Palo.TREBOLES, Valor.DIEZ).getCodigo()};
+
+        juego.restaurarEstado(new EstadoJuego(mazo, new int[][]{manoPropia, manoRival}, mesa, suma, 0, 0b11));
+        return juego;
+    }
+}
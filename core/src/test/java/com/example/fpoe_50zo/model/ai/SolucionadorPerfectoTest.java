@@ -0,0 +1,191 @@
+package com.example.fpoe_50zo.model.ai;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Palo;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.game.SimetriaPalos;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolucionadorPerfectoTest {
+
+    @Test
+    void testEncuentraLaUnicaJugadaQueGana() {
+        // 45 on the table: 2 of Spades lets the rival reach 50 with the 3 of Hearts,
+        // where every card seat 0 can hold is too high; the 5 of Spades does that to the rival
+        int[] mazo = codigos(Palo.DIAMANTES, Valor.DOS, Valor.TRES, Valor.CUATRO, Valor.CINCO,
+                Valor.SEIS, Valor.SIETE, Valor.OCHO);
+        int[][] manos = {
+                codigos(Palo.PICAS, Valor.DOS, Valor.CINCO, Valor.SIETE, Valor.OCHO),
+                codigos(Palo.CORAZONES, Valor.DOS, Valor.TRES, Valor.CUATRO, Valor.SEIS)
+        };
+        int[] mesa = codigos(Palo.TREBOLES, Valor.DIEZ);
+
+        SolucionPerfecta solucion = new SolucionadorPerfecto(1 << 20)
+                .resolver(new EstadoJuego(mazo, manos, mesa, 45, 0, 0b11));
+
+        assertTrue(solucion.estaDecidida());
+        assertEquals(0, solucion.getGanador());
+        assertEquals(Jugada.de(Carta.de(Palo.PICAS, Valor.CINCO), 0), solucion.getMejorJugada());
+        assertTrue(solucion.getNodos() > 1);
+    }
+
+    @Test
+    void testSeDetieneAlRebarajar() {
+        // Empty deck: whatever is played, the table is reshuffled and nobody is out yet
+        int[][] manos = {
+                codigos(Palo.PICAS, Valor.DOS, Valor.TRES, Valor.CUATRO, Valor.SEIS),
+                codigos(Palo.CORAZONES, Valor.DOS, Valor.TRES, Valor.CUATRO, Valor.SEIS)
+        };
+        int[] mesa = codigos(Palo.TREBOLES, Valor.DIEZ, Valor.NUEVE);
+
+        SolucionPerfecta solucion = new SolucionadorPerfecto(1 << 20)
+                .resolver(new EstadoJuego(new int[0], manos, mesa, 10, 0, 0b11));
+
+        assertFalse(solucion.estaDecidida());
+        assertEquals(SolucionPerfecta.SIN_DECIDIR, solucion.getGanador());
+        assertEquals(0b11, solucion.getVivosAlRebarajar());
+        assertEquals(1, solucion.getNodos());
+    }
+
+    @Test
+    void testNoDependeDeLaMemoriaNiDelParalelismo() {
+        EstadoJuego estado = finalDePartida(1L, 14);
+
+        SolucionadorPerfecto grande = new SolucionadorPerfecto(16L << 20, new ForkJoinPool(4));
+        SolucionPerfecta referencia = grande.resolver(estado);
+        // 1,024 entries: most positions are overwritten and searched again
+        SolucionadorPerfecto pequeno = new SolucionadorPerfecto(16 * 1024, new ForkJoinPool(1));
+        SolucionPerfecta conPocaMemoria = pequeno.resolver(estado);
+
+        assertEquals(referencia.getGanador(), conPocaMemoria.getGanador());
+        assertEquals(referencia.getMejorJugada(), conPocaMemoria.getMejorJugada());
+        // On one thread both tables see the same lines, so the small one can only miss more
+        // (across threads the root moves share work in a timing-dependent way)
+        SolucionPerfecta enSerie = new SolucionadorPerfecto(16L << 20, new ForkJoinPool(1)).resolver(estado);
+        assertTrue(conPocaMemoria.getNodos() >= enSerie.getNodos());
+        assertEquals(16 * 1024, pequeno.getMemoriaBytes());
+        assertTrue(pequeno.getPosicionesGuardadas() <= 1024);
+        assertTrue(referencia.getNodosPorSegundo() > 0);
+
+        // The table is kept between calls: solving again is a single lookup
+        SolucionPerfecta otraVez = grande.resolver(estado);
+        assertEquals(0, otraVez.getNodos());
+        assertEquals(1, otraVez.getAciertosTabla());
+        assertEquals(referencia.getMejorJugada(), otraVez.getMejorJugada());
+
+        // And so is solving it with the suits renamed; the move comes back in those suits
+        int permutacion = 0b00_01_10_11; // Reverses the suit order
+        SolucionPerfecta variante = grande.resolver(SimetriaPalos.permutar(permutacion, estado));
+        assertEquals(0, variante.getNodos());
+        assertEquals(referencia.getGanador(), variante.getGanador());
+        assertEquals(SimetriaPalos.permutar(permutacion, referencia.getMejorJugada()), variante.getMejorJugada());
+    }
+
+    @Test
+    void testPalosEmpatadosEnUnaManoDanLaMismaClave() {
+        // Diamonds and Spades first appear in hand 0, both on a 5; only hand 1 tells them apart
+        int[] mazo = codigos(Palo.CORAZONES, Valor.DOS, Valor.TRES, Valor.CUATRO, Valor.SEIS, Valor.OCHO);
+        int[][] manos = {
+                {Carta.de(Palo.DIAMANTES, Valor.CINCO).getCodigo(), Carta.de(Palo.PICAS, Valor.CINCO).getCodigo(),
+                        Carta.de(Palo.TREBOLES, Valor.DOS).getCodigo()},
+                {Carta.de(Palo.DIAMANTES, Valor.SIETE).getCodigo(), Carta.de(Palo.TREBOLES, Valor.TRES).getCodigo()}
+        };
+        EstadoJuego estado = new EstadoJuego(mazo, manos, codigos(Palo.TREBOLES, Valor.DIEZ), 38, 0, 0b11);
+
+        SolucionadorPerfecto solucionador = new SolucionadorPerfecto(1 << 20);
+        SolucionPerfecta referencia = solucionador.resolver(estado);
+        int cambio = 0b11_01_10_00; // Diamonds <-> Spades
+        SolucionPerfecta variante = solucionador.resolver(SimetriaPalos.permutar(cambio, estado));
+
+        assertEquals(0, variante.getNodos());
+        assertEquals(referencia.getGanador(), variante.getGanador());
+        assertEquals(SimetriaPalos.permutar(cambio, referencia.getMejorJugada()), variante.getMejorJugada());
+    }
+
+    @Test
+    void testElOrdenDeUnaManoEsParteDeLaClave() {
+        // An eliminated player's hand goes to the bottom of the deck in the order it is held
+        int[] mazo = codigos(Palo.CORAZONES, Valor.DOS, Valor.TRES);
+        int[] mesa = codigos(Palo.DIAMANTES, Valor.DIEZ);
+        int[] mano = codigos(Palo.TREBOLES, Valor.NUEVE, Valor.DIEZ, Valor.CUATRO);
+        int[] alReves = {mano[2], mano[1], mano[0]};
+        SolucionadorPerfecto solucionador = new SolucionadorPerfecto(1 << 20);
+
+        solucionador.resolver(new EstadoJuego(mazo, new int[][] {codigos(Palo.PICAS, Valor.CINCO), mano}, mesa, 45, 0, 0b11));
+        SolucionPerfecta otroOrden = solucionador.resolver(
+                new EstadoJuego(mazo, new int[][] {codigos(Palo.PICAS, Valor.CINCO), alReves}, mesa, 45, 0, 0b11));
+
+        assertTrue(otroOrden.getNodos() > 0);
+    }
+
+    @Test
+    void testLaJugadaPerfectaConservaElResultado() {
+        Juego juego = new Juego(11L);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B")));
+        avanzarHasta(juego, 14);
+        SolucionadorPerfecto solucionador = new SolucionadorPerfecto(16L << 20);
+        SolucionPerfecta solucion = solucionador.resolver(juego);
+
+        // Both sides keep playing perfectly until the game ends or reaches the reshuffle
+        while (solucion.getMejorJugada() != null && juego.exportarEstado().getCartasEnMazo() > 0) {
+            assertEquals(ResultadoJugada.VALIDA, solucion.getMejorJugada().aplicar(juego));
+            juego.pasarTurno();
+            SolucionPerfecta siguiente = solucionador.resolver(juego);
+            assertEquals(solucion.getGanador(), siguiente.getGanador());
+            solucion = siguiente;
+        }
+    }
+
+    @Test
+    void testValidaLaConfiguracion() {
+        assertThrows(IllegalArgumentException.class, () -> new SolucionadorPerfecto(8));
+        // Rounded down to a power-of-two number of 16-byte entries
+        assertEquals(1024 * 16, new SolucionadorPerfecto(1500 * 16).getMemoriaBytes());
+        // Huge budgets are capped where two longs per entry still fit in one array
+        assertEquals(TablaTransposicion.MAX_ENTRADAS, TablaTransposicion.entradasPara(16L << 30));
+        assertEquals(TablaTransposicion.MAX_ENTRADAS, TablaTransposicion.entradasPara(Long.MAX_VALUE));
+        assertEquals(1 << 28, TablaTransposicion.entradasPara((4L << 30) + 1));
+        // Two identical cards, as dealt from several decks
+        int[][] manos = {codigos(Palo.PICAS, Valor.DOS), codigos(Palo.PICAS, Valor.DOS)};
+        EstadoJuego dosBarajas = new EstadoJuego(new int[0], manos, codigos(Palo.TREBOLES, Valor.DIEZ), 10, 0, 0b11);
+        assertThrows(IllegalArgumentException.class, () -> new SolucionadorPerfecto(1 << 20).resolver(dosBarajas));
+    }
+
+    private static EstadoJuego finalDePartida(long semilla, int cartasEnMazo) {
+        Juego juego = new Juego(semilla);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B")));
+        avanzarHasta(juego, cartasEnMazo);
+        return juego.exportarEstado();
+    }
+
+    /**
+     * Plays greedy moves until the deck holds at most the given number of cards.
+     */
+    private static void avanzarHasta(Juego juego, int cartasEnMazo) {
+        boolean sigue = true;
+        while (sigue && juego.exportarEstado().getCartasEnMazo() > cartasEnMazo) {
+            JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+            assertEquals(ResultadoJugada.VALIDA, actual.decidirJugada(juego).aplicar(juego));
+            sigue = juego.pasarTurno();
+        }
+        assertTrue(sigue, "The game ended before the deck ran low");
+    }
+
+    private static int[] codigos(Palo palo, Valor... valores) {
+        int[] codigos = new int[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            codigos[i] = Carta.de(palo, valores[i]).getCodigo();
+        }
+        return codigos;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.fpoe_50zo.model.card;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CartaTest {
+
+    @Test
+    void testRegistroCubreLas52Cartas() {
+        for (int codigo = 0; codigo < Carta.TOTAL_CARTAS; codigo++) {
+            Carta carta = Carta.desdeCodigo(codigo);
+            assertEquals(codigo, carta.getCodigo());
+            assertSame(carta, Carta.de(carta.getPalo(), carta.getValor()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Carta.desdeCodigo(52));
+    }
+
+    @Test
+    void testCartaNuevaEsIgualALaCompartida() {
+        Carta nueva = new Carta(Palo.PICAS, Valor.REY);
+        Carta compartida = Carta.de(Palo.PICAS, Valor.REY);
+
+        assertNotSame(nueva, compartida);
+        assertEquals(compartida, nueva);
+        assertEquals(compartida.hashCode(), nueva.hashCode());
+        assertNotEquals(Carta.de(Palo.CORAZONES, Valor.REY), nueva);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.fpoe_50zo.model.deck;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HipergeometricaTest {
+
+    @Test
+    void testBinomiales() {
+        assertEquals(1, Hipergeometrica.binomial(0, 0));
+        assertEquals(2_598_960, Hipergeometrica.binomial(52, 5));
+        assertEquals(0, Hipergeometrica.binomial(5, 6));
+        assertEquals(0, Hipergeometrica.binomial(5, -1));
+        // The triangle grows past its first rows on demand
+        assertEquals(624, Hipergeometrica.binomial(624, 1));
+        assertEquals(Hipergeometrica.binomial(624, 3), Hipergeometrica.binomial(624, 621));
+        assertThrows(IllegalArgumentException.class, () -> Hipergeometrica.binomial(Hipergeometrica.MAX_CARTAS + 1, 1));
+    }
+
+    @Test
+    void testProbabilidades() {
+        // At least one Ace in five cards from a full deck
+        assertEquals(1 - 1_712_304.0 / 2_598_960, Hipergeometrica.probabilidadAlMenos(52, 4, 5, 1), 1e-12);
+        assertEquals(4.0 / 52, Hipergeometrica.probabilidadAlMenos(52, 4, 1, 1), 1e-15);
+        assertEquals(1, Hipergeometrica.probabilidadAlMenos(52, 4, 5, 0));
+        assertEquals(0, Hipergeometrica.probabilidadAlMenos(52, 4, 5, 5));
+
+        double total = 0;
+        for (int k = 0; k <= 12; k++) {
+            total += Hipergeometrica.probabilidad(40, 12, 12, k);
+        }
+        assertEquals(1, total, 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> Hipergeometrica.probabilidadAlMenos(10, 11, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> Hipergeometrica.probabilidad(10, 2, 11, 1));
+    }
+}
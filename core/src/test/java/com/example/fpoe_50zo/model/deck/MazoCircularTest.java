@@ -0,0 +1,85 @@
+package com.example.fpoe_50zo.model.deck;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the whole MazoTest contract against the circular-buffer deck,
+ * plus checks specific to the ring buffer.
+ */
+class MazoCircularTest extends MazoTest {
+
+    @Override
+    IMazo crearMazo() {
+        return new MazoCircular();
+    }
+
+    @Override
+    IMazo crearMazo(long semilla) {
+        return new MazoCircular(semilla);
+    }
+
+    @Test
+    void testRepartoIdenticoAMazoConLaMismaSemilla() throws MazoVacioException {
+        IMazo lista = new Mazo(7L);
+        IMazo circular = new MazoCircular(7L);
+
+        while (!lista.estaVacio()) {
+            assertEquals(lista.tomarCarta(), circular.tomarCarta());
+        }
+        assertTrue(circular.estaVacio());
+    }
+
+    @Test
+    void testVariasBarajasRepartenIgualQueMazo() throws MazoVacioException {
+        IMazo lista = new Mazo(3, 7L);
+        IMazo circular = new MazoCircular(3, 7L);
+        assertEquals(3 * Carta.TOTAL_CARTAS, circular.cartasRestantes());
+        assertEquals(12, circular.contarValor(Valor.AS));
+
+        while (!lista.estaVacio()) {
+            assertEquals(lista.tomarCarta(), circular.tomarCarta());
+        }
+        assertTrue(circular.estaVacio());
+        assertThrows(IllegalArgumentException.class, () -> new MazoCircular(0, 7L));
+
+        // A single deck is the classic one
+        IMazo una = new MazoCircular(1, 7L);
+        IMazo clasica = new MazoCircular(7L);
+        while (!clasica.estaVacio()) {
+            assertEquals(clasica.tomarCarta(), una.tomarCarta());
+        }
+    }
+
+    @Test
+    void testAgregarAlFinalConservaElOrdenYCrece() throws MazoVacioException {
+        IMazo mazo = new MazoCircular(3L);
+        Carta arriba = mazo.tomarCarta();
+        mazo.agregarAlFinal(arriba); // 52 cards, the drawn one at the bottom
+
+        // Going past the initial capacity forces the buffer to grow
+        List<Carta> extra = new ArrayList<>();
+        for (int codigo = 0; codigo < 20; codigo++) {
+            extra.add(Carta.desdeCodigo(codigo));
+        }
+        mazo.agregarAlFinal(extra);
+        assertEquals(72, mazo.cartasRestantes());
+
+        // Draw everything: the last cards out are the bottom ones, in list order
+        List<Carta> sacadas = new ArrayList<>();
+        while (!mazo.estaVacio()) {
+            sacadas.add(mazo.tomarCarta());
+        }
+        assertEquals(arriba, sacadas.get(51));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(extra.get(i), sacadas.get(71 - i));
+        }
+    }
+}
@@ -17,9 +17,21 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class MazoTest {
 
+    /**
+     * Creates the deck under test. Subclasses override it to run
+     * the same contract against another IMazo implementation.
+     */
+    IMazo crearMazo() {
+        return new Mazo();
+    }
+
+    IMazo crearMazo(long semilla) {
+        return new Mazo(semilla);
+    }
+
     @Test
     void testMazoSeCreaCorrectamente() {
-        IMazo mazo = new Mazo();
+        IMazo mazo = crearMazo();
         assertNotNull(mazo);
         assertFalse(mazo.estaVacio());
         assertEquals(52, mazo.cartasRestantes());
@@ -27,7 +39,7 @@ class MazoTest {
 
     @Test
     void testMazoTomaTodasLasCartasLanzaExcepcion() {
-        IMazo mazo = new Mazo();
+        IMazo mazo = crearMazo();
         int contador = 0;
 
         // Loop to take the 52 cards
@@ -46,11 +58,13 @@ class MazoTest {
 
         // Check that it now throws the exception
         assertThrows(MazoVacioException.class, mazo::tomarCarta);
+        // ...while the non-throwing draw just reports the empty deck
+        assertNull(mazo.intentarTomarCarta());
     }
 
     @Test
     void testMazoReciclaCartasDeLaMesa() throws MazoVacioException {
-        IMazo mazo = new Mazo();
+        IMazo mazo = crearMazo();
 
         // Empty the deck
         while (!mazo.estaVacio()) {
@@ -75,4 +89,48 @@ class MazoTest {
         assertNotNull(mazo.tomarCarta());
         assertTrue(mazo.estaVacio());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCuentaLasCartasDeCadaValor() throws MazoVacioException {
+        IMazo mazo = crearMazo(3L);
+        for (Valor valor : Valor.values()) {
+            assertEquals(4, mazo.contarValor(valor));
+        }
+
+        Carta robada = mazo.tomarCarta();
+        assertEquals(3, mazo.contarValor(robada.getValor()));
+        mazo.devolverArriba(robada);
+        assertEquals(4, mazo.contarValor(robada.getValor()));
+
+        mazo.vaciar();
+        assertEquals(0, mazo.contarValor(Valor.AS));
+        mazo.agregarAlFinal(List.of(new Carta(Palo.PICAS, Valor.AS), new Carta(Palo.CORAZONES, Valor.AS)));
+        mazo.agregarAlFinal(new Carta(Palo.TREBOLES, Valor.REY));
+        mazo.barajar();
+        assertEquals(2, mazo.contarValor(Valor.AS));
+        assertEquals(1, mazo.contarValor(Valor.REY));
+        assertNotNull(mazo.quitarDelFinal());
+        assertNotNull(mazo.quitarDelFinal());
+        assertNotNull(mazo.quitarDelFinal());
+        assertEquals(0, mazo.contarValor(Valor.AS) + mazo.contarValor(Valor.REY));
+    }
+
+    @Test
+    void testMazosConLaMismaSemillaRepartenIgual() throws MazoVacioException {
+        IMazo mazo1 = crearMazo(42L);
+        IMazo mazo2 = crearMazo(42L);
+
+        // Same initial shuffle
+        for (int i = 0; i < 20; i++) {
+            assertEquals(mazo1.tomarCarta(), mazo2.tomarCarta());
+        }
+
+        // Same order after a reshuffle as well
+        mazo1.barajar();
+        mazo2.barajar();
+        while (!mazo1.estaVacio()) {
+            assertEquals(mazo1.tomarCarta(), mazo2.tomarCarta());
+        }
+        assertTrue(mazo2.estaVacio());
+    }
+}
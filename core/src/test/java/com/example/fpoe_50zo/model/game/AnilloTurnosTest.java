@@ -0,0 +1,59 @@
+package com.example.fpoe_50zo.model.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnilloTurnosTest {
+
+    @Test
+    void testAvanzaEnOrdenDeAsientoSaltandoEliminados() {
+        AnilloTurnos turnos = new AnilloTurnos();
+        turnos.reiniciar(5);
+        assertEquals(0, turnos.getActual());
+
+        turnos.quitar(1);
+        turnos.quitar(3);
+        assertEquals(3, turnos.getVivos());
+        assertFalse(turnos.estaEnJuego(3));
+        turnos.avanzar();
+        assertEquals(2, turnos.getActual());
+        turnos.avanzar();
+        assertEquals(4, turnos.getActual());
+        turnos.avanzar();
+        assertEquals(0, turnos.getActual());
+
+        // Eliminating the seat with the turn passes it to the next one
+        turnos.quitar(0);
+        assertEquals(2, turnos.getActual());
+        assertEquals(4, turnos.getSiguiente(2));
+        assertEquals(2, turnos.getSiguiente(4));
+    }
+
+    @Test
+    void testReponerEnOrdenInversoRestauraElAnillo() {
+        AnilloTurnos turnos = new AnilloTurnos();
+        turnos.reiniciar(4);
+        turnos.quitar(1);
+        turnos.quitar(2);
+        turnos.quitar(0);
+        assertEquals(3, turnos.getActual());
+        turnos.quitar(3);
+        assertEquals(-1, turnos.getActual());
+
+        turnos.reponer(3);
+        assertEquals(3, turnos.getActual());
+        turnos.reponer(0);
+        turnos.reponer(2);
+        turnos.reponer(1);
+        assertEquals(4, turnos.getVivos());
+        for (int asiento = 0; asiento < 4; asiento++) {
+            assertEquals((asiento + 1) % 4, turnos.getSiguiente(asiento));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            turnos.quitar(2);
+            turnos.setActual(2);
+        });
+    }
+}
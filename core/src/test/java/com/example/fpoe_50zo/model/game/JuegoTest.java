@@ -0,0 +1,475 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Palo;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.deck.IMazo;
+import com.example.fpoe_50zo.model.deck.Mazo;
+import com.example.fpoe_50zo.model.deck.MazoCircular;
+import com.example.fpoe_50zo.model.exceptions.JugadaInvalidaException;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JuegoTest {
+
+    @Test
+    void testJuegoIniciaCorrectamente() {
+        IJuego juego = new Juego();
+        juego.iniciarJuego(2);
+
+
+        assertEquals(3, juego.getJugadores().size());
+
+        IJugador humano = juego.getJugadorActual();
+        assertTrue(humano.esHumano());
+        assertEquals("Player 1", humano.getNombre());
+
+        for(IJugador jugador : juego.getJugadores()){
+            assertEquals(4, jugador.getCartasEnMano());
+        }
+
+        assertNotNull(juego.getUltimaCartaJugada());
+
+    }
+
+    @Test
+    void testPasaTurnoCorrectamente() {
+        IJuego juego = new Juego();
+        juego.iniciarJuego(2);
+
+        IJugador j1 = juego.getJugadorActual();
+        juego.siguienteTurno();
+        IJugador j2 = juego.getJugadorActual();
+        juego.siguienteTurno();
+        IJugador j3 = juego.getJugadorActual();
+
+        assertNotEquals(j1, j2);
+        assertNotEquals(j2, j3);
+
+        juego.siguienteTurno();
+        IJugador j1_vuelta = juego.getJugadorActual();
+        assertEquals(j1, j1_vuelta);
+    }
+
+    @Test
+    void testJugadaInvalidaLanzaExcepcion() {
+        IJuego juego = new Juego();
+        juego.iniciarJuego(1);
+
+        Carta cartaFalsa = new Carta(Palo.TREBOLES, Valor.AS);
+
+        assertThrows(JugadaInvalidaException.class, () -> {
+            juego.jugarCarta(cartaFalsa);
+        });
+
+        assertThrows(JugadaInvalidaException.class, () -> {
+            juego.jugarCarta(cartaFalsa);
+        });
+    }
+
+    @Test
+    void testJugadorSeEliminaCorrectamente() {
+        IJuego juego = new Juego();
+        juego.iniciarJuego(1); // 2 jugadores
+        assertEquals(2, juego.getJugadores().size());
+
+        assertFalse(juego.isJuegoTerminado());
+
+    }
+
+    @Test
+    void testTryJugarCartaDevuelveElMotivoSinLanzar() {
+        IJuego juego = new Juego(11L);
+        juego.iniciarJuego(1);
+        IJugador humano = juego.getJugadorActual();
+
+        // Look for a card the human does not hold
+        Carta ajena = null;
+        for (int codigo = 0; ajena == null; codigo++) {
+            Carta candidata = Carta.desdeCodigo(codigo);
+            if (!candidata.esAs() && !humano.tieneCarta(candidata)) {
+                ajena = candidata;
+            }
+        }
+
+        assertEquals(ResultadoJugada.CARTA_NO_EN_MANO, juego.tryJugarCarta(ajena));
+        assertEquals(ResultadoJugada.AS_REQUIERE_VALOR, juego.tryJugarCarta(Carta.de(Palo.PICAS, Valor.AS)));
+        assertEquals(ResultadoJugada.NO_ES_AS, juego.tryJugarCartaAs(Carta.de(Palo.PICAS, Valor.DOS), 1));
+        assertEquals(ResultadoJugada.VALOR_AS_INVALIDO, juego.tryJugarCartaAs(Carta.de(Palo.PICAS, Valor.AS), 5));
+
+        // A card from the hand is always playable on the starting sum (at most 10)
+        Carta propia = humano.getMano().get(0);
+        ResultadoJugada resultado = propia.esAs()
+                ? juego.tryJugarCartaAs(propia, 1)
+                : juego.tryJugarCarta(propia);
+        assertEquals(ResultadoJugada.VALIDA, resultado);
+        assertEquals(propia, juego.getUltimaCartaJugada());
+        assertEquals(4, humano.getCartasEnMano());
+    }
+
+    @Test
+    void testHacerYDeshacerJugadaRestauraLaPosicion() {
+        int rebarajados = 0;
+        int eliminados = 0;
+
+        for (long semilla = 0; semilla < 40; semilla++) {
+            IMazo mazo = new Mazo(semilla);
+            Juego juego = new Juego(mazo);
+            juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B"), new JugadorMaquina("C")));
+            SplittableRandom random = new SplittableRandom(semilla);
+
+            List<String> firmas = new ArrayList<>();
+            while (!juego.isJuegoTerminado()) {
+                firmas.add(firma(juego, mazo));
+                comprobarComposicion(juego);
+                int mazoAntes = mazo.cartasRestantes();
+                int jugadoresAntes = juego.getJugadores().size();
+
+                List<Carta> mano = juego.getJugadorActual().getMano();
+                ResultadoJugada resultado;
+                int intento = random.nextInt(mano.size());
+                do {
+                    Carta carta = mano.get(intento++ % mano.size());
+                    resultado = juego.hacerJugada(carta, random.nextBoolean() ? 10 : 1);
+                    if (!resultado.esValida() && carta.esAs()) {
+                        resultado = juego.hacerJugada(carta, 1);
+                    }
+                } while (!resultado.esValida());
+
+                if (mazo.cartasRestantes() > mazoAntes + 4 * (jugadoresAntes - juego.getJugadores().size())) {
+                    rebarajados++;
+                }
+                eliminados += jugadoresAntes - juego.getJugadores().size();
+            }
+
+            assertEquals(firmas.size(), juego.getJugadasDeshacibles());
+            for (int i = firmas.size() - 1; i >= 0; i--) {
+                juego.deshacerJugada();
+                assertEquals(firmas.get(i), firma(juego, mazo));
+                comprobarComposicion(juego);
+            }
+            assertThrows(IllegalStateException.class, juego::deshacerJugada);
+        }
+
+        // The seeds must have exercised both special cases
+        assertTrue(rebarajados > 0);
+        assertTrue(eliminados > 0);
+    }
+
+    @Test
+    void testJugadaRechazadaConservaElHistorial() {
+        Juego juego = new Juego(3L);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B")));
+        EstadoJuego antes = juego.exportarEstado();
+        JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+        Jugada jugada = actual.decidirJugada(juego);
+        assertEquals(ResultadoJugada.VALIDA, juego.hacerJugada(jugada.getCarta(), jugada.getValor()));
+
+        // The card just played is on the table, in nobody's hand: rejected without touching the history
+        Carta enMesa = juego.getUltimaCartaJugada();
+        ResultadoJugada resultado = enMesa.esAs() ? juego.tryJugarCartaAs(enMesa, 1) : juego.tryJugarCarta(enMesa);
+        assertEquals(ResultadoJugada.CARTA_NO_EN_MANO, resultado);
+        assertEquals(1, juego.getJugadasDeshacibles());
+        juego.deshacerJugada();
+        assertEquals(antes, juego.exportarEstado());
+    }
+
+    @Test
+    void testMesaGrandeConVariasBarajas() {
+        int numJugadores = 40;
+        assertEquals(4, Juego.barajasNecesarias(numJugadores));
+        assertEquals(1, Juego.barajasNecesarias(12));
+        assertThrows(IllegalArgumentException.class, () -> new Juego(1L).iniciarJuego(13));
+
+        for (long semilla = 0; semilla < 3; semilla++) {
+            List<IJugador> jugadores = new ArrayList<>();
+            for (int i = 0; i < numJugadores; i++) {
+                jugadores.add(new JugadorMaquina("CPU " + i));
+            }
+            Juego juego = new Juego(Juego.barajasNecesarias(numJugadores), semilla);
+            juego.iniciarJuego(jugadores);
+            EstadoJuego inicial = juego.exportarEstado();
+            comprobarComposicion(juego);
+
+            // Reversible moves across eliminations, then back to the deal
+            int jugadas = 0;
+            while (!juego.isJuegoTerminado() && jugadas < 300) {
+                JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+                Jugada jugada = actual.decidirJugada(juego);
+                assertEquals(ResultadoJugada.VALIDA, juego.hacerJugada(jugada.getCarta(), jugada.getValor()));
+                jugadas++;
+            }
+            for (int i = 0; i < jugadas; i++) {
+                juego.deshacerJugada();
+            }
+            assertEquals(inicial, juego.exportarEstado());
+
+            // Classic turns: each turn goes to the next seat still in play, in seat order
+            int anterior = 0;
+            do {
+                JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+                assertEquals(ResultadoJugada.VALIDA, actual.decidirJugada(juego).aplicar(juego));
+                juego.pasarTurno();
+                int siguiente = jugadores.indexOf(juego.getJugadorActual());
+                for (int asiento = (anterior + 1) % numJugadores; asiento != siguiente; asiento = (asiento + 1) % numJugadores) {
+                    assertFalse(juego.estaEnJuego(jugadores.get(asiento)));
+                }
+                assertTrue(juego.estaEnJuego(juego.getJugadorActual()));
+                anterior = siguiente;
+            } while (!juego.isJuegoTerminado());
+
+            assertEquals(List.of(juego.getGanador()), juego.getJugadores());
+            comprobarComposicion(juego);
+        }
+    }
+
+    @Test
+    void testComposicionYProbabilidadesDeRobo() {
+        int rebarajados = 0;
+        for (long semilla = 0; semilla < 20; semilla++) {
+            Juego juego = new Juego(new MazoCircular(semilla));
+            juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B"), new JugadorMaquina("C")));
+            do {
+                comprobarComposicion(juego);
+                IJugador actual = juego.getJugadorActual();
+                int sinVer = juego.getCartasSinVer(actual);
+                int restan = 0;
+                for (Valor valor : Juego.VALORES_QUE_RESTAN) {
+                    restan += juego.getCartasSinVer(actual, valor);
+                }
+                if (juego.exportarEstado().getCartasEnMazo() >= 2) {
+                    assertEquals((double) restan / sinVer,
+                            juego.probabilidadSiguienteRobo(actual, Juego.VALORES_QUE_RESTAN), 1e-12);
+                    // At least one of the next two: one minus the chance that neither is
+                    double ninguna = (double) (sinVer - restan) / sinVer * (sinVer - restan - 1) / (sinVer - 1);
+                    assertEquals(1 - ninguna, juego.probabilidadRobar(actual, Juego.VALORES_QUE_RESTAN, 2, 1), 1e-12);
+                }
+
+                int mesaAntes = juego.exportarEstado().getCartasEnMesa();
+                JugadorMaquina maquina = (JugadorMaquina) actual;
+                assertEquals(ResultadoJugada.VALIDA, maquina.decidirJugada(juego).aplicar(juego));
+                if (juego.exportarEstado().getCartasEnMesa() < mesaAntes) {
+                    rebarajados++;
+                }
+            } while (juego.pasarTurno());
+            comprobarComposicion(juego);
+        }
+        assertTrue(rebarajados > 0);
+
+        assertEquals(EnumSet.of(Valor.JOTA, Valor.QUINA, Valor.REY), Juego.VALORES_QUE_RESTAN);
+        Juego juego = new Juego(1L);
+        juego.iniciarJuego(2);
+        assertThrows(IllegalArgumentException.class,
+                () -> juego.probabilidadRobar(juego.getJugadorActual(), Juego.VALORES_QUE_RESTAN, 52, 1));
+    }
+
+    @Test
+    void testExportarYRestaurarEstado() {
+        Juego juego = new Juego(7L);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B"), new JugadorMaquina("C")));
+
+        List<EstadoJuego> estados = new ArrayList<>();
+        while (!juego.isJuegoTerminado()) {
+            estados.add(juego.exportarEstado());
+            JugadorMaquina maquina = (JugadorMaquina) juego.getJugadorActual();
+            Jugada jugada = maquina.decidirJugada(juego);
+            assertEquals(ResultadoJugada.VALIDA, juego.hacerJugada(jugada.getCarta(), jugada.getValor()));
+        }
+        estados.add(juego.exportarEstado());
+
+        // A different game (and deck implementation) with the same seats can take any position
+        Juego otro = new Juego(new MazoCircular(99L));
+        otro.iniciarJuego(List.of(new JugadorMaquina("X"), new JugadorMaquina("Y"), new JugadorMaquina("Z")));
+        for (int i = 0; i < estados.size(); i++) {
+            EstadoJuego estado = estados.get(i);
+            otro.restaurarEstado(estado);
+            EstadoJuego copia = otro.exportarEstado();
+            assertEquals(estado, copia);
+            assertEquals(estado.hashCode(), copia.hashCode());
+            assertEquals(estado.getClave(), copia.getClave());
+            if (i > 0) {
+                assertNotEquals(estados.get(i - 1), estado);
+            }
+        }
+        assertTrue(otro.isJuegoTerminado());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new Juego(1L).restaurarEstado(estados.get(0)));
+    }
+
+    @Test
+    void testPasarTurnoEliminaSinSaltarAlSiguiente() {
+        JugadorMaquina a = new JugadorMaquina("A");
+        JugadorMaquina b = new JugadorMaquina("B");
+        JugadorMaquina c = new JugadorMaquina("C");
+        Juego juego = new Juego(1L);
+        juego.iniciarJuego(List.of(a, b, c));
+
+        // At 50, B only holds low cards and cannot move; C can play a King
+        int[] mazo = codigos(Carta.de(Palo.PICAS, Valor.DOS), Carta.de(Palo.PICAS, Valor.TRES));
+        int[] manoA = codigos(Carta.de(Palo.TREBOLES, Valor.REY));
+        int[] manoB = codigos(Carta.de(Palo.CORAZONES, Valor.DOS), Carta.de(Palo.CORAZONES, Valor.TRES));
+        int[] manoC = codigos(Carta.de(Palo.DIAMANTES, Valor.REY));
+        int[] mesa = codigos(Carta.de(Palo.TREBOLES, Valor.DIEZ));
+        juego.restaurarEstado(new EstadoJuego(mazo, new int[][]{manoA, manoB, manoC}, mesa, 50, 0, 0b111));
+
+        long version = juego.getVersion();
+        assertTrue(juego.pasarTurno());
+        assertSame(c, juego.getJugadorActual());
+        assertFalse(juego.getJugadores().contains(b));
+        assertEquals(List.of(a, b, c), juego.getAsientos());
+        assertTrue(juego.getVersion() > version);
+
+        // Reading the game does not change its version
+        version = juego.getVersion();
+        juego.exportarEstado();
+        juego.revisarEstadoJugadorActual();
+        assertEquals(version, juego.getVersion());
+    }
+
+    @Test
+    void testObservadoresRecibenLosEventos() {
+        Juego juego = new Juego(21L);
+        int[] contadores = new int[6];
+        IJugador[] ganador = new IJugador[1];
+        IObservadorJuego observador = new IObservadorJuego() {
+            @Override
+            public void alJugarCarta(IJugador jugador, Carta carta, int valorJugado, int sumaMesa) {
+                contadores[0]++;
+                assertEquals(juego.getSumaMesa(), sumaMesa);
+                assertEquals(carta, juego.getUltimaCartaJugada());
+            }
+
+            @Override
+            public void alRobarCarta(IJugador jugador, Carta carta) {
+                contadores[1]++;
+                assertTrue(jugador.tieneCarta(carta));
+            }
+
+            @Override
+            public void alRebarajar(int cartasRebarajadas) {
+                contadores[2]++;
+            }
+
+            @Override
+            public void alEliminarJugador(IJugador jugador) {
+                contadores[3]++;
+                assertFalse(juego.getJugadores().contains(jugador));
+            }
+
+            @Override
+            public void alAvanzarTurno(IJugador jugadorActual) {
+                contadores[4]++;
+                assertSame(juego.getJugadorActual(), jugadorActual);
+            }
+
+            @Override
+            public void alTerminarJuego(IJugador g) {
+                contadores[5]++;
+                ganador[0] = g;
+            }
+        };
+        IObservadorJuego otro = new IObservadorJuego() { };
+        juego.agregarObservador(observador);
+        juego.agregarObservador(otro);
+        juego.quitarObservador(otro);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B"), new JugadorMaquina("C")));
+
+        int jugadas = 0;
+        int turnos = 0;
+        while (!juego.isJuegoTerminado()) {
+            if (!juego.revisarEstadoJugadorActual()) {
+                continue;
+            }
+            JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+            assertTrue(actual.decidirJugada(juego).aplicar(juego).esValida());
+            jugadas++;
+            juego.siguienteTurno();
+            turnos++;
+        }
+
+        assertEquals(jugadas, contadores[0]);
+        assertEquals(jugadas, contadores[1]);
+        assertEquals(2, contadores[3]);
+        assertEquals(turnos, contadores[4]);
+        assertEquals(1, contadores[5]);
+        assertSame(juego.getGanador(), ganador[0]);
+
+        // A removed listener hears nothing more
+        juego.quitarObservador(observador);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B")));
+        JugadorMaquina primero = (JugadorMaquina) juego.getJugadorActual();
+        primero.decidirJugada(juego).aplicar(juego);
+        assertEquals(jugadas, contadores[0]);
+    }
+
+    private static String firma(Juego juego, IMazo mazo) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(juego.getSumaMesa()).append('|')
+                .append(juego.getJugadorActual().getNombre()).append('|')
+                .append(juego.getUltimaCartaJugada()).append('|')
+                .append(mazo.cartasRestantes());
+        for (IJugador jugador : juego.getJugadores()) {
+            sb.append('|').append(jugador.getNombre()).append(jugador.getMano());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Checks the incremental card counts against a full scan of the position.
+     */
+    private static void comprobarComposicion(Juego juego) {
+        EstadoJuego estado = juego.exportarEstado();
+        int[] mazo = new int[Valor.values().length];
+        int[] mesa = new int[Valor.values().length];
+        int[][] manos = new int[estado.getNumAsientos()][Valor.values().length];
+        for (int i = 0; i < estado.getCartasEnMazo(); i++) {
+            mazo[Carta.desdeCodigo(estado.getCodigoMazo(i)).getValor().ordinal()]++;
+        }
+        for (int i = 0; i < estado.getCartasEnMesa(); i++) {
+            mesa[Carta.desdeCodigo(estado.getCodigoMesa(i)).getValor().ordinal()]++;
+        }
+        for (int asiento = 0; asiento < manos.length; asiento++) {
+            for (int i = 0; i < estado.getCartasEnMano(asiento); i++) {
+                manos[asiento][Carta.desdeCodigo(estado.getCodigoMano(asiento, i)).getValor().ordinal()]++;
+            }
+        }
+
+        for (Valor valor : Valor.values()) {
+            int v = valor.ordinal();
+            assertEquals(mazo[v], juego.getCartasEnMazo(valor));
+            assertEquals(mesa[v], juego.getCartasEnMesa(valor));
+            for (int asiento = 0; asiento < manos.length; asiento++) {
+                int sinVer = mazo[v];
+                for (int otro = 0; otro < manos.length; otro++) {
+                    if (otro != asiento) sinVer += manos[otro][v];
+                }
+                assertEquals(sinVer, juego.getCartasSinVer(juego.getAsientos().get(asiento), valor));
+            }
+        }
+        int total = estado.getCartasEnMazo() + estado.getCartasEnMesa();
+        for (int asiento = 0; asiento < manos.length; asiento++) {
+            total += estado.getCartasEnMano(asiento);
+        }
+        for (int asiento = 0; asiento < manos.length; asiento++) {
+            assertEquals(total - estado.getCartasEnMesa() - estado.getCartasEnMano(asiento),
+                    juego.getCartasSinVer(juego.getAsientos().get(asiento)));
+        }
+    }
+
+    private static int[] codigos(Carta... cartas) {
+        int[] codigos = new int[cartas.length];
+        for (int i = 0; i < cartas.length; i++) {
+            codigos[i] = cartas[i].getCodigo();
+        }
+        return codigos;
+    }
+}
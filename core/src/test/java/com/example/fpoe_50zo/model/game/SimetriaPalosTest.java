@@ -0,0 +1,121 @@
+package com.example.fpoe_50zo.model.game;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Palo;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimetriaPalosTest {
+
+    @Test
+    void testPermutaciones() {
+        List<Integer> todas = todasLasPermutaciones();
+        assertEquals(24, todas.size());
+        for (int p : todas) {
+            assertEquals(SimetriaPalos.IDENTIDAD, SimetriaPalos.componer(p, SimetriaPalos.invertir(p)));
+            assertEquals(SimetriaPalos.IDENTIDAD, SimetriaPalos.componer(SimetriaPalos.invertir(p), p));
+        }
+
+        // Hearts <-> Spades keeps the value and the Ace's choice
+        int cambio = intercambio(Palo.CORAZONES, Palo.PICAS);
+        assertEquals(Carta.de(Palo.PICAS, Valor.SIETE),
+                SimetriaPalos.permutar(cambio, Carta.de(Palo.CORAZONES, Valor.SIETE)));
+        assertEquals(Carta.de(Palo.DIAMANTES, Valor.SIETE),
+                SimetriaPalos.permutar(cambio, Carta.de(Palo.DIAMANTES, Valor.SIETE)));
+        assertEquals(Jugada.de(Carta.de(Palo.PICAS, Valor.AS), 10),
+                SimetriaPalos.permutar(cambio, Jugada.de(Carta.de(Palo.CORAZONES, Valor.AS), 10)));
+    }
+
+    @Test
+    void testCanonizaPorOrdenDeAparicion() {
+        SimetriaPalos simetria = new SimetriaPalos();
+        assertEquals(Carta.de(Palo.CORAZONES, Valor.REY).getCodigo(),
+                simetria.canonizar(Carta.de(Palo.TREBOLES, Valor.REY).getCodigo()));
+        assertEquals(Carta.de(Palo.DIAMANTES, Valor.DOS).getCodigo(),
+                simetria.canonizar(Carta.de(Palo.PICAS, Valor.DOS).getCodigo()));
+        assertEquals(Carta.de(Palo.CORAZONES, Valor.AS).getCodigo(),
+                simetria.canonizar(Carta.de(Palo.TREBOLES, Valor.AS).getCodigo()));
+        assertTrue(simetria.estaAsignado(Palo.PICAS.ordinal()));
+        assertFalse(simetria.estaAsignado(Palo.CORAZONES.ordinal()));
+
+        // Unseen suits take the remaining names in suit order: Hearts, then Diamonds
+        int p = simetria.getPermutacion();
+        assertEquals(Palo.PICAS.ordinal(), SimetriaPalos.palo(p, Palo.CORAZONES.ordinal()));
+        assertEquals(Palo.TREBOLES.ordinal(), SimetriaPalos.palo(p, Palo.DIAMANTES.ordinal()));
+
+        simetria.reiniciar();
+        assertEquals(SimetriaPalos.IDENTIDAD, simetria.getPermutacion());
+    }
+
+    @Test
+    void testLasVariantesDeUnaPosicionTienenLaMismaFormaCanonica() {
+        Juego juego = new Juego(5L);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B"), new JugadorMaquina("C")));
+        for (int i = 0; i < 10 && juego.pasarTurno(); i++) {
+            JugadorMaquina actual = (JugadorMaquina) juego.getJugadorActual();
+            actual.decidirJugada(juego).aplicar(juego);
+        }
+        EstadoJuego estado = juego.exportarEstado();
+        EstadoJuego canonico = SimetriaPalos.canonizar(estado);
+
+        Set<EstadoJuego> variantes = new HashSet<>();
+        for (int p : todasLasPermutaciones()) {
+            EstadoJuego variante = SimetriaPalos.permutar(p, estado);
+            variantes.add(variante);
+            assertEquals(canonico, SimetriaPalos.canonizar(variante));
+
+            // The permutation returned takes the variant to the canonical form
+            int q = SimetriaPalos.permutacionCanonica(variante);
+            assertEquals(canonico, SimetriaPalos.permutar(q, variante));
+            assertEquals(variante, SimetriaPalos.permutar(SimetriaPalos.invertir(q), canonico));
+        }
+        assertEquals(24, variantes.size());
+        assertEquals(canonico, SimetriaPalos.canonizar(canonico));
+    }
+
+    @Test
+    void testPosicionesDistintasNoSeConfunden() {
+        int[][] manos = {
+                {Carta.de(Palo.CORAZONES, Valor.DOS).getCodigo()},
+                {Carta.de(Palo.PICAS, Valor.TRES).getCodigo()}
+        };
+        int[][] otrasManos = {
+                {Carta.de(Palo.CORAZONES, Valor.DOS).getCodigo()},
+                {Carta.de(Palo.CORAZONES, Valor.TRES).getCodigo()}
+        };
+        int[] mesa = {Carta.de(Palo.TREBOLES, Valor.DIEZ).getCodigo()};
+
+        // Same values, but one position has the 2 and the 3 in one suit and the other does not
+        EstadoJuego a = new EstadoJuego(new int[0], manos, mesa, 10, 0, 0b11);
+        EstadoJuego b = new EstadoJuego(new int[0], otrasManos, mesa, 10, 0, 0b11);
+        assertNotEquals(SimetriaPalos.canonizar(a), SimetriaPalos.canonizar(b));
+    }
+
+    private static int intercambio(Palo uno, Palo otro) {
+        int p = SimetriaPalos.IDENTIDAD;
+        p &= ~(3 << (2 * uno.ordinal())) & ~(3 << (2 * otro.ordinal()));
+        return p | otro.ordinal() << (2 * uno.ordinal()) | uno.ordinal() << (2 * otro.ordinal());
+    }
+
+    private static List<Integer> todasLasPermutaciones() {
+        List<Integer> permutaciones = new ArrayList<>();
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                for (int c = 0; c < 4; c++) {
+                    int d = 6 - a - b - c;
+                    if (a == b || a == c || b == c || d < 0 || d > 3 || d == a || d == b || d == c) continue;
+                    permutaciones.add(a | b << 2 | c << 4 | d << 6);
+                }
+            }
+        }
+        return permutaciones;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.fpoe_50zo.model.metricas;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Palo;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import com.example.fpoe_50zo.model.simulation.Simulador;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class MetricasTest {
+
+    @TempDir
+    Path carpeta;
+
+    @Test
+    void testHistogramaPercentiles() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        assertEquals(0, histograma.getPercentilNanos(0.99));
+
+        // 90 fast decisions and 10 slow ones
+        for (int i = 0; i < 90; i++) {
+            histograma.registrar(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            histograma.registrar(5_000);
+        }
+        histograma.registrar(-3); // A clock going back counts as 0
+
+        assertEquals(101, histograma.getCuenta());
+        assertEquals(90 * 100 + 10 * 5_000, histograma.getTotalNanos());
+        assertEquals(127, histograma.getPercentilNanos(0.5)); // 100 is in [64, 128)
+        assertEquals(8191, histograma.getPercentilNanos(0.99)); // 5000 is in [4096, 8192)
+        assertEquals(1, histograma.getPercentilNanos(0.0)); // The 0 is in [0, 2)
+        assertThrows(IllegalArgumentException.class, () -> histograma.getPercentilNanos(1.5));
+
+        histograma.reiniciar();
+        assertEquals(0, histograma.getCuenta());
+        assertEquals(0, histograma.getMediaNanos());
+    }
+
+    @Test
+    void testContadoresYEventos() throws Exception {
+        MetricasMXBean metricas = Metricas.getMXBean();
+        metricas.reiniciar();
+        JugadorMaquina cpu = new JugadorMaquina("CPU 1");
+
+        Path archivo = carpeta.resolve("metricas.jfr");
+        try (Recording grabacion = new Recording()) {
+            grabacion.enable("com.example.fpoe_50zo.Turno").withThreshold(Duration.ZERO);
+            grabacion.enable("com.example.fpoe_50zo.Rebarajado").withThreshold(Duration.ZERO);
+            grabacion.enable("com.example.fpoe_50zo.Decision").withThreshold(Duration.ZERO);
+            grabacion.start();
+
+            Metricas.turno(cpu, new Carta(Palo.PICAS, Valor.AS), 10, 42);
+            Metricas.rebarajado(17);
+            Metricas.decision(cpu, "Voraz", System.nanoTime() - 1_000, true);
+            Metricas.jugadaInvalida(ResultadoJugada.EXCEDE_50);
+            Metricas.jugadaInvalida(ResultadoJugada.EXCEDE_50);
+            Metricas.jugadaInvalida(ResultadoJugada.CARTA_NO_EN_MANO);
+            Metricas.eliminacion();
+            Metricas.mazoAgotado();
+
+            grabacion.stop();
+            grabacion.dump(archivo);
+        }
+
+        assertEquals(1, metricas.getTurnos());
+        assertEquals(1, metricas.getRebarajados());
+        assertEquals(17, metricas.getCartasRebarajadas());
+        assertEquals(1, metricas.getEliminaciones());
+        assertEquals(1, metricas.getMazosAgotados());
+        assertEquals(3, metricas.getJugadasInvalidas());
+        assertEquals(2L, metricas.getJugadasInvalidasPorMotivo().get("EXCEDE_50"));
+        assertFalse(metricas.getJugadasInvalidasPorMotivo().containsKey("VALIDA"));
+        assertEquals(1, metricas.getDecisiones());
+        assertTrue(metricas.getDecisionP50Nanos() >= 1_000);
+
+        List<RecordedEvent> eventos = RecordingFile.readAllEvents(archivo);
+        RecordedEvent turno = unico(eventos, "com.example.fpoe_50zo.Turno");
+        assertEquals("CPU 1", turno.getString("jugador"));
+        assertEquals(10, turno.getInt("valorJugado"));
+        assertEquals(42, turno.getInt("sumaMesa"));
+        assertEquals(17, unico(eventos, "com.example.fpoe_50zo.Rebarajado").getInt("cartas"));
+        RecordedEvent decision = unico(eventos, "com.example.fpoe_50zo.Decision");
+        assertEquals("Voraz", decision.getString("estrategia"));
+        assertTrue(decision.getBoolean("encontrada"));
+        assertTrue(decision.getLong("duracion") >= 1_000);
+
+        metricas.reiniciar();
+        assertEquals(0, metricas.getTurnos());
+        assertEquals(0, metricas.getJugadasInvalidas());
+        assertEquals(0, metricas.getDecisiones());
+    }
+
+    @Test
+    void testDesactivadasElMotorNoCuentaNada() {
+        assumeFalse(Metricas.ACTIVAS, "Only meaningful with metrics off");
+        MetricasMXBean metricas = Metricas.getMXBean();
+        metricas.reiniciar();
+
+        new Simulador(3, 7L).simular(100);
+
+        assertEquals(0, metricas.getTurnos());
+        assertEquals(0, metricas.getRebarajados());
+        assertEquals(0, metricas.getEliminaciones());
+        assertEquals(0, metricas.getDecisiones());
+    }
+
+    private static RecordedEvent unico(List<RecordedEvent> eventos, String nombre) {
+        List<RecordedEvent> encontrados = eventos.stream()
+                .filter(e -> e.getEventType().getName().equals(nombre))
+                .toList();
+        assertEquals(1, encontrados.size(), nombre);
+        return encontrados.get(0);
+    }
+}
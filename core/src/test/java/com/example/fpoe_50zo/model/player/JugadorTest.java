@@ -0,0 +1,159 @@
+package com.example.fpoe_50zo.model.player;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.card.Palo;
+import com.example.fpoe_50zo.model.card.Valor;
+import com.example.fpoe_50zo.model.deck.IMazo;
+import com.example.fpoe_50zo.model.deck.Mazo;
+import com.example.fpoe_50zo.model.exceptions.MazoVacioException;
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JugadorTest {
+
+    @Test
+    void testJugadorSeCreaCorrectamente() {
+        IJugador jugador = new Jugador("Humano", true);
+        assertEquals("Humano", jugador.getNombre());
+        assertTrue(jugador.esHumano());
+        assertEquals(0, jugador.getCartasEnMano());
+        assertTrue(jugador.getMano().isEmpty());
+    }
+
+    @Test
+    void testJugadorMaquinaSeCreaCorrectamente() {
+        IJugador maquina = new JugadorMaquina("CPU 1");
+        assertEquals("CPU 1", maquina.getNombre());
+        assertFalse(maquina.esHumano());
+        assertEquals(0, maquina.getCartasEnMano());
+    }
+
+    @Test
+    void testJugadorTomaCartas() throws MazoVacioException {
+        IMazo mazo = new Mazo();
+        IJugador jugador = new Jugador("Test", true);
+
+        jugador.tomarCarta(mazo);
+        assertEquals(1, jugador.getCartasEnMano());
+
+        jugador.tomarCarta(mazo);
+        jugador.tomarCarta(mazo);
+        assertEquals(3, jugador.getCartasEnMano());
+        assertEquals(49, mazo.cartasRestantes()); // 52 - 3
+    }
+
+    @Test
+    void testJugadorDejaLaMano() throws MazoVacioException {
+        IMazo mazo = new Mazo();
+        IJugador jugador = new Jugador("Test", true);
+        jugador.tomarCarta(mazo);
+        jugador.tomarCarta(mazo);
+
+        assertEquals(2, jugador.getCartasEnMano());
+
+        List<Carta> manoDevuelta = jugador.dejarMano();
+
+        assertEquals(2, manoDevuelta.size());
+        assertEquals(0, jugador.getCartasEnMano());
+        assertTrue(jugador.getMano().isEmpty());
+    }
+
+    @Test
+    void testJugadorCompactoCoincideConJugador() {
+        SplittableRandom random = new SplittableRandom(5L);
+
+        for (int ronda = 0; ronda < 500; ronda++) {
+            IJugador lista = new Jugador("Lista", false);
+            JugadorCompacto compacto = new JugadorCompacto("Compacto", false);
+            // Two decks with the same seed deal both players the same hand
+            long semilla = random.nextLong();
+            IMazo mazoLista = new Mazo(semilla);
+            IMazo mazoCompacto = new Mazo(semilla);
+            try {
+                for (int i = 0; i < 4; i++) {
+                    lista.tomarCarta(mazoLista);
+                    compacto.tomarCarta(mazoCompacto);
+                }
+            } catch (MazoVacioException e) {
+                fail("The deck cannot run out here.");
+            }
+            assertEquals(lista.getMano().size(), compacto.getCartasEnMano());
+
+            for (int suma = 30; suma <= 51; suma++) {
+                assertEquals(lista.puedeJugar(suma), compacto.puedeJugar(suma));
+
+                Carta elegida = compacto.decidirMejorJugada(suma);
+                if (elegida == null) {
+                    assertFalse(lista.puedeJugar(suma));
+                } else {
+                    assertTrue(compacto.tieneCarta(elegida));
+                    int valor = elegida.esAs() ? 1 : elegida.getValorJuego();
+                    assertTrue(suma + valor <= 50);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testContarValorSigueLaMano() throws MazoVacioException {
+        for (IJugador jugador : List.of(new Jugador("Lista", false), new JugadorCompacto("Compacto", false))) {
+            IMazo mazo = new Mazo(9L);
+            for (int i = 0; i < 8; i++) {
+                jugador.tomarCarta(mazo);
+                assertCuentasPorValor(jugador);
+            }
+            Carta jugada = jugador.getMano().get(3);
+            int posicion = jugador.posicionEnMano(jugada);
+            assertTrue(jugador.jugarCarta(jugada));
+            assertFalse(jugador.jugarCarta(jugada));
+            assertCuentasPorValor(jugador);
+
+            jugador.devolverCarta(posicion, jugada);
+            assertCuentasPorValor(jugador);
+
+            jugador.dejarMano();
+            for (Valor valor : Valor.values()) {
+                assertEquals(0, jugador.contarValor(valor));
+            }
+        }
+    }
+
+    @Test
+    void testJugadorMaquinaDelegaEnSuEstrategia() {
+        Juego juego = new Juego(9L);
+        Jugada fija = Jugada.de(Carta.de(Palo.PICAS, Valor.AS), 10);
+        int[] copias = new int[1];
+        IEstrategia estrategia = new IEstrategia() {
+            @Override
+            public Jugada decidir(IJugador jugador, IJuego juego) {
+                return fija;
+            }
+
+            @Override
+            public IEstrategia copiar() {
+                copias[0]++;
+                return this;
+            }
+        };
+        JugadorMaquina maquina = new JugadorMaquina("CPU 1", estrategia);
+
+        assertSame(fija, maquina.decidirJugada(juego));
+        JugadorMaquina clon = maquina.clonarEstrategia();
+        assertEquals(1, copias[0]);
+        assertSame(fija, clon.decidirJugada(juego));
+        assertInstanceOf(EstrategiaVoraz.class, new JugadorMaquina("CPU 2").getEstrategia());
+    }
+
+    private static void assertCuentasPorValor(IJugador jugador) {
+        for (Valor valor : Valor.values()) {
+            long enMano = jugador.getMano().stream().filter(carta -> carta.getValor() == valor).count();
+            assertEquals(enMano, jugador.contarValor(valor), valor + " in " + jugador.getNombre());
+        }
+    }
+}
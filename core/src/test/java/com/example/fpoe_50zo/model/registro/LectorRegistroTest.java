@@ -0,0 +1,153 @@
+package com.example.fpoe_50zo.model.registro;
+
+import com.example.fpoe_50zo.model.game.EstadoJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import com.example.fpoe_50zo.model.simulation.Simulador;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LectorRegistroTest {
+
+    private static final int SEGMENTO = 4096;
+
+    @TempDir
+    Path carpeta;
+
+    @Test
+    void testReproduceCadaPartidaYCadaPosicion() throws IOException {
+        Path archivo = carpeta.resolve("partidas.bin");
+        int numPartidas = 30;
+        List<List<EstadoJuego>> posiciones = new ArrayList<>();
+        List<Integer> ganadores = new ArrayList<>();
+
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 16)) {
+            for (long semilla = 0; semilla < numPartidas; semilla++) {
+                Juego juego = new Juego(semilla);
+                juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B"), new JugadorMaquina("C")));
+                GrabadorPartida.grabar(registro, juego, semilla);
+
+                List<EstadoJuego> estados = new ArrayList<>();
+                do {
+                    estados.add(juego.exportarEstado());
+                    ((JugadorMaquina) juego.getJugadorActual()).decidirJugada(juego).aplicar(juego);
+                } while (juego.pasarTurno());
+                estados.add(juego.exportarEstado());
+                posiciones.add(estados);
+                ganadores.add(juego.getAsientos().indexOf(juego.getGanador()));
+            }
+        }
+
+        try (LectorRegistro lector = LectorRegistro.abrir(archivo)) {
+            assertEquals(numPartidas, lector.getNumPartidas());
+            for (int n = 0; n < numPartidas; n++) {
+                List<EstadoJuego> estados = posiciones.get(n);
+                assertEquals(n, lector.getSemilla(n));
+                assertEquals(3, lector.getNumJugadores(n));
+                assertEquals(estados.size() - 1, lector.getNumJugadas(n));
+
+                // The recorded deal is the starting position
+                byte[] reparto = GrabadorPartida.reparto(estados.get(0));
+                assertEquals(reparto.length, lector.getCartasReparto(n));
+                for (int i = 0; i < reparto.length; i++) {
+                    assertEquals(reparto[i], lector.getCodigoReparto(n, i));
+                }
+
+                Juego completa = lector.reproducir(n);
+                assertTrue(completa.isJuegoTerminado());
+                assertEquals(ganadores.get(n), completa.getAsientos().indexOf(completa.getGanador()));
+
+                // Random access to any move
+                for (int k = 0; k < estados.size(); k += 7) {
+                    assertEquals(estados.get(k), lector.reproducir(n, k).exportarEstado());
+                }
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> lector.getSemilla(numPartidas));
+            assertThrows(IndexOutOfBoundsException.class, () -> lector.getCodigoJugada(0, lector.getNumJugadas(0)));
+        }
+    }
+
+    @Test
+    void testUnRepartoDistintoNoSeReproduce() throws IOException {
+        Path archivo = carpeta.resolve("partidas.bin");
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 16)) {
+            Juego juego = new Juego(4L);
+            juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B")));
+            GrabadorPartida.grabar(registro, juego, 4L);
+            do {
+                ((JugadorMaquina) juego.getJugadorActual()).decidirJugada(juego).aplicar(juego);
+            } while (juego.pasarTurno());
+        }
+        long primeraCarta;
+        int codigo;
+        try (LectorRegistro lector = LectorRegistro.abrir(archivo)) {
+            assertTrue(lector.reproducir(0).isJuegoTerminado());
+            primeraCarta = lector.getDesplazamiento(0) + RegistroPartidas.CABECERA_PARTIDA;
+            codigo = lector.getCodigoReparto(0, 0);
+        }
+
+        // As if the deck had been shuffled differently when the game was recorded
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[]{(byte) ((codigo + 1) % 52)}), primeraCarta);
+        }
+        try (LectorRegistro lector = LectorRegistro.abrir(archivo)) {
+            assertThrows(IllegalStateException.class, () -> lector.reproducir(0));
+        }
+    }
+
+    @Test
+    void testLeeLasJugadasSinReproducir() throws IOException {
+        Path archivo = carpeta.resolve("partidas.bin");
+        byte[] jugadas = {5, (byte) (Jugada.AS_COMO_DIEZ | 13), 51};
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 1)) {
+            registro.registrar(99L, 0, 2, new byte[]{1, 2}, jugadas, jugadas.length);
+        }
+        try (LectorRegistro lector = LectorRegistro.abrir(archivo)) {
+            assertEquals(3, lector.getNumJugadas(0));
+            for (int k = 0; k < jugadas.length; k++) {
+                assertEquals(jugadas[k], lector.getCodigoJugada(0, k));
+                assertSame(Jugada.desdeCodigo(jugadas[k]), lector.getJugada(0, k));
+            }
+            assertEquals(10, lector.getJugada(0, 1).getValor());
+            assertEquals(RegistroPartidas.CABECERA_ARCHIVO, lector.getDesplazamiento(0));
+        }
+    }
+
+    @Test
+    void testSigueUnArchivoQueCrece() throws IOException {
+        Path archivo = carpeta.resolve("partidas.bin");
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 1);
+             LectorRegistro lector = LectorRegistro.abrir(archivo)) {
+            assertEquals(0, lector.getNumPartidas());
+
+            // Enough games to spill into new segments
+            Simulador simulador = new Simulador(2, 5L);
+            simulador.setRegistro(registro);
+            simulador.simular(200);
+            assertEquals(200, lector.actualizar());
+            assertEquals(0, lector.actualizar());
+
+            simulador.setManosCompactas(true);
+            simulador.simular(50);
+            assertEquals(50, lector.actualizar());
+
+            // Games from the simulator replay too, compact hands included
+            for (int n = 0; n < lector.getNumPartidas(); n += 10) {
+                assertTrue(lector.reproducir(n).isJuegoTerminado());
+            }
+            assertNotEquals(0, lector.getOpciones(lector.getNumPartidas() - 1)
+                    & RegistroPartidas.OPCION_MANOS_COMPACTAS);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.fpoe_50zo.model.registro;
+
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistroPartidasTest {
+
+    private static final int SEGMENTO = 4096;
+
+    @TempDir
+    Path carpeta;
+
+    @Test
+    void testEscriturasConcurrentesSinPerderNiMezclar() throws Exception {
+        Path archivo = carpeta.resolve("partidas.bin");
+        int hilos = 4;
+        int porHilo = 2000;
+
+        // Small segments, so many records land on a segment boundary
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 100)) {
+            ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                int hilo = h;
+                tareas.add(ejecutor.submit(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        long semilla = hilo * 1_000_000L + i;
+                        registro.registrar(semilla, 0, 2, new byte[]{(byte) hilo}, jugadas(semilla), (int) (semilla % 97));
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+            ejecutor.shutdown();
+        }
+
+        List<ByteBuffer> registros = leer(archivo);
+        assertEquals(hilos * porHilo, registros.size());
+        Set<Long> semillas = new HashSet<>();
+        for (ByteBuffer registro : registros) {
+            long semilla = registro.getLong(RegistroPartidas.POS_SEMILLA);
+            assertTrue(semillas.add(semilla));
+            assertEquals(2, registro.get(RegistroPartidas.POS_JUGADORES));
+            assertEquals(1, registro.getShort(RegistroPartidas.POS_REPARTO));
+            assertEquals(semilla / 1_000_000L, registro.get(RegistroPartidas.CABECERA_PARTIDA));
+
+            int numJugadas = registro.limit() - RegistroPartidas.CABECERA_PARTIDA - 1;
+            assertEquals(semilla % 97, numJugadas);
+            byte[] esperadas = jugadas(semilla);
+            for (int i = 0; i < numJugadas; i++) {
+                assertEquals(esperadas[i], registro.get(RegistroPartidas.CABECERA_PARTIDA + 1 + i));
+            }
+        }
+    }
+
+    @Test
+    void testReabrirContinuaAlFinal() throws IOException {
+        Path archivo = carpeta.resolve("partidas.bin");
+        long fin;
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 1)) {
+            for (long semilla = 0; semilla < 3; semilla++) {
+                registro.registrar(semilla, 0, 2, new byte[0], jugadas(semilla), 10);
+            }
+            fin = registro.getPosicion();
+        }
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 1)) {
+            assertEquals(fin, registro.getPosicion());
+            registro.registrar(3, 0, 2, new byte[0], jugadas(3), 10);
+        }
+
+        List<ByteBuffer> registros = leer(archivo);
+        assertEquals(4, registros.size());
+        for (int i = 0; i < registros.size(); i++) {
+            assertEquals(i, registros.get(i).getLong(RegistroPartidas.POS_SEMILLA));
+        }
+
+        // Other segment sizes and other files are rejected
+        assertThrows(IOException.class, () -> RegistroPartidas.abrir(archivo, 2 * SEGMENTO, 1));
+        Path otro = carpeta.resolve("otro.bin");
+        Files.write(otro, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> RegistroPartidas.abrir(otro, SEGMENTO, 1));
+    }
+
+    @Test
+    void testGrabaElRepartoYLasJugadasDeUnaPartida() throws IOException {
+        Path archivo = carpeta.resolve("partidas.bin");
+        long semilla = 12345L;
+        Juego juego = new Juego(semilla);
+        juego.iniciarJuego(List.of(new JugadorMaquina("A"), new JugadorMaquina("B"), new JugadorMaquina("C")));
+        byte[] mano = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            mano[i] = (byte) juego.getJugadores().get(0).getMano().get(i).getCodigo();
+        }
+        List<Jugada> jugadas = new ArrayList<>();
+        try (RegistroPartidas registro = RegistroPartidas.abrir(archivo, SEGMENTO, 1)) {
+            GrabadorPartida grabador = GrabadorPartida.grabar(registro, juego, semilla);
+            do {
+                Jugada jugada = ((JugadorMaquina) juego.getJugadorActual()).decidirJugada(juego);
+                jugadas.add(jugada);
+                assertEquals(ResultadoJugada.VALIDA, jugada.aplicar(juego));
+            } while (juego.pasarTurno());
+            assertEquals(jugadas.size(), grabador.getNumJugadas());
+        }
+
+        List<ByteBuffer> registros = leer(archivo);
+        assertEquals(1, registros.size());
+        ByteBuffer registro = registros.get(0);
+        assertEquals(semilla, registro.getLong(RegistroPartidas.POS_SEMILLA));
+        assertEquals(3, registro.get(RegistroPartidas.POS_JUGADORES));
+        assertEquals(0, registro.get(RegistroPartidas.POS_OPCIONES));
+        assertEquals(52, registro.getShort(RegistroPartidas.POS_REPARTO));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(mano[i], registro.get(RegistroPartidas.CABECERA_PARTIDA + i));
+        }
+        int inicioJugadas = RegistroPartidas.CABECERA_PARTIDA + 52;
+        assertEquals(jugadas.size(), registro.limit() - inicioJugadas);
+        for (int i = 0; i < jugadas.size(); i++) {
+            assertEquals(jugadas.get(i).getCodigo(), registro.get(inicioJugadas + i));
+        }
+    }
+
+    private static byte[] jugadas(long semilla) {
+        byte[] jugadas = new byte[100];
+        for (int i = 0; i < jugadas.length; i++) {
+            jugadas[i] = (byte) ((semilla * 31 + i) % 128);
+        }
+        return jugadas;
+    }
+
+    /**
+     * Walks a journal file the simple way: each complete record, padding skipped.
+     */
+    private static List<ByteBuffer> leer(Path archivo) throws IOException {
+        ByteBuffer datos = ByteBuffer.wrap(Files.readAllBytes(archivo)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(RegistroPartidas.MAGIA, datos.getInt(0));
+        List<ByteBuffer> registros = new ArrayList<>();
+        int posicion = RegistroPartidas.CABECERA_ARCHIVO;
+        while (posicion < datos.limit()) {
+            int longitud = datos.getInt(posicion);
+            if (longitud == 0) break;
+            if (longitud > 0) {
+                registros.add(datos.slice(posicion, longitud).order(ByteOrder.LITTLE_ENDIAN));
+            }
+            assertEquals(posicion / SEGMENTO, (posicion + Math.abs(longitud) - 1) / SEGMENTO,
+                    "A record crosses a segment boundary");
+            posicion += RegistroPartidas.alinear(Math.abs(longitud));
+        }
+        return registros;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.fpoe_50zo.model.simulation;
+
+import com.example.fpoe_50zo.model.deck.MazoCircular;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimuladorTest {
+
+    @Test
+    void testSimulacionJuegaTodasLasPartidas() {
+        Simulador simulador = new Simulador(3);
+        EstadisticasSimulacion resultado = simulador.simular(2000);
+
+        assertEquals(2000, resultado.getPartidas());
+        assertTrue(resultado.getTurnos() > 0);
+
+        long victorias = 0;
+        for (int i = 0; i < resultado.getNumAsientos(); i++) {
+            victorias += resultado.getVictorias(i);
+        }
+        // Every finished game has exactly one winner
+        assertEquals(resultado.getPartidas() - resultado.getPartidasTruncadas(), victorias);
+        // In a 3-player game, 2 players are eliminated
+        assertEquals(2 * victorias, resultado.getEliminaciones());
+    }
+
+    @Test
+    void testMesasGrandesJueganConVariasBarajas() {
+        Simulador simulador = new Simulador(20, 1L);
+        EstadisticasSimulacion resultado = simulador.simular(8);
+
+        assertEquals(8, resultado.getPartidas());
+        assertEquals(0, resultado.getPartidasTruncadas());
+        assertEquals(19 * 8, resultado.getEliminaciones());
+        assertThrows(IllegalArgumentException.class, () -> simulador.setManosCompactas(true));
+    }
+
+    @Test
+    void testSimuladorRechazaMenosDeDosMaquinas() {
+        assertThrows(IllegalArgumentException.class, () -> new Simulador(1));
+    }
+
+    @Test
+    void testMismaSemillaBaseReproduceLosResultados() {
+        EstadisticasSimulacion primera = new Simulador(3, 1234L).simular(1500);
+        EstadisticasSimulacion segunda = new Simulador(3, 1234L).simular(1500);
+
+        assertEquals(primera.getTurnos(), segunda.getTurnos());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(primera.getVictorias(i), segunda.getVictorias(i));
+            assertEquals(primera.getEliminaciones(i), segunda.getEliminaciones(i));
+        }
+    }
+
+    @Test
+    void testMazoCircularEsIntercambiableConMazo() {
+        EstadisticasSimulacion conLista = new Simulador(2, 99L).simular(1000);
+
+        Simulador circular = new Simulador(2, 99L);
+        circular.setFabricaMazo(MazoCircular::new);
+        EstadisticasSimulacion conAnillo = circular.simular(1000);
+
+        // Same seeds shuffle identically, so the games are identical
+        assertEquals(conLista.getTurnos(), conAnillo.getTurnos());
+        assertEquals(conLista.getVictorias(0), conAnillo.getVictorias(0));
+    }
+
+    @Test
+    void testSimulacionConManosCompactas() {
+        Simulador simulador = new Simulador(3, 5L);
+        simulador.setManosCompactas(true);
+        EstadisticasSimulacion resultado = simulador.simular(1000);
+
+        assertEquals(1000, resultado.getPartidas());
+        assertEquals(2 * (1000 - resultado.getPartidasTruncadas()), resultado.getEliminaciones());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.fpoe_50zo.model.simulation;
+
+import com.example.fpoe_50zo.model.ai.EstrategiaMCTS;
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.player.EstrategiaVoraz;
+import com.example.fpoe_50zo.model.player.IEstrategia;
+import com.example.fpoe_50zo.model.player.IJugador;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TorneoTest {
+
+    /**
+     * Plays the legal card that lowers the table the most (an Ace counts 1).
+     */
+    private static final class EstrategiaPrudente implements IEstrategia {
+        @Override
+        public Jugada decidir(IJugador jugador, IJuego juego) {
+            Carta mejor = null;
+            for (Carta carta : jugador.getMano()) {
+                if (juego.getSumaMesa() + carta.getValorJuego() <= 50
+                        && (mejor == null || carta.getValorJuego() < mejor.getValorJuego())) {
+                    mejor = carta;
+                }
+            }
+            return mejor == null ? null : Jugada.de(mejor, 1);
+        }
+    }
+
+    /**
+     * Plays the legal card that raises the table the most (an Ace counts 10 when it fits).
+     */
+    private static final class EstrategiaTemeraria implements IEstrategia {
+        @Override
+        public Jugada decidir(IJugador jugador, IJuego juego) {
+            int suma = juego.getSumaMesa();
+            Jugada mejor = null;
+            for (Carta carta : jugador.getMano()) {
+                Jugada jugada = Jugada.de(carta, suma + 10 <= 50 ? 10 : 1);
+                if (suma + jugada.getValor() <= 50 && (mejor == null || jugada.getValor() > mejor.getValor())) {
+                    mejor = jugada;
+                }
+            }
+            return mejor;
+        }
+    }
+
+    @Test
+    void testIntervaloWilson() {
+        double[] mitad = EstadisticasTorneo.intervaloWilson(50, 100, EstadisticasTorneo.Z_95);
+        assertEquals(0.4038, mitad[0], 1e-4);
+        assertEquals(0.5962, mitad[1], 1e-4);
+
+        // Stays inside [0, 1] at the extremes
+        double[] nunca = EstadisticasTorneo.intervaloWilson(0, 10, EstadisticasTorneo.Z_95);
+        assertEquals(0, nunca[0]);
+        assertEquals(0.2775, nunca[1], 1e-4);
+        assertArrayEquals(new double[]{0, 1}, EstadisticasTorneo.intervaloWilson(0, 0, EstadisticasTorneo.Z_95));
+    }
+
+    @Test
+    void testTodosContraTodosEsReproducible() {
+        EstadisticasTorneo r1 = torneoDeterminista(new ForkJoinPool(4)).jugar(40);
+        EstadisticasTorneo r2 = torneoDeterminista(new ForkJoinPool(1)).jugar(40);
+
+        assertEquals(3, r1.getNumEstrategias());
+        assertEquals(3 * 40, r1.getPartidas());
+        for (int a = 0; a < 3; a++) {
+            assertEquals(80, r1.getPartidas(a));
+            for (int b = 0; b < 3; b++) {
+                if (a == b) continue;
+                assertEquals(40, r1.getPartidas(a, b));
+                // Same deals, whatever the scheduling
+                assertEquals(r2.getVictorias(a, b), r1.getVictorias(a, b));
+            }
+            double[] intervalo = r1.getIntervaloVictorias(a);
+            assertTrue(intervalo[0] <= r1.getTasaVictorias(a) && r1.getTasaVictorias(a) <= intervalo[1]);
+            assertTrue(r1.getPartidasPorSegundo(a) > 0);
+        }
+        long victorias = 0;
+        for (int a = 0; a < 3; a++) {
+            victorias += r1.getVictorias(a);
+        }
+        assertEquals(r1.getPartidas(), victorias + r1.getPartidasTruncadas());
+        assertTrue(r1.toString().contains("Prudente"));
+    }
+
+    @Test
+    void testConBusqueda() {
+        EstrategiaMCTS mcts = new EstrategiaMCTS(10_000);
+        mcts.setIteracionesMaximas(20);
+        Torneo torneo = new Torneo(3L);
+        torneo.registrar(new EstrategiaVoraz());
+        torneo.registrar(mcts);
+
+        EstadisticasTorneo resultado = torneo.jugar(10);
+        assertEquals(10, resultado.getPartidas());
+        assertEquals(10, resultado.getVictorias(0) + resultado.getVictorias(1) + resultado.getPartidasTruncadas());
+    }
+
+    @Test
+    void testRechazaConfiguracionesInvalidas() {
+        Torneo torneo = new Torneo(1L);
+        torneo.registrar(new EstrategiaVoraz());
+        assertThrows(IllegalStateException.class, () -> torneo.jugar(10));
+        assertThrows(IllegalArgumentException.class, () -> torneo.registrar(new EstrategiaVoraz()));
+        torneo.registrar(new EstrategiaPrudente());
+        assertThrows(IllegalArgumentException.class, () -> torneo.jugar(7));
+    }
+
+    private static Torneo torneoDeterminista(ForkJoinPool pool) {
+        Torneo torneo = new Torneo(42L, pool);
+        torneo.registrar(new EstrategiaVoraz());
+        torneo.registrar(new EstrategiaPrudente());
+        torneo.registrar(new EstrategiaTemeraria());
+        return torneo;
+    }
+}
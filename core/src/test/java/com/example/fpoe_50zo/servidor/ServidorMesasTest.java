@@ -0,0 +1,95 @@
+package com.example.fpoe_50zo.servidor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServidorMesasTest {
+
+    @Test
+    void testMuchasMesasConcurrentes() throws Exception {
+        int clientes = 50;
+        int mesasPorCliente = 20;
+        LongAdder partidas = new LongAdder();
+        LongAdder jugadas = new LongAdder();
+
+        try (ServidorMesas servidor = ServidorMesas.iniciar(0, clientes * mesasPorCliente);
+             ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int c = 0; c < clientes; c++) {
+                long semilla = (long) c * mesasPorCliente;
+                tareas.add(hilos.submit(() -> {
+                    ClienteMesas.jugarMesas(servidor.getPuerto(), mesasPorCliente, 3, semilla, partidas, jugadas);
+                    return null;
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+
+            assertEquals(clientes * mesasPorCliente, partidas.sum());
+            assertTrue(jugadas.sum() >= partidas.sum());
+            // Every client has left, taking its tables with it (once the server notices)
+            long limite = System.nanoTime() + 5_000_000_000L;
+            while (servidor.getNumMesas() > 0 && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, servidor.getNumMesas());
+        }
+    }
+
+    @Test
+    void testProtocolo() throws IOException {
+        try (ServidorMesas servidor = ServidorMesas.iniciar(0, 2);
+             ClienteMesas cliente = new ClienteMesas(servidor.getPuerto());
+             ClienteMesas otro = new ClienteMesas(servidor.getPuerto())) {
+            String estado = cliente.enviar("CREAR 2 42");
+            assertTrue(estado.startsWith("OK mesa="), estado);
+            String mesa = ClienteMesas.campo(estado, "mesa");
+            assertEquals("0", ClienteMesas.campo(estado, "turno"));
+            assertEquals("-", ClienteMesas.campo(estado, "ganador"));
+            assertEquals(4, ClienteMesas.campo(estado, "mano").split(",").length);
+
+            // Same seed, same deal; any connection can look at any table
+            assertEquals(ClienteMesas.campo(estado, "mano"),
+                    ClienteMesas.campo(otro.enviar("CREAR 2 42"), "mano"));
+            assertEquals(estado, otro.enviar("ESTADO " + mesa));
+            assertEquals("ERR server full", otro.enviar("CREAR 1"));
+
+            // A card the player does not hold is rejected and changes nothing
+            int ajena = 0;
+            while (("," + ClienteMesas.campo(estado, "mano") + ",").contains("," + ajena + ",")) {
+                ajena++;
+            }
+            assertEquals("ERR CARTA_NO_EN_MANO", cliente.enviar("JUGAR " + mesa + " " + ajena));
+            assertEquals(estado, cliente.enviar("ESTADO " + mesa));
+
+            // A legal move lets both CPUs answer before it is the player's turn again
+            String despues = cliente.enviar("JUGAR " + mesa + " " + ClienteMesas.primeraJugadaLegal(estado));
+            assertTrue(despues.startsWith("OK"), despues);
+            assertTrue(Long.parseLong(ClienteMesas.campo(despues, "version"))
+                    > Long.parseLong(ClienteMesas.campo(estado, "version")));
+
+            assertEquals("ERR a table has 1 to 3 CPUs", cliente.enviar("CREAR 7"));
+            assertEquals("ERR no such table", cliente.enviar("ESTADO 999"));
+            assertTrue(cliente.enviar("JUGAR " + mesa + " 200").startsWith("ERR Invalid move code"));
+            assertTrue(cliente.enviar("ESTADO x").startsWith("ERR"));
+            assertEquals("ERR unknown command", cliente.enviar("BAILAR"));
+
+            assertEquals("OK", cliente.enviar("CERRAR " + mesa));
+            assertEquals("ERR no such table", cliente.enviar("ESTADO " + mesa));
+            assertEquals(1, servidor.getNumMesas());
+
+            assertEquals("ERR line too long", cliente.enviar("ESTADO " + "9".repeat(ServidorMesas.MAX_LINEA)));
+            assertThrows(IOException.class, () -> cliente.enviar("ESTADO 1"));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.fpoe_50zo;
 
+import com.example.fpoe_50zo.view.CacheImagenes;
 import com.example.fpoe_50zo.view.ViewSwitcher;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -14,6 +15,8 @@ import java.io.IOException;
  */
 public class Main extends Application {
 
+    private ViewSwitcher viewSwitcher;
+
     /**
      * The main entry point for all JavaFX applications.
      *
@@ -23,11 +26,24 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage stage) throws IOException {
-        ViewSwitcher viewSwitcher = new ViewSwitcher(stage);
+        // Decode every card image in the background while the start screen is shown
+        CacheImagenes.getInstancia().precargar();
+
+        viewSwitcher = new ViewSwitcher(stage);
 
         viewSwitcher.showStartScreen();
     }
 
+    /**
+     * Called when the application exits: stops any running game cleanly.
+     */
+    @Override
+    public void stop() {
+        if (viewSwitcher != null) {
+            viewSwitcher.cerrar();
+        }
+    }
+
     /**
      * Main method to launch the application.
      * @param args command line arguments.
@@ -0,0 +1,489 @@
+package com.example.fpoe_50zo.controller;
+
+import com.example.fpoe_50zo.model.ai.EspeculadorJugadas;
+import com.example.fpoe_50zo.model.ai.JugadorMCTS;
+import com.example.fpoe_50zo.model.card.Carta;
+import com.example.fpoe_50zo.model.game.IJuego;
+import com.example.fpoe_50zo.model.game.IObservadorJuego;
+import com.example.fpoe_50zo.model.game.Juego;
+import com.example.fpoe_50zo.model.game.Jugada;
+import com.example.fpoe_50zo.model.game.ResultadoJugada;
+import com.example.fpoe_50zo.model.player.IJugador;
+import com.example.fpoe_50zo.model.player.Jugador;
+import com.example.fpoe_50zo.model.player.JugadorMaquina;
+import com.example.fpoe_50zo.model.exceptions.JugadaInvalidaException;
+import com.example.fpoe_50zo.view.CacheImagenes;
+import com.example.fpoe_50zo.view.VistaMano;
+import com.example.fpoe_50zo.view.VistaManoRival;
+
+// JavaFX (UI, Events, Animations)
+import javafx.animation.PathTransition;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.geometry.Bounds;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ChoiceDialog;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.util.Duration;
+
+// Utilies de Java
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+/**
+ * Controller for the GameView.fxml.
+ * Manages all user interaction, updates the UI, and connects the
+ * View (FXML) to the Model (Juego).
+ */
+public class GameController {
+
+    // --- FXML Components (Linked from Scene Builder) ---
+    @FXML private BorderPane rootPane;
+    @FXML private Label sumaLabel;
+    @FXML private ImageView ultimaCartaView;
+    @FXML private Label mensajeLabel;
+    @FXML private HBox manoJugadorBox;
+
+    // (Optional: FXML IDs for opponent VBoxes to show/hide them)
+    @FXML private VBox cpu1Box;
+    @FXML private HBox cpu1HandBox;
+    @FXML private Label cpu1NameLabel;
+
+    @FXML private VBox cpu2Box;
+    @FXML private HBox cpu2HandBox;
+    @FXML private Label cpu2NameLabel;
+
+    @FXML private VBox cpu3Box;
+    @FXML private HBox cpu3HandBox;
+    @FXML private Label cpu3NameLabel;
+
+    // --- Game Logic (Model) ---
+    private IJuego juego;
+    private boolean esTurnoHumano = true; // Lock to prevent clicks when it's not player's turn
+
+    // Default minimum length of an AI turn, so the human can follow the game
+    private static final Duration DEMORA_TURNO_MAQUINA = Duration.millis(1500);
+    // Thinking time of the AI, which always fits inside its turn
+    private static final long PRESUPUESTO_MAQUINA_MS = 1000;
+
+    // --- AI turns ---
+    // Shared by every AI turn of this view; shut down by cerrar()
+    private final ExecutorService ejecutorMaquinas = Executors.newVirtualThreadPerTaskExecutor();
+    // Thinks ahead of the AIs while the human's card is still flying to the table
+    private final EspeculadorJugadas especulador = new EspeculadorJugadas(ejecutorMaquinas);
+    private Duration demoraTurnoMaquina = DEMORA_TURNO_MAQUINA;
+    private PauseTransition pausaTurnoMaquina;
+    private boolean cerrado;
+
+    // Shared, pre-scaled card images (decoded once at startup)
+    private final CacheImagenes imagenes = CacheImagenes.getInstancia();
+
+    // --- Incremental views (nodes are reused between turns) ---
+    private VistaMano vistaMano;
+    private final VBox[] cajasRivales = new VBox[3];
+    private final Label[] nombresRivales = new Label[3];
+    private final VistaManoRival[] vistasRivales = new VistaManoRival[3];
+
+    // Players shown in each part of the table, fixed for the whole game
+    private IJugador humano;
+    private final IJugador[] rivales = new IJugador[3];
+
+    /**
+     * Called by JavaFX *after* the FXML file is loaded.
+     * This is the entry point to set up the game.
+     */
+    @FXML
+    public void initialize() {
+        this.juego = new Juego();
+
+        // The table and the elimination messages follow the model's events
+        juego.agregarObservador(new IObservadorJuego() {
+            @Override
+            public void alJugarCarta(IJugador jugador, Carta carta, int valorJugado, int sumaMesa) {
+                mostrarMesa(carta, sumaMesa);
+            }
+
+            @Override
+            public void alEliminarJugador(IJugador jugador) {
+                mensajeLabel.setText("¡" + jugador.getNombre() + " ha sido eliminado!");
+            }
+        });
+
+        this.vistaMano = new VistaMano(manoJugadorBox, () -> esTurnoHumano, this::onCartaClickeada);
+        VBox[] cajas = {cpu1Box, cpu2Box, cpu3Box};
+        HBox[] manos = {cpu1HandBox, cpu2HandBox, cpu3HandBox};
+        Label[] nombres = {cpu1NameLabel, cpu2NameLabel, cpu3NameLabel};
+        for (int i = 0; i < cajas.length; i++) {
+            cajasRivales[i] = cajas[i];
+            nombresRivales[i] = nombres[i];
+            vistasRivales[i] = manos[i] != null ? new VistaManoRival(manos[i]) : null;
+        }
+    }
+
+    /**
+     * This method will be called by the SetupScreenController.
+     * It receives the number of opponents and NOW starts the game.
+     *
+     * @param numOponentes The number of machines (1, 2, or 3)
+     */
+    public void prepararJuego(int numOponentes) {
+        // Esta es la lógica que ANTES estaba en initialize()
+        // El humano primero, luego las máquinas (que buscan su jugada con MCTS)
+        List<IJugador> participantes = new ArrayList<>();
+        participantes.add(new Jugador("Player 1", true));
+        for (int i = 1; i <= numOponentes; i++) {
+            participantes.add(new JugadorMCTS("CPU " + i, PRESUPUESTO_MAQUINA_MS));
+        }
+        juego.iniciarJuego(participantes);
+
+        // Each opponent keeps its box for the whole game, even after others are eliminated
+        this.humano = participantes.get(0);
+        for (int i = 0; i < rivales.length; i++) {
+            rivales[i] = i + 1 < participantes.size() ? participantes.get(i + 1) : null;
+            if (rivales[i] != null && nombresRivales[i] != null) {
+                nombresRivales[i].setText(rivales[i].getNombre());
+            }
+        }
+
+        mostrarMesa(juego.getUltimaCartaJugada(), juego.getSumaMesa());
+        actualizarVistaCompleta();
+        mensajeLabel.setText("¡Juego iniciado! Es tu turno.");
+    }
+
+    /**
+     * Shows the sum and the last card on the table.
+     * Called when the model reports a played card.
+     */
+    private void mostrarMesa(Carta ultima, int sumaMesa) {
+        sumaLabel.setText("Suma: " + sumaMesa);
+        if (ultima != null) {
+            ultimaCartaView.setImage(imagenes.getCara(ultima));
+        }
+    }
+
+    /**
+     * Central method to bring the hands up to date with the
+     * current state of the 'juego' (Model). The table itself is
+     * updated by the model's events (see {@link #mostrarMesa}).
+     * Only what changed is touched: the hands are diffed against
+     * what is already drawn and their nodes are reused.
+     */
+    private void actualizarVistaCompleta() {
+        // 1. Update Player's Hand (Human)
+        vistaMano.actualizar(humano.getMano());
+
+        // 2. Update Opponent's Hands (showing card backs); eliminated opponents are hidden
+        for (int i = 0; i < rivales.length; i++) {
+            if (cajasRivales[i] == null) continue;
+            boolean visible = rivales[i] != null && juego.estaEnJuego(rivales[i]);
+            cajasRivales[i].setVisible(visible);
+            if (visible && vistasRivales[i] != null) {
+                vistasRivales[i].actualizar(rivales[i].getCartasEnMano());
+            }
+        }
+    }
+
+    /**
+     * Event handler for when the human player clicks a card in their hand.
+    * This method triggers the card-playing animation and logic.
+     *
+    * @param event The MouseEvent generated by the click.
+    */
+    @FXML
+    private void onCartaClickeada(MouseEvent event) {
+        if (!esTurnoHumano) {
+            mensajeLabel.setText("Por favor, espera tu turno.");
+            return;
+        }
+
+        ImageView cartaView = (ImageView) event.getSource();
+        Carta cartaClickeada = VistaMano.cartaDe(cartaView);
+
+        if (cartaClickeada == null) return; // Safety check
+
+        // Disable hand to prevent double-clicks
+        esTurnoHumano = false;
+        manoJugadorBox.setDisable(true);
+
+        // While the card flies, the AIs can already think about their replies
+        // (an Ace's value is not known yet: that waits for the dialog)
+        if (!cartaClickeada.esAs()) {
+            especulador.especular(juego, Jugada.de(cartaClickeada, 0));
+        }
+
+        // Trigger the animation. The game logic runs *after* it finishes.
+        animarJugada(cartaView, () -> {
+            // This Runnable executes when the animation is complete
+            try {
+                if (cartaClickeada.esAs()) {
+                    // Ace requires a dialog, which has its own logic flow
+                    mostrarDialogoAs(cartaClickeada);
+                } else {
+                    // Play a regular card
+                    juego.jugarCarta(cartaClickeada);
+                    procesarSiguienteTurno();
+                }
+            } catch (JugadaInvalidaException e) {
+                // Handle illegal move (and put the card back in the hand)
+                mensajeLabel.setText("¡Jugada inválida! " + e.getMessage());
+                actualizarVistaCompleta();
+                // Re-enable hand since the turn wasn't valid
+                esTurnoHumano = true;
+                manoJugadorBox.setDisable(false);
+            }
+        });
+    }
+
+    /**
+     * Animates a card "flying" from the player's hand to the discard pile.
+     *
+     * @param cartaView The ImageView to animate.
+     * @param onAnimationFinished A Runnable to execute when the animation ends.
+     */
+    private void animarJugada(ImageView cartaView, Runnable onAnimationFinished) {
+
+        // Convert local coordinates to scene coordinates (while the card is still in the hand)
+        Bounds startBounds = cartaView.localToScene(cartaView.getBoundsInLocal());
+        Bounds endBounds = ultimaCartaView.localToScene(ultimaCartaView.getBoundsInLocal());
+
+        // 1. Move the card from the HBox to the rootPane
+        // This allows it to fly *over* other UI elements.
+        vistaMano.separar(cartaView);
+
+        rootPane.getChildren().add(cartaView);
+        cartaView.setTranslateX(0); // Reset hover animations
+        cartaView.setTranslateY(0);
+
+        // Place it at its starting position in the rootPane
+        cartaView.setLayoutX(startBounds.getMinX());
+        cartaView.setLayoutY(startBounds.getMinY());
+
+        // 2. Create the animation path
+        Path path = new Path();
+        path.getElements().add(new MoveTo(0, 0)); // Start at 0,0 (relative to the card)
+
+        // Calculate destination
+        double endX = endBounds.getMinX() - startBounds.getMinX() + (endBounds.getWidth() - startBounds.getWidth()) / 2;
+        double endY = endBounds.getMinY() - startBounds.getMinY() + (endBounds.getHeight() - startBounds.getHeight()) / 2;
+
+        path.getElements().add(new LineTo(endX, endY));
+
+        PathTransition transition = new PathTransition(Duration.millis(400), path, cartaView);
+        transition.setCycleCount(1);
+        transition.setOnFinished(event -> {
+            // 3. Clean up after animation
+            rootPane.getChildren().remove(cartaView); // Remove from rootPane
+            vistaMano.devolver(cartaView); // Back to the pool for later turns
+            onAnimationFinished.run(); // Execute game logic
+        });
+
+        transition.play();
+    }
+
+    /**
+     * Displays a dialog box for the player to choose the value of an Ace (1 or 10).
+     *
+     * @param as The Ace card that was played.
+     */
+    /**
+     * Shows a dialog for the player to choose the value of an Ace.
+     * @param as The Ace card that was played.
+     */
+    private void mostrarDialogoAs(Carta as) {
+        ChoiceDialog<Integer> dialog = new ChoiceDialog<>(1, 10);
+        dialog.setTitle("Elegir Valor del As");
+        dialog.setHeaderText("El As puede valer 1 o 10.");
+        dialog.setContentText("Elige un valor:");
+
+        Optional<Integer> resultado = dialog.showAndWait();
+        if (resultado.isPresent()) {
+            int valorElegido = resultado.get();
+            especulador.especular(juego, Jugada.de(as, valorElegido));
+            try {
+                juego.jugarCartaAs(as, valorElegido);
+                esTurnoHumano = false; // Turn is over
+                procesarSiguienteTurno();
+                return;
+            } catch (JugadaInvalidaException e) {
+                // This could happen if they choose 10 but sum is 45
+                mensajeLabel.setText("¡Jugada inválida! " + e.getMessage());
+            }
+        }
+        // If the move was invalid or the dialog was canceled,
+        // put the card back and let the player try again.
+        actualizarVistaCompleta();
+        esTurnoHumano = true;
+        manoJugadorBox.setDisable(false);
+    }
+
+    /**
+     * Manages the game flow after a player's move.
+     * It checks for eliminations, game over, and AI turns.
+     */
+    private void procesarSiguienteTurno() {
+        // 1. Refresh UI after player's move
+        actualizarVistaCompleta();
+
+        // 2. Check if player's move ended the game
+        if (verificarFinDeJuego()) return;
+
+        // 3. Pass turn to the next player who can play, eliminating those who cannot
+        // (The elimination message is shown by the model's event)
+        if (!juego.pasarTurno()) {
+            // An elimination ended the game
+            actualizarVistaCompleta();
+            verificarFinDeJuego();
+            return;
+        }
+
+        // 5. The current player *can* play. Is it human or AI?
+        if (juego.getJugadorActual().esHumano()) {
+            esTurnoHumano = true;
+            manoJugadorBox.setDisable(false);
+            mensajeLabel.setText("¡Tu turno!");
+            actualizarVistaCompleta();
+        } else {
+            // It's AI's turn (eliminated opponents are hidden first)
+            actualizarVistaCompleta();
+            mensajeLabel.setText("Turno de " + juego.getJugadorActual().getNombre() + "...");
+            ejecutarTurnoMaquina();
+        }
+    }
+
+    /**
+     * Runs the AI's decision on the shared AI executor to avoid freezing the UI,
+     * then applies it on the FX thread once the turn's pause is over.
+     * If the decision was already computed ahead for this exact position
+     * (see {@link EspeculadorJugadas}), that one is used instead.
+     * Fulfills the "al menos dos hilos" requirement (this is Thread 1).
+     */
+    private void ejecutarTurnoMaquina() {
+        IJugador jugadorActual = juego.getJugadorActual();
+
+        if (!(jugadorActual instanceof JugadorMaquina cpu)) {
+            // Si no es una JugadorMaquina (p.ej. es humano), hay un error de lógica.
+            System.err.println("Error: Se esperaba un JugadorMaquina pero no lo era.");
+            esTurnoHumano = true; // Devolver control
+            return;
+        }
+
+        if (cerrado) return;
+
+        // REQUIREMENT: THREAD 1 - AI "thinking", on the shared executor (a virtual thread per turn)
+        long inicio = System.nanoTime();
+        CompletableFuture<Jugada> decision = especulador.buscar(juego);
+        if (decision == null) {
+            decision = CompletableFuture.supplyAsync(() -> cpu.decidirJugada(juego), ejecutorMaquinas);
+        }
+        decision.whenComplete((jugada, error) -> Platform.runLater(() -> {
+            if (cerrado) return;
+            if (error != null) {
+                // This should not happen if AI logic is correct
+                System.err.println("Error en lógica de IA: " + error.getMessage());
+            }
+
+            // Only pause for what is left of the turn after thinking; no thread waits
+            double restanteMs = demoraTurnoMaquina.toMillis() - (System.nanoTime() - inicio) / 1_000_000.0;
+            if (restanteMs <= 0) {
+                aplicarJugadaMaquina(cpu, jugada);
+            } else {
+                pausaTurnoMaquina = new PauseTransition(Duration.millis(restanteMs));
+                pausaTurnoMaquina.setOnFinished(event -> aplicarJugadaMaquina(cpu, jugada));
+                pausaTurnoMaquina.play();
+            }
+        }));
+    }
+
+    /**
+     * Applies the move chosen by an AI and passes the turn. Runs on the FX thread.
+     */
+    private void aplicarJugadaMaquina(JugadorMaquina cpu, Jugada jugada) {
+        pausaTurnoMaquina = null;
+        if (jugada != null) {
+            // AI has a valid move to make
+            ResultadoJugada resultado = jugada.aplicar(juego);
+            if (!resultado.esValida()) {
+                // This should not happen if AI logic is correct
+                System.err.println("Error en lógica de IA: " + resultado.getMensaje());
+            } else if (jugada.getCarta().esAs()) {
+                mensajeLabel.setText(cpu.getNombre() + " jugó un As como " + jugada.getValor());
+            } else {
+                mensajeLabel.setText(cpu.getNombre() + " jugó un " + jugada.getCarta().getValor().getStringRep());
+            }
+        } else {
+            // AI has no card to play (this should be impossible if
+            // revisarEstadoJugadorActual() worked, but good to check)
+        }
+
+        // After AI move, pass the turn
+        procesarSiguienteTurno();
+    }
+
+    /**
+     * Sets how long each AI turn lasts at least, so the human can follow the game.
+     * The pause is a JavaFX timer: no thread is blocked while it runs.
+     *
+     * @param demora The minimum length of an AI turn (zero for no pause).
+     */
+    public void setDemoraTurnoMaquina(Duration demora) {
+        this.demoraTurnoMaquina = Objects.requireNonNull(demora);
+    }
+
+    /**
+     * Turbo mode: the AIs move as soon as they have decided, with no pause.
+     *
+     * @param turbo true to remove the pause between AI turns.
+     */
+    public void setModoTurbo(boolean turbo) {
+        setDemoraTurnoMaquina(turbo ? Duration.ZERO : DEMORA_TURNO_MAQUINA);
+    }
+
+    /**
+     * Stops the game view: cancels any pending AI turn and shuts down the AI executor.
+     * Called when the view is closed or replaced.
+     */
+    public void cerrar() {
+        cerrado = true;
+        especulador.descartar();
+        if (pausaTurnoMaquina != null) {
+            pausaTurnoMaquina.stop();
+        }
+        ejecutorMaquinas.shutdownNow();
+    }
+
+    /**
+     * Checks if the game has ended. If so, shows a winner message.
+     * @return true if the game ended, false otherwise.
+     */
+    private boolean verificarFinDeJuego() {
+        if (juego.isJuegoTerminado()) {
+            IJugador ganador = juego.getGanador();
+            mensajeLabel.setText("¡Juego terminado! El ganador es " + ganador.getNombre());
+
+            // Show a final alert
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("¡Fin del Juego!");
+            alert.setHeaderText("El ganador es " + ganador.getNombre());
+            alert.showAndWait();
+
+            // Disable interactions
+            esTurnoHumano = false;
+            manoJugadorBox.setDisable(true);
+            return true;
+        }
+        return false;
+    }
+}
\ No newline at end of file
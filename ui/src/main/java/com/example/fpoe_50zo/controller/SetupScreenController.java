@@ -8,6 +8,7 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
 import javafx.stage.Stage;
@@ -19,6 +20,9 @@ public class SetupScreenController {
     @FXML
     private ChoiceBox<Integer> choiceBoxOponentes;
 
+    @FXML
+    private CheckBox turboCheckBox; // Las máquinas juegan sin pausa
+
     @FXML
     private Label errorLabel; // Un label para mostrar errores
 
@@ -48,6 +52,7 @@ public class SetupScreenController {
 
         // ¡MIRA QUÉ LIMPIO!
         // Solo llama al gestor y le pasa el dato.
-        switcher.showGameScreen(numOponentes);
+        boolean turbo = turboCheckBox != null && turboCheckBox.isSelected();
+        switcher.showGameScreen(numOponentes, turbo);
     }
 }
@@ -0,0 +1,100 @@
+package com.example.fpoe_50zo.view;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import javafx.scene.image.Image;
+
+import java.net.URL;
+
+/**
+ * Caché de las imágenes de las cartas.
+ * Cada cara y el reverso se decodifican una sola vez, ya escalados al tamaño
+ * exacto en que se muestran (150x100 en la mano y la mesa, 100x70 para los
+ * rivales), y todas las vistas comparten esas instancias.
+ *
+ * {@link #precargar()} pide todas las imágenes con carga en segundo plano:
+ * JavaFX las decodifica en su propio hilo y el hilo de la interfaz nunca
+ * se bloquea esperando un PNG. Debe usarse desde el hilo de JavaFX.
+ */
+public final class CacheImagenes {
+
+    // Tamaños en que la vista muestra las cartas
+    public static final double ALTO_MANO = 150.0;
+    public static final double ANCHO_MANO = 100.0;
+    public static final double ALTO_RIVAL = 100.0;
+    public static final double ANCHO_RIVAL = 70.0;
+
+    private static final String RUTA_IMAGENES = "/com/example/fpoe_50zo/images/";
+    private static final String REVERSO = "card_back.png";
+
+    private static final CacheImagenes INSTANCIA = new CacheImagenes();
+
+    // Caras al tamaño de la mano, indexadas por el código de la carta
+    private final Image[] caras = new Image[Carta.TOTAL_CARTAS];
+    private Image reverso;
+    private Image reversoRival;
+
+    private CacheImagenes() {
+    }
+
+    /**
+     * @return La caché compartida por toda la aplicación.
+     */
+    public static CacheImagenes getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Pide todas las imágenes para que se decodifiquen en segundo plano.
+     * Se llama una vez al iniciar la aplicación; llamarla otra vez no hace nada.
+     */
+    public void precargar() {
+        for (int codigo = 0; codigo < Carta.TOTAL_CARTAS; codigo++) {
+            getCara(Carta.desdeCodigo(codigo));
+        }
+        getReverso();
+        getReversoRival();
+    }
+
+    /**
+     * @param carta La carta a mostrar.
+     * @return Su imagen al tamaño de la mano (también se usa en la mesa).
+     */
+    public Image getCara(Carta carta) {
+        int codigo = carta.getCodigo();
+        if (caras[codigo] == null) {
+            caras[codigo] = cargar(carta.getNombreArchivoImagen(), ANCHO_MANO, ALTO_MANO);
+        }
+        return caras[codigo];
+    }
+
+    /**
+     * @return El reverso al tamaño de la mano.
+     */
+    public Image getReverso() {
+        if (reverso == null) {
+            reverso = cargar(REVERSO, ANCHO_MANO, ALTO_MANO);
+        }
+        return reverso;
+    }
+
+    /**
+     * @return El reverso al tamaño de las manos de los rivales.
+     */
+    public Image getReversoRival() {
+        if (reversoRival == null) {
+            reversoRival = cargar(REVERSO, ANCHO_RIVAL, ALTO_RIVAL);
+        }
+        return reversoRival;
+    }
+
+    private Image cargar(String nombreArchivo, double ancho, double alto) {
+        String path = RUTA_IMAGENES + nombreArchivo;
+        URL url = getClass().getResource(path);
+        if (url == null) {
+            System.err.println("Error: No se pudo encontrar la imagen: " + path);
+            return null;
+        }
+        // preserveRatio y smooth como en las ImageView; backgroundLoading = true
+        return new Image(url.toExternalForm(), ancho, alto, true, true, true);
+    }
+}
@@ -18,6 +18,9 @@ public class ViewSwitcher {
 
     private Stage stage;
 
+    // Controlador de la partida en pantalla, para cerrarlo al salir de ella
+    private GameController juegoActivo;
+
     public ViewSwitcher(Stage stage) {
         this.stage = stage;
     }
@@ -26,6 +29,7 @@ public class ViewSwitcher {
      * Carga y muestra la pantalla de inicio.
      */
     public void showStartScreen() {
+        cerrarJuegoActivo();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/fpoe_50zo/StartScreen.fxml"));
             Parent root = loader.load();
@@ -46,6 +50,7 @@ public class ViewSwitcher {
      * Carga y muestra la pantalla de configuración.
      */
     public void showSetupScreen() {
+        cerrarJuegoActivo();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/fpoe_50zo/SetupScreen.fxml"));
             Parent root = loader.load();
@@ -66,6 +71,16 @@ public class ViewSwitcher {
      * @param numOponentes El dato que pasamos de la pantalla de setup.
      */
     public void showGameScreen(int numOponentes) {
+        showGameScreen(numOponentes, false);
+    }
+
+    /**
+     * Carga y muestra la pantalla principal del juego.
+     * @param numOponentes El dato que pasamos de la pantalla de setup.
+     * @param modoTurbo true para que las máquinas jueguen sin pausa.
+     */
+    public void showGameScreen(int numOponentes, boolean modoTurbo) {
+        cerrarJuegoActivo();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/fpoe_50zo/GameView.fxml"));
             Parent root = loader.load();
@@ -74,7 +89,9 @@ public class ViewSwitcher {
             GameController controller = loader.getController();
 
             // ¡Llamamos al método 'prepararJuego' que ya teníamos!
+            controller.setModoTurbo(modoTurbo);
             controller.prepararJuego(numOponentes);
+            juegoActivo = controller;
 
             stage.setScene(new Scene(root));
             stage.setTitle("Cincuentazo - ¡A Jugar!");
@@ -82,4 +99,19 @@ public class ViewSwitcher {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Cierra la partida en pantalla, si la hay (detiene los turnos de las máquinas).
+     * Se llama al cambiar de pantalla y al cerrar la aplicación.
+     */
+    public void cerrar() {
+        cerrarJuegoActivo();
+    }
+
+    private void cerrarJuegoActivo() {
+        if (juegoActivo != null) {
+            juegoActivo.cerrar();
+            juegoActivo = null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.fpoe_50zo.view;
+
+import com.example.fpoe_50zo.model.card.Carta;
+import javafx.animation.TranslateTransition;
+import javafx.event.EventHandler;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Dibuja la mano del jugador humano de forma incremental.
+ *
+ * En vez de vaciar el HBox y crear todas las ImageView en cada turno,
+ * compara la mano del modelo con lo que ya está dibujado: sólo quita los
+ * nodos de las cartas que salieron y agrega nodos para las que entraron.
+ * Los nodos se reciclan en un pool, cada uno con sus transiciones de
+ * "hover" creadas una sola vez, y todos comparten la misma sombra.
+ * Cada nodo guarda su Carta en {@code userData}.
+ */
+public class VistaMano {
+
+    // Sombra compartida por todas las cartas (un Effect no es un nodo, se puede compartir)
+    private static final DropShadow SOMBRA = new DropShadow(10, Color.BLACK);
+
+    private final HBox contenedor;
+    private final BooleanSupplier puedeLevantar;
+    private final EventHandler<MouseEvent> alHacerClic;
+
+    // Nodos dibujados, en el orden de la mano
+    private final List<ImageView> nodos = new ArrayList<>();
+    private final Deque<ImageView> libres = new ArrayDeque<>();
+    private final CacheImagenes imagenes = CacheImagenes.getInstancia();
+
+    /**
+     * @param contenedor El HBox donde se dibuja la mano.
+     * @param puedeLevantar Indica si las cartas deben levantarse al pasar el mouse.
+     * @param alHacerClic Manejador del clic sobre una carta.
+     */
+    public VistaMano(HBox contenedor, BooleanSupplier puedeLevantar, EventHandler<MouseEvent> alHacerClic) {
+        this.contenedor = Objects.requireNonNull(contenedor);
+        this.puedeLevantar = Objects.requireNonNull(puedeLevantar);
+        this.alHacerClic = Objects.requireNonNull(alHacerClic);
+    }
+
+    /**
+     * Pone la vista al día con la mano del modelo, tocando sólo los nodos que cambiaron.
+     *
+     * @param mano La mano actual del jugador.
+     */
+    public void actualizar(List<Carta> mano) {
+        // 1. Quitar los nodos de las cartas que ya no están en la mano
+        boolean[] usadas = new boolean[mano.size()];
+        for (int i = 0; i < nodos.size(); ) {
+            int posicion = buscar(mano, usadas, cartaDe(nodos.get(i)));
+            if (posicion < 0) {
+                liberar(nodos.remove(i));
+            } else {
+                usadas[posicion] = true;
+                i++;
+            }
+        }
+
+        // 2. Seguir el orden de la mano: reasignar sólo si difiere, agregar las nuevas al final
+        for (int i = 0; i < mano.size(); i++) {
+            Carta carta = mano.get(i);
+            if (i < nodos.size()) {
+                if (cartaDe(nodos.get(i)) != carta) {
+                    asignar(nodos.get(i), carta);
+                }
+            } else {
+                ImageView nodo = obtener();
+                asignar(nodo, carta);
+                nodos.add(nodo);
+                contenedor.getChildren().add(nodo);
+            }
+        }
+    }
+
+    /**
+     * Saca un nodo de la mano (por ejemplo, para animarlo hacia la mesa).
+     * Cuando ya no se use, debe volver al pool con {@link #devolver(ImageView)}.
+     *
+     * @param nodo Un nodo de esta mano.
+     */
+    public void separar(ImageView nodo) {
+        if (nodos.remove(nodo)) {
+            contenedor.getChildren().remove(nodo);
+        }
+    }
+
+    /**
+     * Devuelve al pool un nodo separado con {@link #separar(ImageView)}.
+     *
+     * @param nodo El nodo que ya no se usa.
+     */
+    public void devolver(ImageView nodo) {
+        liberar(nodo);
+    }
+
+    /**
+     * @param nodo Un nodo creado por esta vista.
+     * @return La carta que muestra.
+     */
+    public static Carta cartaDe(ImageView nodo) {
+        return (Carta) nodo.getUserData();
+    }
+
+    private static int buscar(List<Carta> mano, boolean[] usadas, Carta carta) {
+        for (int j = 0; j < mano.size(); j++) {
+            if (!usadas[j] && mano.get(j).equals(carta)) return j;
+        }
+        return -1;
+    }
+
+    private void asignar(ImageView nodo, Carta carta) {
+        nodo.setUserData(carta);
+        nodo.setImage(imagenes.getCara(carta));
+    }
+
+    private ImageView obtener() {
+        ImageView nodo = libres.poll();
+        return nodo != null ? nodo : crearNodo();
+    }
+
+    private void liberar(ImageView nodo) {
+        contenedor.getChildren().remove(nodo);
+        nodo.setUserData(null);
+        nodo.setTranslateX(0);
+        nodo.setTranslateY(0);
+        nodo.setLayoutX(0);
+        nodo.setLayoutY(0);
+        libres.push(nodo);
+    }
+
+    /**
+     * Crea un nodo nuevo con su efecto, sus transiciones y sus manejadores.
+     * Sólo ocurre cuando el pool está vacío.
+     */
+    private ImageView crearNodo() {
+        ImageView nodo = new ImageView();
+        nodo.setFitHeight(CacheImagenes.ALTO_MANO);
+        nodo.setFitWidth(CacheImagenes.ANCHO_MANO);
+        nodo.setPreserveRatio(true);
+        nodo.setEffect(SOMBRA);
+
+        // Levantar la carta al pasar el mouse
+        TranslateTransition subir = new TranslateTransition(Duration.millis(150), nodo);
+        subir.setToY(-30);
+        TranslateTransition bajar = new TranslateTransition(Duration.millis(150), nodo);
+        bajar.setToY(0);
+
+        nodo.setOnMouseEntered(event -> {
+            if (puedeLevantar.getAsBoolean()) {
+                bajar.stop();
+                subir.play();
+            }
+        });
+        nodo.setOnMouseExited(event -> {
+            subir.stop();
+            bajar.play();
+        });
+        nodo.setOnMouseClicked(alHacerClic);
+        return nodo;
+    }
+}
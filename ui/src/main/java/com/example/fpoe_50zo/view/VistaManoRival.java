@@ -0,0 +1,50 @@
+package com.example.fpoe_50zo.view;
+
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Dibuja la mano de un rival como una fila de reversos.
+ * Como sólo importa cuántas cartas tiene, cada actualización agrega o quita
+ * únicamente la diferencia, reciclando los nodos en un pool.
+ */
+public class VistaManoRival {
+
+    private final HBox contenedor;
+    private final Deque<ImageView> libres = new ArrayDeque<>();
+
+    /**
+     * @param contenedor El HBox donde se dibujan los reversos.
+     */
+    public VistaManoRival(HBox contenedor) {
+        this.contenedor = Objects.requireNonNull(contenedor);
+    }
+
+    /**
+     * @param numCartas La cantidad de cartas que tiene ahora el rival.
+     */
+    public void actualizar(int numCartas) {
+        List<Node> hijos = contenedor.getChildren();
+        while (hijos.size() > numCartas) {
+            libres.push((ImageView) hijos.remove(hijos.size() - 1));
+        }
+        while (hijos.size() < numCartas) {
+            ImageView reverso = libres.poll();
+            hijos.add(reverso != null ? reverso : crearReverso());
+        }
+    }
+
+    private static ImageView crearReverso() {
+        ImageView reverso = new ImageView(CacheImagenes.getInstancia().getReversoRival());
+        reverso.setFitHeight(CacheImagenes.ALTO_RIVAL); // Más pequeñas que las del jugador
+        reverso.setFitWidth(CacheImagenes.ANCHO_RIVAL);
+        reverso.setPreserveRatio(true);
+        return reverso;
+    }
+}
@@ -1,6 +1,7 @@
 module com.example.fpoe_50zo {
     requires javafx.controls;
     requires javafx.fxml;
+    requires com.example.fpoe_50zo.core;
 
 
     opens com.example.fpoe_50zo.controller to javafx.fxml;